@@ -0,0 +1,27 @@
+package com.app.common.event;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Wrapper for an event delivered to another service
+ * Delivery is at-least-once: consumers should treat a repeated eventId as a duplicate.
+ * Events of the same aggregate arrive in the order they were recorded.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventEnvelope<T> {
+
+    private String eventId;
+    private String eventType;
+    private String aggregateType;
+    private String aggregateId;
+    private LocalDateTime occurredAt;
+    private T payload;
+}
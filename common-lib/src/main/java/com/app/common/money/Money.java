@@ -0,0 +1,140 @@
+package com.app.common.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Immutable fixed-point monetary amount backed by a long count of paise (1/100 rupee)
+ *
+ * Arithmetic stays on primitives so hot paths such as daily interest accrual do not
+ * build BigDecimal chains. Convert with {@link #of(BigDecimal)} and {@link #toBigDecimal()}
+ * at the persistence and JSON edges; any rounding is HALF_UP to 2 decimal places.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0L);
+
+    private final long paise;
+
+    private Money(long paise) {
+        this.paise = paise;
+    }
+
+    /**
+     * Create from a paise amount
+     */
+    public static Money ofPaise(long paise) {
+        return paise == 0L ? ZERO : new Money(paise);
+    }
+
+    /**
+     * Create from a BigDecimal rupee amount, rounding HALF_UP to paise
+     * A null amount maps to {@link #ZERO}
+     */
+    @JsonCreator
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return ZERO;
+        }
+        return ofPaise(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Create from a whole rupee amount
+     */
+    public static Money ofRupees(long rupees) {
+        return ofPaise(Math.multiplyExact(rupees, 100L));
+    }
+
+    public long getPaise() {
+        return paise;
+    }
+
+    /**
+     * Convert to a BigDecimal rupee amount with scale 2
+     */
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(paise, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofPaise(Math.addExact(paise, other.paise));
+    }
+
+    public Money minus(Money other) {
+        return ofPaise(Math.subtractExact(paise, other.paise));
+    }
+
+    public Money times(long multiplier) {
+        return ofPaise(Math.multiplyExact(paise, multiplier));
+    }
+
+    public Money negate() {
+        return ofPaise(Math.negateExact(paise));
+    }
+
+    /**
+     * Apply a percentage rate once (e.g. TDS or penalty), rounding HALF_UP to paise
+     */
+    public Money percentage(Rate rate) {
+        return rate.applyTo(this);
+    }
+
+    public boolean isZero() {
+        return paise == 0L;
+    }
+
+    public boolean isPositive() {
+        return paise > 0L;
+    }
+
+    public boolean isNegative() {
+        return paise < 0L;
+    }
+
+    public Money max(Money other) {
+        return paise >= other.paise ? this : other;
+    }
+
+    public Money min(Money other) {
+        return paise <= other.paise ? this : other;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(paise, other.paise);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && paise == other.paise);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(paise);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * Divide with HALF_UP rounding (ties away from zero)
+     */
+    static long divideHalfUp(long numerator, long denominator) {
+        long quotient = numerator / denominator;
+        long remainder = Math.abs(numerator % denominator);
+        if (remainder >= Math.abs(denominator) - remainder) {
+            quotient += (numerator < 0) == (denominator < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+}
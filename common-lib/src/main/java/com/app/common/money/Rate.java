@@ -0,0 +1,145 @@
+package com.app.common.money;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Immutable fixed-point annual interest rate backed by a long count of
+ * basis-point micro-units (1 unit = 0.000001 bp, so 1% = 100,000,000 units)
+ *
+ * Interest is computed on primitives with a single HALF_UP rounding step to paise.
+ * Products that would overflow a long fall back to exact BigInteger arithmetic, so
+ * results are identical for every amount.
+ */
+public final class Rate implements Comparable<Rate> {
+
+    public static final long UNITS_PER_BASIS_POINT = 1_000_000L;
+
+    public static final long UNITS_PER_PERCENT = 100L * UNITS_PER_BASIS_POINT;
+
+    /** Days in the year used for simple daily interest (actual/365) */
+    public static final int DAYS_IN_YEAR = 365;
+
+    public static final Rate ZERO = new Rate(0L);
+
+    private static final int UNIT_SCALE = 8;
+
+    private static final long PERCENT_DENOMINATOR = 100L * UNITS_PER_PERCENT;
+
+    private static final long DAILY_DENOMINATOR = DAYS_IN_YEAR * PERCENT_DENOMINATOR;
+
+    private final long units;
+
+    private Rate(long units) {
+        this.units = units;
+    }
+
+    public static Rate ofUnits(long units) {
+        return units == 0L ? ZERO : new Rate(units);
+    }
+
+    public static Rate ofBasisPoints(long basisPoints) {
+        return ofUnits(Math.multiplyExact(basisPoints, UNITS_PER_BASIS_POINT));
+    }
+
+    /**
+     * Create from a BigDecimal percentage (e.g. 7.25 for 7.25% p.a.)
+     * A null rate maps to {@link #ZERO}
+     */
+    @JsonCreator
+    public static Rate ofPercent(BigDecimal percent) {
+        if (percent == null) {
+            return ZERO;
+        }
+        return ofUnits(percent.setScale(UNIT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    /**
+     * Convert to a BigDecimal percentage, stripped of trailing zeros beyond 2 decimals
+     */
+    @JsonValue
+    public BigDecimal toPercent() {
+        BigDecimal percent = BigDecimal.valueOf(units, UNIT_SCALE).stripTrailingZeros();
+        return percent.scale() < 2 ? percent.setScale(2) : percent;
+    }
+
+    public Rate plus(Rate other) {
+        return ofUnits(Math.addExact(units, other.units));
+    }
+
+    public Rate minus(Rate other) {
+        return ofUnits(Math.subtractExact(units, other.units));
+    }
+
+    public boolean isPositive() {
+        return units > 0L;
+    }
+
+    /**
+     * Simple interest for a number of days: principal x rate x days / 36500
+     */
+    public Money simpleInterest(Money principal, long days) {
+        return Money.ofPaise(mulDivHalfUp(principal.getPaise(), Math.multiplyExact(units, days), DAILY_DENOMINATOR));
+    }
+
+    /**
+     * Simple interest for a single day
+     */
+    public Money dailyInterest(Money principal) {
+        return simpleInterest(principal, 1L);
+    }
+
+    /**
+     * Apply this rate once to an amount: amount x rate / 100
+     */
+    public Money applyTo(Money amount) {
+        return Money.ofPaise(mulDivHalfUp(amount.getPaise(), units, PERCENT_DENOMINATOR));
+    }
+
+    @Override
+    public int compareTo(Rate other) {
+        return Long.compare(units, other.units);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Rate other && units == other.units);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(units);
+    }
+
+    @Override
+    public String toString() {
+        return toPercent().toPlainString() + "%";
+    }
+
+    /**
+     * a x b / d with HALF_UP rounding, exact even when a x b overflows a long
+     */
+    private static long mulDivHalfUp(long a, long b, long d) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if ((high == 0L && low >= 0L) || (high == -1L && low < 0L)) {
+            return Money.divideHalfUp(low, d);
+        }
+
+        BigInteger[] qr = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b))
+                .divideAndRemainder(BigInteger.valueOf(d));
+        BigInteger quotient = qr[0];
+        if (qr[1].abs().shiftLeft(1).compareTo(BigInteger.valueOf(d).abs()) >= 0) {
+            quotient = quotient.add(BigInteger.valueOf(qr[1].signum() * Long.signum(d)));
+        }
+        return quotient.longValueExact();
+    }
+}
@@ -0,0 +1,56 @@
+package com.app.common.money;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Conversion and HALF_UP rounding of paise amounts, including negative ties
+ */
+class MoneyTest {
+
+    @Test
+    void bigDecimalAmountsRoundHalfUpAwayFromZero() {
+        assertThat(Money.of(new BigDecimal("0.005")).getPaise()).isEqualTo(1L);
+        assertThat(Money.of(new BigDecimal("0.0049")).getPaise()).isZero();
+        assertThat(Money.of(new BigDecimal("-0.005")).getPaise()).isEqualTo(-1L);
+        assertThat(Money.of(new BigDecimal("-0.0049")).getPaise()).isZero();
+        assertThat(Money.of(new BigDecimal("-2.345")).getPaise()).isEqualTo(-235L);
+        assertThat(Money.of(null)).isSameAs(Money.ZERO);
+    }
+
+    @Test
+    void divisionTiesRoundAwayFromZeroForEverySignCombination() {
+        assertThat(Money.divideHalfUp(5, 10)).isEqualTo(1L);
+        assertThat(Money.divideHalfUp(-5, 10)).isEqualTo(-1L);
+        assertThat(Money.divideHalfUp(5, -10)).isEqualTo(-1L);
+        assertThat(Money.divideHalfUp(-5, -10)).isEqualTo(1L);
+        assertThat(Money.divideHalfUp(-15, 10)).isEqualTo(-2L);
+        assertThat(Money.divideHalfUp(-14, 10)).isEqualTo(-1L);
+        assertThat(Money.divideHalfUp(-4, 10)).isZero();
+        assertThat(Money.divideHalfUp(Long.MIN_VALUE, 2)).isEqualTo(Long.MIN_VALUE / 2);
+    }
+
+    @Test
+    void convertsToScaleTwoAndBack() {
+        Money amount = Money.ofPaise(-123456L);
+
+        assertThat(amount.toBigDecimal()).isEqualTo(new BigDecimal("-1234.56"));
+        assertThat(amount.toString()).isEqualTo("-1234.56");
+        assertThat(Money.of(amount.toBigDecimal())).isEqualTo(amount);
+        assertThat(Money.ofRupees(7)).isEqualTo(Money.of(new BigDecimal("7.00")));
+    }
+
+    @Test
+    void arithmeticOverflowFailsInsteadOfWrapping() {
+        Money max = Money.ofPaise(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.plus(Money.ofPaise(1L))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.times(2L)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofPaise(Long.MIN_VALUE).negate()).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1E+30"))).isInstanceOf(ArithmeticException.class);
+    }
+}
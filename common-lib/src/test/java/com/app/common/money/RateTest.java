@@ -0,0 +1,123 @@
+package com.app.common.money;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Rate scale and rounding, and parity of the primitive interest path with P x r x d / 36500
+ */
+class RateTest {
+
+    private static final BigDecimal DAYS_PERCENT = BigDecimal.valueOf(36500);
+
+    @Test
+    void percentIsKeptToEightDecimalsRoundingHalfUp() {
+        assertThat(Rate.ofPercent(new BigDecimal("7.25")).getUnits()).isEqualTo(725_000_000L);
+        assertThat(Rate.ofPercent(new BigDecimal("7.123456785")).getUnits()).isEqualTo(712_345_679L);
+        assertThat(Rate.ofPercent(new BigDecimal("7.123456784")).getUnits()).isEqualTo(712_345_678L);
+        assertThat(Rate.ofPercent(new BigDecimal("-0.000000005")).getUnits()).isEqualTo(-1L);
+        assertThat(Rate.ofPercent(new BigDecimal("7.25"))).isEqualTo(Rate.ofBasisPoints(725));
+        assertThat(Rate.ofPercent(null)).isSameAs(Rate.ZERO);
+    }
+
+    @Test
+    void percentIsRenderedWithAtLeastTwoDecimals() {
+        assertThat(Rate.ofPercent(new BigDecimal("7.5")).toPercent()).isEqualTo(new BigDecimal("7.50"));
+        assertThat(Rate.ofPercent(new BigDecimal("7")).toPercent().toPlainString()).isEqualTo("7.00");
+        assertThat(Rate.ofPercent(new BigDecimal("7.12500000")).toPercent().toPlainString()).isEqualTo("7.125");
+        assertThat(Rate.ofBasisPoints(725)).hasToString("7.25%");
+    }
+
+    @Test
+    void appliedPercentageRoundsNegativeTiesAwayFromZero() {
+        Rate half = Rate.ofPercent(new BigDecimal("50"));
+
+        assertThat(Money.ofPaise(1L).percentage(half).getPaise()).isEqualTo(1L);
+        assertThat(Money.ofPaise(-1L).percentage(half).getPaise()).isEqualTo(-1L);
+        assertThat(Money.ofPaise(-3L).percentage(half).getPaise()).isEqualTo(-2L);
+        assertThat(Rate.ofPercent(new BigDecimal("10")).applyTo(Money.ofPaise(-15L)).getPaise()).isEqualTo(-2L);
+    }
+
+    @Test
+    void productsBeyondLongRangeAreComputedExactly() {
+        // 10^15 paise x 725,000,000 units x 365 days overflows a long many times over
+        Money principal = Money.ofPaise(1_000_000_000_000_000L);
+        Rate rate = Rate.ofPercent(new BigDecimal("7.25"));
+
+        assertThat(rate.simpleInterest(principal, 365)).isEqualTo(expected(principal, rate, 365));
+        assertThat(rate.simpleInterest(principal.negate(), 365)).isEqualTo(expected(principal.negate(), rate, 365));
+
+        // 1% for 365 days is paise / 100, so 10^15 + 50 paise lands exactly on a half paisa
+        Rate onePercent = Rate.ofPercent(BigDecimal.ONE);
+        Money tie = Money.ofPaise(1_000_000_000_000_050L);
+        assertThat(onePercent.simpleInterest(tie, 365).getPaise()).isEqualTo(10_000_000_000_001L);
+        assertThat(onePercent.simpleInterest(tie.negate(), 365).getPaise()).isEqualTo(-10_000_000_000_001L);
+        tie = Money.ofPaise(1_000_000_000_000_049L);
+        assertThat(onePercent.simpleInterest(tie.negate(), 365).getPaise()).isEqualTo(-10_000_000_000_000L);
+    }
+
+    @Test
+    void resultsBeyondLongRangeFailInsteadOfWrapping() {
+        assertThatThrownBy(() -> Rate.ofPercent(new BigDecimal("200")).applyTo(Money.ofPaise(Long.MAX_VALUE)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void simpleInterestMatchesTheBigDecimalFormula() {
+        String[] principals = {"0.01", "0.99", "1.00", "999.99", "12345.67", "100000.00", "2500000.50",
+                "9999999.99", "123456789.12", "10000000000000.00"};
+        String[] rates = {"0.01", "3.5", "6.75", "7.125", "8.33333333", "12", "18.99999999"};
+        long[] days = {0, 1, 2, 30, 90, 181, 365, 366, 1826, 3650};
+
+        for (String p : principals) {
+            for (String r : rates) {
+                for (long d : days) {
+                    for (BigDecimal amount : new BigDecimal[] {new BigDecimal(p), new BigDecimal(p).negate()}) {
+                        Money principal = Money.of(amount);
+                        Rate rate = Rate.ofPercent(new BigDecimal(r));
+
+                        assertThat(rate.simpleInterest(principal, d))
+                                .as("%s x %s%% x %d days", amount, r, d)
+                                .isEqualTo(expected(principal, rate, d));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void simpleInterestMatchesTheBigDecimalFormulaForRandomInputs() {
+        Random random = new Random(42L);
+
+        for (int i = 0; i < 100_000; i++) {
+            Money principal = Money.ofPaise(random.nextLong() >> random.nextInt(64));
+            Rate rate = Rate.ofUnits(random.nextLong(0L, 25 * Rate.UNITS_PER_PERCENT));
+            long days = random.nextLong(0L, 3651L);
+
+            BigDecimal exact = exactInterest(principal, rate, days);
+            if (exact.abs().compareTo(BigDecimal.valueOf(Long.MAX_VALUE, Money.SCALE)) > 0) {
+                continue;
+            }
+            assertThat(rate.simpleInterest(principal, days))
+                    .as("%s x %s x %d days", principal, rate, days)
+                    .isEqualTo(Money.of(exact));
+        }
+    }
+
+    private static Money expected(Money principal, Rate rate, long days) {
+        return Money.of(exactInterest(principal, rate, days));
+    }
+
+    private static BigDecimal exactInterest(Money principal, Rate rate, long days) {
+        return principal.toBigDecimal()
+                .multiply(rate.toPercent())
+                .multiply(BigDecimal.valueOf(days))
+                .divide(DAYS_PERCENT, Money.SCALE, RoundingMode.HALF_UP);
+    }
+}
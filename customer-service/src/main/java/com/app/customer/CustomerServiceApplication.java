@@ -2,6 +2,7 @@ package com.app.customer;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.scheduling.annotation.EnableAsync;
 
@@ -11,6 +12,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @SpringBootApplication
 @ComponentScan(basePackages = {"com.app.customer", "com.app.common"})
 @EnableAsync
+@EnableCaching
 public class CustomerServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,104 @@
+package com.app.customer.client;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Client for fd-account-service APIs used by the customer 360 view
+ * Calls are non-blocking so the view can run them side by side
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FdAccountServiceClient {
+
+    private final WebClient.Builder webClientBuilder;
+
+    @Value("${fd-account-service.url:http://localhost:8086/api/fd-accounts}")
+    private String fdAccountServiceUrl;
+
+    /**
+     * Fetch the customer's portfolio summary (counts, balances, account rows)
+     */
+    public Mono<PortfolioSummary> fetchPortfolioSummary(Long customerId) {
+        log.debug("Calling fd-account-service for portfolio summary of customer: {}", customerId);
+
+        return webClientBuilder.build()
+                .get()
+                .uri(fdAccountServiceUrl + "/accounts/customer/{customerId}/summary", customerId)
+                .retrieve()
+                .bodyToMono(PortfolioSummary.class);
+    }
+
+    /**
+     * Fetch the latest transactions across the customer's accounts
+     */
+    public Mono<List<RecentTransaction>> fetchRecentTransactions(Long customerId, int limit) {
+        log.debug("Calling fd-account-service for {} recent transactions of customer: {}", limit, customerId);
+
+        return webClientBuilder.build()
+                .get()
+                .uri(fdAccountServiceUrl + "/transactions/customer/{customerId}/recent?limit={limit}", customerId, limit)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<RecentTransaction>>() {});
+    }
+
+    /**
+     * Inner class for the portfolio summary from fd-account-service
+     */
+    @lombok.Data
+    public static class PortfolioSummary {
+        private Long customerId;
+        private Integer totalAccounts;
+        private Integer activeAccounts;
+        private Integer maturedAccounts;
+        private Integer closedAccounts;
+        private BigDecimal activePrincipalAmount;
+        private BigDecimal activeMaturityAmount;
+        private BigDecimal totalInterestAccrued;
+        private List<AccountItem> accounts;
+    }
+
+    /**
+     * Inner class for one account row of the portfolio summary
+     */
+    @lombok.Data
+    public static class AccountItem {
+        private Long id;
+        private String accountNumber;
+        private String productName;
+        private String status;
+        private BigDecimal principalAmount;
+        private BigDecimal interestRate;
+        private Integer termMonths;
+        private BigDecimal maturityAmount;
+        private BigDecimal interestAccrued;
+        private LocalDate effectiveDate;
+        private LocalDate maturityDate;
+    }
+
+    /**
+     * Inner class for a transaction from fd-account-service
+     */
+    @lombok.Data
+    public static class RecentTransaction {
+        private String accountNumber;
+        private String transactionReference;
+        private String transactionType;
+        private BigDecimal amount;
+        private LocalDate transactionDate;
+        private String description;
+        private BigDecimal totalBalanceAfter;
+        private Boolean isReversed;
+    }
+}
@@ -36,6 +36,8 @@ public class SecurityConfig {
                                                 .permitAll()
                                                 // Allow public customer registration (POST /customers)
                                                 .requestMatchers("/customers").permitAll()
+                                                // Service-to-service event delivery, checked against events.inbound-token
+                                                .requestMatchers("/events/**").permitAll()
                                                 // Require authentication for all other requests
                                                 .anyRequest().authenticated())
                                 .sessionManagement(session -> session
@@ -0,0 +1,60 @@
+package com.app.customer.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.app.common.event.AccountCreatedEvent;
+import com.app.common.event.EventEnvelope;
+import com.app.customer.event.AccountCreatedEventListener;
+import com.app.customer.exception.UnauthorizedAccessException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST endpoint receiving events from other services
+ * Called by the fd-account-service outbox relay, authenticated with a shared X-Event-Token
+ */
+@RestController
+@RequestMapping("/events")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Inbound Events", description = "Service-to-service event delivery")
+public class AccountEventController {
+
+    private final AccountCreatedEventListener accountCreatedEventListener;
+
+    @Value("${events.inbound-token}")
+    private String inboundToken;
+
+    /**
+     * Process a batch of account created events in order
+     * Any failure answers with an error, and the relay redelivers the whole batch
+     */
+    @PostMapping("/account-created")
+    @Operation(summary = "Receive account created events", description = "Batch delivery from the FD account outbox relay")
+    public ResponseEntity<Map<String, Integer>> receiveAccountCreatedEvents(
+            @RequestHeader(value = "X-Event-Token", required = false) String token,
+            @RequestBody List<EventEnvelope<AccountCreatedEvent>> envelopes) {
+        if (token == null || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                inboundToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new UnauthorizedAccessException("Invalid event token");
+        }
+
+        log.info("Received {} account created events", envelopes.size());
+        envelopes.forEach(accountCreatedEventListener::handleAccountCreatedEvent);
+        return ResponseEntity.ok(Map.of("processed", envelopes.size()));
+    }
+}
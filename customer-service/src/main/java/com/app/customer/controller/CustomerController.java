@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.app.customer.dto.CreateCustomerRequest;
+import com.app.customer.dto.CustomerBatchRequest;
 import com.app.customer.dto.Customer360Response;
 import com.app.customer.dto.CustomerClassificationResponse;
 import com.app.customer.dto.CustomerResponse;
@@ -102,6 +103,15 @@ public class CustomerController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_CUSTOMER_MANAGER')")
+    @Operation(summary = "Get customers by IDs", description = "Retrieve many customers in one call; unknown IDs are omitted (Admin/Customer Manager only)")
+    public ResponseEntity<List<CustomerResponse>> getCustomersByIds(@Valid @RequestBody CustomerBatchRequest request) {
+        log.info("Received request to get {} customers by ID", request.getCustomerIds().size());
+        List<CustomerResponse> response = customerService.getCustomersByIds(request.getCustomerIds());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_CUSTOMER_MANAGER')")
     @Operation(summary = "Get customer by user ID", description = "Retrieve customer details by user ID from login-service (Admin/Customer Manager only)")
@@ -1,6 +1,7 @@
 package com.app.customer.dto;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 import lombok.AllArgsConstructor;
@@ -21,7 +22,12 @@ public class Customer360Response {
     private CustomerResponse customerInfo;
     private CustomerClassificationResponse classificationInfo;
     private AccountSummary accountSummary;
-    private List<FdAccountSummary> fdAccounts; // Will be populated when FD service is ready
+    private List<FdAccountSummary> fdAccounts;
+    private List<RecentTransaction> recentTransactions;
+
+    // True when a section could not be fetched in time; it is listed in unavailableSections
+    private boolean partial;
+    private List<String> unavailableSections;
 
     /**
      * Account summary for the customer
@@ -41,7 +47,7 @@ public class Customer360Response {
     }
 
     /**
-     * FD account summary (placeholder - will be populated from FD service)
+     * FD account summary from fd-account-service
      */
     @Data
     @Builder
@@ -58,5 +64,24 @@ public class Customer360Response {
         private String status;
         private String openingDate;
         private String maturityDate;
+        private BigDecimal interestAccrued;
+    }
+
+    /**
+     * Recent transaction across the customer's FD accounts
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecentTransaction {
+        private String accountNumber;
+        private String transactionReference;
+        private String transactionType;
+        private BigDecimal amount;
+        private LocalDate transactionDate;
+        private String description;
+        private BigDecimal totalBalanceAfter;
+        private Boolean isReversed;
     }
 }
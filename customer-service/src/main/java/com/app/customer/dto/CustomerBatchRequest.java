@@ -0,0 +1,24 @@
+package com.app.customer.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for looking up many customers in one request
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBatchRequest {
+
+    @NotEmpty(message = "Customer IDs are required")
+    @Size(max = 1000, message = "At most 1000 customer IDs can be requested at once")
+    private List<Long> customerIds;
+}
@@ -1,17 +1,17 @@
 package com.app.customer.event;
 
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.app.common.event.AccountCreatedEvent;
+import com.app.common.event.EventEnvelope;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Event listener for consuming FD account creation events
- * This demonstrates event consumption pattern for customer service
+ * Consumer of FD account creation events
+ * Events arrive over HTTP from the fd-account-service outbox relay (AccountEventController).
+ * Delivery is at-least-once, so processing must tolerate an event ID seen before.
  */
 @Slf4j
 @Component
@@ -19,19 +19,19 @@ import lombok.extern.slf4j.Slf4j;
 public class AccountCreatedEventListener {
 
     /**
-     * Listen for account creation events and process them asynchronously
+     * Process one account creation event
+     * Failures are rethrown so the relay redelivers the event instead of losing it.
      * This can be used to:
      * - Update customer account summary
      * - Trigger notifications
      * - Update customer reports
      * - Generate statements
      */
-    @Async
-    @EventListener
-    public void handleAccountCreatedEvent(AccountCreatedEvent event) {
+    public void handleAccountCreatedEvent(EventEnvelope<AccountCreatedEvent> envelope) {
+        AccountCreatedEvent event = envelope.getPayload();
         try {
-            log.info("🎯 EVENT CONSUMED: Account created for customer {} - Account: {}", 
-                    event.getCustomerId(), event.getAccountNumber());
+            log.info("🎯 EVENT CONSUMED: Account created for customer {} - Account: {} (event {})", 
+                    event.getCustomerId(), event.getAccountNumber(), envelope.getEventId());
             
             // Process the event
             processAccountCreation(event);
@@ -39,8 +39,9 @@ public class AccountCreatedEventListener {
             log.info("✅ Successfully processed account creation event for customer: {}", 
                     event.getCustomerId());
             
-        } catch (Exception e) {
-            log.error("❌ Failed to process account creation event: {}", e.getMessage(), e);
+        } catch (RuntimeException e) {
+            log.error("❌ Failed to process account creation event {}: {}", envelope.getEventId(), e.getMessage(), e);
+            throw e;
         }
     }
     
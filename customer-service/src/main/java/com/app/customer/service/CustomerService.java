@@ -1,16 +1,23 @@
 package com.app.customer.service;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.app.customer.client.EmailServiceClient;
+import com.app.customer.client.FdAccountServiceClient;
 import com.app.customer.client.LoginServiceClient;
 import com.app.customer.dto.CreateCustomerRequest;
 import com.app.customer.dto.Customer360Response;
@@ -24,6 +31,8 @@ import com.app.customer.repository.CustomerRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Service for customer operations
@@ -36,6 +45,19 @@ public class CustomerService {
     private final CustomerRepository customerRepository;
     private final LoginServiceClient loginServiceClient;
     private final EmailServiceClient emailServiceClient;
+    private final FdAccountServiceClient fdAccountServiceClient;
+
+    @Value("${customer-360.profile-timeout-ms:3000}")
+    private long profileTimeoutMs;
+
+    @Value("${customer-360.account-summary-timeout-ms:2000}")
+    private long accountSummaryTimeoutMs;
+
+    @Value("${customer-360.transactions-timeout-ms:2000}")
+    private long transactionsTimeoutMs;
+
+    @Value("${customer-360.recent-transactions:10}")
+    private int recentTransactionLimit;
 
     /**
      * Create a new customer
@@ -143,6 +165,18 @@ public class CustomerService {
         return CustomerResponse.fromEntity(customer);
     }
 
+    /**
+     * Get customers by IDs in a single query
+     * Unknown IDs are omitted from the result
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerResponse> getCustomersByIds(List<Long> ids) {
+        log.info("Fetching {} customers by ID", ids.size());
+        return customerRepository.findAllById(ids).stream()
+                .map(CustomerResponse::fromEntity)
+                .toList();
+    }
+
     /**
      * Get customer by user ID
      */
@@ -158,6 +192,7 @@ public class CustomerService {
      * Update customer
      */
     @Transactional
+    @CacheEvict(value = "customer360", key = "#id")
     public CustomerResponse updateCustomer(Long id, UpdateCustomerRequest request, String authenticatedUsername,
             boolean isAdmin) {
         log.info("Updating customer with ID: {} by user: {} (Admin: {})", id, authenticatedUsername, isAdmin);
@@ -350,34 +385,112 @@ public class CustomerService {
 
     /**
      * Get 360-degree customer view
+     * The profile, the account summary and the recent transactions are fetched concurrently, each
+     * with its own timeout. The profile is required; if an account leg fails or times out its section
+     * is left empty and the view is marked partial. Complete views are cached briefly for the branch UI.
      */
-    @Transactional(readOnly = true)
+    @Cacheable(value = "customer360", key = "#id", unless = "#result.partial")
     public Customer360Response getCustomer360View(Long id) {
         log.info("Fetching 360-degree view for customer ID: {}", id);
 
-        Customer customer = customerRepository.findById(id)
-                .orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + id));
+        Mono<Customer> profile = Mono.fromCallable(() -> customerRepository.findById(id)
+                        .orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + id)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .timeout(Duration.ofMillis(profileTimeoutMs))
+                .onErrorMap(TimeoutException.class,
+                        e -> new RuntimeException("Timed out loading customer profile: " + id, e));
+
+        Mono<Optional<FdAccountServiceClient.PortfolioSummary>> accountSummary = optionalLeg(
+                "accountSummary", id, fdAccountServiceClient.fetchPortfolioSummary(id), accountSummaryTimeoutMs);
+
+        Mono<Optional<List<FdAccountServiceClient.RecentTransaction>>> recentTransactions = optionalLeg(
+                "recentTransactions", id,
+                fdAccountServiceClient.fetchRecentTransactions(id, recentTransactionLimit), transactionsTimeoutMs);
+
+        var legs = Mono.zip(profile, accountSummary, recentTransactions).block();
+        Customer customer = legs.getT1();
+
+        List<String> unavailableSections = new ArrayList<>();
+        Customer360Response.AccountSummary summary = legs.getT2()
+                .map(this::toAccountSummary)
+                .orElseGet(() -> {
+                    unavailableSections.add("accountSummary");
+                    return null;
+                });
+        List<Customer360Response.FdAccountSummary> fdAccounts = legs.getT2()
+                .map(portfolio -> portfolio.getAccounts() == null
+                        ? List.<Customer360Response.FdAccountSummary>of()
+                        : portfolio.getAccounts().stream().map(this::toFdAccountSummary).toList())
+                .orElse(null);
+        List<Customer360Response.RecentTransaction> transactions = legs.getT3()
+                .map(list -> list.stream().map(this::toRecentTransaction).toList())
+                .orElseGet(() -> {
+                    unavailableSections.add("recentTransactions");
+                    return null;
+                });
 
-        CustomerResponse customerInfo = CustomerResponse.fromEntity(customer);
-        CustomerClassificationResponse classificationInfo = CustomerClassificationResponse.fromCustomer(customer);
-
-        // TODO: Fetch FD accounts from FD service when available
-        // For now, return empty account summary
-        Customer360Response.AccountSummary accountSummary = Customer360Response.AccountSummary.builder()
-                .totalFdAccounts(0)
-                .activeFdAccounts(0)
-                .maturedFdAccounts(0)
-                .closedFdAccounts(0)
-                .totalInvestedAmount(BigDecimal.ZERO)
-                .totalMaturityAmount(BigDecimal.ZERO)
-                .totalInterestEarned(BigDecimal.ZERO)
+        return Customer360Response.builder()
+                .customerInfo(CustomerResponse.fromEntity(customer))
+                .classificationInfo(CustomerClassificationResponse.fromCustomer(customer))
+                .accountSummary(summary)
+                .fdAccounts(fdAccounts)
+                .recentTransactions(transactions)
+                .partial(!unavailableSections.isEmpty())
+                .unavailableSections(unavailableSections)
                 .build();
+    }
 
-        return Customer360Response.builder()
-                .customerInfo(customerInfo)
-                .classificationInfo(classificationInfo)
-                .accountSummary(accountSummary)
-                .fdAccounts(null) // Will be populated from FD service
+    /**
+     * Bound a remote leg of the 360 view by its timeout; any failure becomes an empty section
+     */
+    private <T> Mono<Optional<T>> optionalLeg(String section, Long customerId, Mono<T> leg, long timeoutMs) {
+        return leg.timeout(Duration.ofMillis(timeoutMs))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    log.warn("⚠️ 360 view for customer {}: {} unavailable ({})", customerId, section, e.toString());
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private Customer360Response.AccountSummary toAccountSummary(FdAccountServiceClient.PortfolioSummary portfolio) {
+        return Customer360Response.AccountSummary.builder()
+                .totalFdAccounts(portfolio.getTotalAccounts())
+                .activeFdAccounts(portfolio.getActiveAccounts())
+                .maturedFdAccounts(portfolio.getMaturedAccounts())
+                .closedFdAccounts(portfolio.getClosedAccounts())
+                .totalInvestedAmount(portfolio.getActivePrincipalAmount())
+                .totalMaturityAmount(portfolio.getActiveMaturityAmount())
+                .totalInterestEarned(portfolio.getTotalInterestAccrued())
+                .build();
+    }
+
+    private Customer360Response.FdAccountSummary toFdAccountSummary(FdAccountServiceClient.AccountItem account) {
+        return Customer360Response.FdAccountSummary.builder()
+                .fdAccountId(account.getId())
+                .accountNumber(account.getAccountNumber())
+                .productName(account.getProductName())
+                .principalAmount(account.getPrincipalAmount())
+                .maturityAmount(account.getMaturityAmount())
+                .interestRate(account.getInterestRate())
+                .tenureMonths(account.getTermMonths())
+                .status(account.getStatus())
+                .openingDate(account.getEffectiveDate() != null ? account.getEffectiveDate().toString() : null)
+                .maturityDate(account.getMaturityDate() != null ? account.getMaturityDate().toString() : null)
+                .interestAccrued(account.getInterestAccrued())
+                .build();
+    }
+
+    private Customer360Response.RecentTransaction toRecentTransaction(FdAccountServiceClient.RecentTransaction transaction) {
+        return Customer360Response.RecentTransaction.builder()
+                .accountNumber(transaction.getAccountNumber())
+                .transactionReference(transaction.getTransactionReference())
+                .transactionType(transaction.getTransactionType())
+                .amount(transaction.getAmount())
+                .transactionDate(transaction.getTransactionDate())
+                .description(transaction.getDescription())
+                .totalBalanceAfter(transaction.getTotalBalanceAfter())
+                .isReversed(transaction.getIsReversed())
                 .build();
     }
 
@@ -3,10 +3,12 @@ package com.credexa.email.controller;
 import com.credexa.email.dto.EmailRequest;
 import com.credexa.email.dto.EmailResponse;
 import com.credexa.email.service.EmailService;
+import com.credexa.email.service.ProcessedEventService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,7 +20,10 @@ import java.util.Map;
 @Tag(name = "Email Service", description = "Email sending APIs using Azure Communication Services with Thymeleaf templates")
 public class EmailController {
 
+    private static final String EVENT_ID_HEADER = "X-Event-Id";
+
     private final EmailService emailService;
+    private final ProcessedEventService processedEventService;
 
     @PostMapping("/send")
     @Operation(summary = "Send an email", description = "Send a single email with subject and body")
@@ -54,8 +59,11 @@ public class EmailController {
     }
 
     @PostMapping("/send-new-account")
-    @Operation(summary = "Send new account email", description = "Send new account creation email using template")
-    public ResponseEntity<EmailResponse> sendNewAccountEmail(@RequestBody Map<String, String> request) {
+    @Operation(summary = "Send new account email", description = "Send new account creation email using template. "
+            + "Requests carrying an already processed X-Event-Id are acknowledged without sending again")
+    public ResponseEntity<EmailResponse> sendNewAccountEmail(
+            @RequestHeader(value = EVENT_ID_HEADER, required = false) String eventId,
+            @RequestBody Map<String, String> request) {
         String to = request.get("to");
         String customerName = request.get("customerName");
         String accountNumber = request.get("accountNumber");
@@ -66,8 +74,22 @@ public class EmailController {
         String maturityDate = request.get("maturityDate");
         String maturityAmount = request.get("maturityAmount");
 
+        if (eventId != null && !processedEventService.claim(eventId)) {
+            return ResponseEntity.ok(EmailResponse.builder()
+                    .status("DUPLICATE")
+                    .message("Event " + eventId + " already processed")
+                    .recipient(to)
+                    .build());
+        }
+
         EmailResponse response = emailService.sendNewAccountEmail(to, customerName, accountNumber,
                 accountType, amount, interestRate, tenure, maturityDate, maturityAmount);
+
+        // Let the publisher redeliver the event instead of dropping the email
+        if (eventId != null && "FAILED".equals(response.getStatus())) {
+            processedEventService.release(eventId);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        }
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,15 @@
+package com.credexa.email.repository;
+
+import com.credexa.email.entity.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, Long> {
+
+    @Modifying
+    @Transactional
+    long deleteByEventId(String eventId);
+}
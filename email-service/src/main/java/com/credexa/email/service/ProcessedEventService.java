@@ -0,0 +1,44 @@
+package com.credexa.email.service;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.credexa.email.entity.ProcessedEvent;
+import com.credexa.email.repository.ProcessedEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Makes event-driven emails idempotent on the publisher's X-Event-Id.
+ * The account service relays events at least once, so the same event can arrive again
+ * after a timeout or a relay restart; only the first delivery may send the email.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessedEventService {
+
+    private final ProcessedEventRepository processedEventRepository;
+
+    /**
+     * Record the event before its email is sent
+     * @return false if the event was already claimed by an earlier or concurrent delivery
+     */
+    public boolean claim(String eventId) {
+        try {
+            processedEventRepository.saveAndFlush(ProcessedEvent.builder().eventId(eventId).build());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.info("Skipping already processed event: {}", eventId);
+            return false;
+        }
+    }
+
+    /**
+     * Forget a claimed event whose email could not be sent, so a redelivery sends it
+     */
+    public void release(String eventId) {
+        processedEventRepository.deleteByEventId(eventId);
+    }
+}
@@ -0,0 +1,42 @@
+package com.app.fdaccount.batch;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running success/skipped/error totals for a batch run
+ */
+@Data
+@NoArgsConstructor
+public class BatchCounters {
+
+    private int successCount;
+    private int skippedCount;
+    private int errorCount;
+
+    public void incrementSuccess() {
+        successCount++;
+    }
+
+    public void incrementSkipped() {
+        skippedCount++;
+    }
+
+    public void incrementError() {
+        errorCount++;
+    }
+
+    public int getProcessedCount() {
+        return successCount + skippedCount + errorCount;
+    }
+
+    /**
+     * Add another set of counters into this one
+     */
+    public BatchCounters merge(BatchCounters other) {
+        successCount += other.successCount;
+        skippedCount += other.skippedCount;
+        errorCount += other.errorCount;
+        return this;
+    }
+}
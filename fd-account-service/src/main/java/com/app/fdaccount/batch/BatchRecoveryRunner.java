@@ -0,0 +1,58 @@
+package com.app.fdaccount.batch;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.app.fdaccount.service.BatchJobService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resumes batch runs that were interrupted by a restart, including runs of earlier
+ * business dates when the node comes back after midnight
+ * Runs once the application is ready; each run continues from its persisted checkpoints
+ * and keeps its own business date
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchRecoveryRunner {
+
+    private final BatchJobService batchJobService;
+    private final InterestCalculationBatch interestCalculationBatch;
+    private final MaturityProcessingBatch maturityProcessingBatch;
+
+    @Value("${batch.recovery.enabled:true}")
+    private boolean recoveryEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void resumeInterruptedJobs() {
+        if (!recoveryEnabled) {
+            return;
+        }
+
+        List<String> jobNames = batchJobService.findJobsToResume(LocalDate.now());
+        if (jobNames.isEmpty()) {
+            return;
+        }
+
+        log.info("🔁 Found interrupted batch jobs: {}", jobNames);
+
+        // Resume in schedule order: interest accrual must finish before maturities are paid out
+        if (jobNames.contains(InterestCalculationBatch.JOB_NAME)) {
+            interestCalculationBatch.resumeUnfinishedRuns();
+        }
+        if (jobNames.contains(MaturityProcessingBatch.JOB_NAME)) {
+            maturityProcessingBatch.resumeUnfinishedRuns();
+        }
+    }
+}
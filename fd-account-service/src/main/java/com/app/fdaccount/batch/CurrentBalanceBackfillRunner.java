@@ -0,0 +1,39 @@
+package com.app.fdaccount.batch;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.app.fdaccount.repository.LedgerBatchRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Seeds the current-balance table from balance history for accounts opened
+ * before it existed. Runs on startup ahead of batch recovery and is a no-op
+ * once every account has current balances.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CurrentBalanceBackfillRunner {
+
+    private final LedgerBatchRepository ledgerBatchRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfillCurrentBalances() {
+        long missing = ledgerBatchRepository.countAccountsWithoutCurrentBalances();
+        if (missing == 0) {
+            return;
+        }
+
+        log.info("Backfilling current balances for {} accounts...", missing);
+        long startTime = System.currentTimeMillis();
+        int created = ledgerBatchRepository.backfillCurrentBalances();
+        log.info("✅ Created {} current balance rows in {}ms", created, System.currentTimeMillis() - startTime);
+    }
+}
@@ -0,0 +1,31 @@
+package com.app.fdaccount.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contiguous slice of the account ID space processed by one worker
+ */
+public record IdRange(long fromExclusive, long toInclusive) {
+
+    /**
+     * The whole ID space, for jobs that are not partitioned
+     */
+    public static IdRange all() {
+        return new IdRange(0L, Long.MAX_VALUE);
+    }
+
+    /**
+     * Split [minId, maxId] into at most the given number of contiguous ranges
+     */
+    public static List<IdRange> split(long minId, long maxId, int partitions) {
+        long span = maxId - minId + 1;
+        long size = Math.max(1, (span + partitions - 1) / partitions);
+
+        List<IdRange> ranges = new ArrayList<>();
+        for (long lower = minId - 1; lower < maxId; lower += size) {
+            ranges.add(new IdRange(lower, Math.min(maxId, lower + size)));
+        }
+        return ranges;
+    }
+}
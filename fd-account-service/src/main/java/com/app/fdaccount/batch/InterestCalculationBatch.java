@@ -4,96 +4,315 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.app.fdaccount.entity.AccountBalance;
+import com.app.common.money.Money;
+import com.app.common.money.Rate;
 import com.app.fdaccount.entity.AccountTransaction;
+import com.app.fdaccount.entity.BatchJobExecution;
 import com.app.fdaccount.entity.FdAccount;
 import com.app.fdaccount.enums.TransactionType;
+import com.app.fdaccount.repository.AccountTransactionRepository;
 import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.service.BatchJobService;
+import com.app.fdaccount.service.BatchLeaseService;
+import com.app.fdaccount.service.TransactionReferenceGenerator;
 import com.app.fdaccount.service.integration.CalculatorServiceClient;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Batch job for daily interest accrual calculation
- * Runs at 1:00 AM daily
+ * Runs at 1:00 AM daily, streaming active accounts in fixed-size chunks
+ * across parallel ID-range partitions
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class InterestCalculationBatch {
 
+    public static final String JOB_NAME = "INTEREST_CALCULATION";
+
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
     private final FdAccountRepository accountRepository;
+    private final AccountTransactionRepository transactionRepository;
     private final CalculatorServiceClient calculatorServiceClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor batchTaskExecutor;
+    private final BatchJobService batchJobService;
+    private final BatchLeaseService batchLeaseService;
+    private final TransactionReferenceGenerator transactionReferenceGenerator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${batch.interest-calculation.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${batch.interest-calculation.partitions:0}")
+    private int partitionCount;
+
+    @Value("${batch.interest-calculation.shared-partitions:false}")
+    private boolean sharedPartitions;
 
     /**
      * Calculate and accrue interest for all active FD accounts
      * Scheduled to run at 1:00 AM daily
+     *
+     * The active account ID space is split into contiguous ranges that are
+     * processed concurrently on the batch worker pool. Within a partition,
+     * accounts are walked in keyset pages ordered by ID; each chunk is
+     * committed in its own transaction together with the partition's
+     * checkpoint, so a restarted run picks up after the last committed chunk.
+     *
+     * Only the node holding the job lease runs the batch. With
+     * batch.interest-calculation.shared-partitions enabled, every node runs it
+     * instead and claims disjoint partitions from the shared checkpoint table.
      */
     @Scheduled(cron = "${batch.interest-calculation.cron:0 0 1 * * ?}")
-    @Transactional
     public void calculateDailyInterest() {
-        log.info("🕐 Starting daily interest calculation batch...");
+        // In shared mode every node joins the run and partitions are claimed individually
+        if (!sharedPartitions && !batchLeaseService.tryAcquire(JOB_NAME)) {
+            return;
+        }
+
+        try {
+            runDailyInterest(LocalDate.now());
+        } finally {
+            if (!sharedPartitions) {
+                batchLeaseService.release(JOB_NAME);
+            }
+        }
+    }
+
+    /**
+     * Finish runs of earlier business dates interrupted by a restart, oldest first
+     * Each run accrues up to its own business date; later runs catch up the remaining days.
+     */
+    public void resumeUnfinishedRuns() {
+        List<LocalDate> businessDates = batchJobService.findUnfinishedBusinessDates(JOB_NAME, LocalDate.now());
+        if (businessDates.isEmpty() || (!sharedPartitions && !batchLeaseService.tryAcquire(JOB_NAME))) {
+            return;
+        }
+
+        try {
+            businessDates.forEach(this::runDailyInterest);
+        } finally {
+            if (!sharedPartitions) {
+                batchLeaseService.release(JOB_NAME);
+            }
+        }
+    }
+
+    private void runDailyInterest(LocalDate businessDate) {
+        log.info("🕐 Starting daily interest calculation batch for {} (node: {})...",
+                businessDate, batchLeaseService.getNodeId());
 
-        LocalDate today = LocalDate.now();
         long startTime = System.currentTimeMillis();
 
-        // Get all active accounts
-        List<FdAccount> activeAccounts = accountRepository.findAllActiveAccounts();
-        log.info("Found {} active accounts for interest calculation", activeAccounts.size());
+        List<BatchJobExecution> partitions = batchJobService.startOrResume(JOB_NAME, businessDate,
+                this::planPartitions);
+
+        if (partitions.isEmpty()) {
+            log.info("No interest calculation work pending for {}", businessDate);
+            return;
+        }
 
-        int successCount = 0;
-        int skippedCount = 0;
-        int errorCount = 0;
+        log.info("Processing {} partitions (chunk size: {})", partitions.size(), chunkSize);
 
-        for (FdAccount account : activeAccounts) {
-            try {
-                // Skip if today is after maturity date
-                if (today.isAfter(account.getMaturityDate())) {
-                    log.debug("Skipping account {} - already matured", account.getAccountNumber());
-                    skippedCount++;
-                    continue;
+        List<CompletableFuture<BatchCounters>> futures = partitions.stream()
+                .map(partition -> CompletableFuture.supplyAsync(
+                        () -> processPartition(partition, businessDate), batchTaskExecutor))
+                .toList();
+
+        BatchCounters totals = new BatchCounters();
+        for (CompletableFuture<BatchCounters> future : futures) {
+            totals.merge(future.join());
+        }
+
+        BatchCounters runTotals = batchJobService.getRunTotals(JOB_NAME, businessDate);
+        long duration = System.currentTimeMillis() - startTime;
+
+        log.info("✅ Interest calculation batch completed in {}ms over {} partitions - Success: {}, Skipped: {}, Errors: {} (run totals for {}: {}/{}/{})",
+                duration, partitions.size(), totals.getSuccessCount(), totals.getSkippedCount(),
+                totals.getErrorCount(), businessDate, runTotals.getSuccessCount(), runTotals.getSkippedCount(),
+                runTotals.getErrorCount());
+    }
+
+    /**
+     * Split the active account ID space into partitions for a new run
+     */
+    private List<IdRange> planPartitions() {
+        Long minId = accountRepository.findMinActiveAccountId();
+        Long maxId = accountRepository.findMaxActiveAccountId();
+
+        if (minId == null || maxId == null) {
+            log.info("No active accounts found for interest calculation");
+            return List.of();
+        }
+
+        int partitions = partitionCount > 0 ? partitionCount : batchTaskExecutor.getMaxPoolSize();
+        List<IdRange> ranges = IdRange.split(minId, maxId, partitions);
+        log.info("Partitioning active accounts {}..{} into {} ranges", minId, maxId, ranges.size());
+        return ranges;
+    }
+
+    /**
+     * Claim a partition and accrue interest for every active account in it, chunk by chunk,
+     * starting after the partition's last checkpoint
+     */
+    private BatchCounters processPartition(BatchJobExecution pending, LocalDate businessDate) {
+        BatchCounters counters = new BatchCounters();
+        Optional<BatchJobExecution> claimed = batchJobService.claim(pending.getId());
+
+        if (claimed.isEmpty()) {
+            log.debug("Interest partition {} is owned by another node or already finished",
+                    pending.getPartitionIndex());
+            return counters;
+        }
+
+        BatchJobExecution partition = claimed.get();
+        long lastId = partition.getLastProcessedId();
+        int chunkCount = 0;
+
+        try {
+            while (true) {
+                BatchCounters chunkCounters = new BatchCounters();
+                Long chunkLastId = executeChunk(partition, lastId, businessDate, chunkCounters);
+
+                if (chunkLastId == null) {
+                    break;
                 }
 
-                // Skip if interest was already calculated today
-                boolean alreadyCalculated = account.getTransactions().stream()
-                        .anyMatch(txn -> txn.getTransactionType() == TransactionType.INTEREST_ACCRUAL &&
-                                txn.getTransactionDate().equals(today));
+                counters.merge(chunkCounters);
+                lastId = chunkLastId;
+                chunkCount++;
+            }
+            batchJobService.complete(partition.getId());
+        } catch (Exception e) {
+            // The failed chunk was rolled back; the partition resumes from its checkpoint on the next run
+            log.error("❌ Interest partition {} aborted after account ID {}", partition.getPartitionIndex(), lastId, e);
+            counters.incrementError();
+            batchJobService.fail(partition.getId(), e);
+        }
+
+        log.debug("Interest partition {} finished: {} chunks - Success: {}, Skipped: {}, Errors: {}",
+                partition.getPartitionIndex(), chunkCount, counters.getSuccessCount(),
+                counters.getSkippedCount(), counters.getErrorCount());
+        return counters;
+    }
 
-                if (alreadyCalculated) {
-                    log.debug("Interest already calculated today for account: {}", account.getAccountNumber());
-                    skippedCount++;
-                    continue;
+    /**
+     * Run one chunk in its own transaction, re-running it from fresh state when a posting
+     * changed one of its accounts concurrently (optimistic version conflict)
+     */
+    private Long executeChunk(BatchJobExecution partition, long afterId, LocalDate businessDate,
+                              BatchCounters counters) {
+        for (int attempt = 1; ; attempt++) {
+            BatchCounters attemptCounters = new BatchCounters();
+            try {
+                Long chunkLastId = transactionTemplate.execute(
+                        status -> processChunk(partition, afterId, businessDate, attemptCounters));
+                counters.merge(attemptCounters);
+                return chunkLastId;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
                 }
+                log.info("🔁 Interest chunk after account ID {} conflicted with a concurrent posting, retrying (attempt {}/{})",
+                        afterId, attempt + 1, MAX_CHUNK_ATTEMPTS);
+            }
+        }
+    }
+
+    /**
+     * Accrue interest for the next chunk of active accounts after the given ID
+     * and advance the partition checkpoint in the same transaction
+     *
+     * @return the ID of the last account in the chunk, or null when the partition is exhausted
+     */
+    private Long processChunk(BatchJobExecution partition, long afterId, LocalDate businessDate,
+                              BatchCounters counters) {
+        List<FdAccount> chunk = accountRepository.findActiveAccountsInIdRange(
+                afterId, partition.getRangeEnd(), PageRequest.of(0, chunkSize));
+
+        if (chunk.isEmpty()) {
+            return null;
+        }
+
+        for (FdAccount account : chunk) {
+            accrueInterest(account, businessDate, counters);
+        }
+
+        Long chunkLastId = chunk.get(chunk.size() - 1).getId();
+
+        // Push the chunk's inserts out and detach everything before the next page
+        entityManager.flush();
+        entityManager.clear();
+
+        batchJobService.checkpoint(partition.getId(), chunkLastId, counters);
+        return chunkLastId;
+    }
+
+    /**
+     * Accrue interest for a single account for every day since its last accrual
+     *
+     * The account's lastAccrualDate watermark decides where to resume, so days
+     * missed while the batch was down are caught up in one pass.
+     */
+    private void accrueInterest(FdAccount account, LocalDate businessDate, BatchCounters counters) {
+        try {
+            LocalDate fromDate = resolveLastAccrualDate(account).plusDays(1);
+            LocalDate toDate = businessDate.isAfter(account.getMaturityDate())
+                    ? account.getMaturityDate() : businessDate;
+
+            // Skip if interest is already accrued up to the business date (or up to maturity)
+            if (fromDate.isAfter(toDate)) {
+                log.debug("Interest already accrued through {} for account: {}",
+                        account.getLastAccrualDate(), account.getAccountNumber());
+                counters.incrementSkipped();
+                return;
+            }
 
-                // Calculate daily interest
-                BigDecimal interestForDay = calculateDailyInterest(account, today);
+            // Calculate daily interest - principal does not change while accruing
+            Money currentPrincipal = Money.of(account.getCurrentBalance("PRINCIPAL", account.getPrincipalAmount()));
+            Money interestForDay = calculateDailyInterest(account, currentPrincipal);
 
-                if (interestForDay.compareTo(BigDecimal.ZERO) > 0) {
-                    // Get current balances
-                    BigDecimal currentPrincipal = getCurrentBalance(account, "PRINCIPAL");
-                    BigDecimal currentInterest = getCurrentBalance(account, "INTEREST_ACCRUED");
+            if (interestForDay.isPositive()) {
+                // Fixed-point arithmetic in the loop; BigDecimal only at the entity edge
+                BigDecimal principalAmount = currentPrincipal.toBigDecimal();
+                BigDecimal interestAmount = interestForDay.toBigDecimal();
+                Money newInterest = Money.of(account.getCurrentBalance("INTEREST_ACCRUED", BigDecimal.ZERO));
 
+                for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
                     // Calculate new balances
-                    BigDecimal newInterest = currentInterest.add(interestForDay);
-                    BigDecimal newTotal = currentPrincipal.add(newInterest);
+                    newInterest = newInterest.plus(interestForDay);
+                    BigDecimal interestBalance = newInterest.toBigDecimal();
+                    BigDecimal newTotal = currentPrincipal.plus(newInterest).toBigDecimal();
 
                     // Create interest accrual transaction
                     AccountTransaction transaction = AccountTransaction.builder()
-                            .transactionReference(generateTransactionReference())
+                            .transactionReference(transactionReferenceGenerator.next())
                             .transactionType(TransactionType.INTEREST_ACCRUAL)
-                            .amount(interestForDay)
-                            .transactionDate(today)
-                            .valueDate(today)
+                            .amount(interestAmount)
+                            .transactionDate(date)
+                            .valueDate(date)
                             .description("Daily interest accrual")
-                            .principalBalanceAfter(currentPrincipal)
-                            .interestBalanceAfter(newInterest)
+                            .principalBalanceAfter(principalAmount)
+                            .interestBalanceAfter(interestBalance)
                             .totalBalanceAfter(newTotal)
                             .performedBy("SYSTEM-BATCH")
                             .isReversed(false)
@@ -102,84 +321,57 @@ public class InterestCalculationBatch {
                     account.addTransaction(transaction);
 
                     // Update balances
-                    account.addBalance(AccountBalance.builder()
-                            .balanceType("INTEREST_ACCRUED")
-                            .balance(newInterest)
-                            .asOfDate(today)
-                            .description("Daily interest accrual")
-                            .build());
-
-                    account.addBalance(AccountBalance.builder()
-                            .balanceType("AVAILABLE")
-                            .balance(newTotal)
-                            .asOfDate(today)
-                            .description("Total balance after interest accrual")
-                            .build());
-
-                    // Save
-                    accountRepository.save(account);
-
-                    log.debug("✅ Accrued interest {} for account: {}", interestForDay, account.getAccountNumber());
-                    successCount++;
-                } else {
-                    skippedCount++;
+                    account.postBalance("INTEREST_ACCRUED", interestBalance, date, "Daily interest accrual");
+                    account.postBalance("AVAILABLE", newTotal, date, "Total balance after interest accrual");
                 }
 
-            } catch (Exception e) {
-                log.error("❌ Error calculating interest for account: {}", account.getAccountNumber(), e);
-                errorCount++;
+                long days = ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+                if (days > 1) {
+                    log.info("Caught up {} days of interest ({} to {}) for account: {}",
+                            days, fromDate, toDate, account.getAccountNumber());
+                }
+                log.debug("✅ Accrued interest {} x {} days for account: {}",
+                        interestForDay, days, account.getAccountNumber());
+                counters.incrementSuccess();
+            } else {
+                counters.incrementSkipped();
             }
-        }
 
-        long duration = System.currentTimeMillis() - startTime;
+            // Advance the watermark even when nothing was accrued so the days are not revisited
+            account.setLastAccrualDate(toDate);
+            accountRepository.save(account);
 
-        log.info("✅ Interest calculation batch completed in {}ms - Success: {}, Skipped: {}, Errors: {}",
-                duration, successCount, skippedCount, errorCount);
+        } catch (Exception e) {
+            log.error("❌ Error calculating interest for account: {}", account.getAccountNumber(), e);
+            counters.incrementError();
+        }
     }
 
     /**
-     * Calculate daily interest for an account
+     * Resolve the date interest was last accrued for an account
+     * Accounts created before the watermark existed fall back to their latest
+     * accrual transaction, or the day before the effective date if none exists
      */
-    private BigDecimal calculateDailyInterest(FdAccount account, LocalDate date) {
-        // Get effective interest rate
-        BigDecimal interestRate = account.getCustomInterestRate() != null ?
-                account.getCustomInterestRate() : account.getInterestRate();
-
-        // Get principal balance
-        BigDecimal principal = getCurrentBalance(account, "PRINCIPAL");
-
-        // Calculate days from effective date
-        long daysFromStart = ChronoUnit.DAYS.between(account.getEffectiveDate(), date);
-
-        if (daysFromStart < 0) {
-            return BigDecimal.ZERO;
+    private LocalDate resolveLastAccrualDate(FdAccount account) {
+        if (account.getLastAccrualDate() != null) {
+            return account.getLastAccrualDate();
         }
 
-        // Calculate interest for one day
-        return calculatorServiceClient.calculateInterest(
-                principal,
-                interestRate,
-                1,  // One day
-                account.getInterestCalculationMethod()
-        );
-    }
+        LocalDate lastAccrual = transactionRepository.findLatestTransactionDateByAccountIdAndType(
+                account.getId(), TransactionType.INTEREST_ACCRUAL);
 
-    /**
-     * Get current balance for a balance type
-     */
-    private BigDecimal getCurrentBalance(FdAccount account, String balanceType) {
-        return account.getBalances().stream()
-                .filter(b -> balanceType.equals(b.getBalanceType()))
-                .max((b1, b2) -> b1.getAsOfDate().compareTo(b2.getAsOfDate()))
-                .map(AccountBalance::getBalance)
-                .orElse(balanceType.equals("PRINCIPAL") ? account.getPrincipalAmount() : BigDecimal.ZERO);
+        return lastAccrual != null ? lastAccrual : account.getEffectiveDate().minusDays(1);
     }
 
     /**
-     * Generate unique transaction reference
+     * Calculate one day of interest for an account on its current principal
      */
-    private String generateTransactionReference() {
-        return "TXN-" + LocalDate.now().toString().replace("-", "") + "-" +
-                UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    private Money calculateDailyInterest(FdAccount account, Money principal) {
+        // Get effective interest rate
+        Rate interestRate = Rate.ofPercent(account.getCustomInterestRate() != null ?
+                account.getCustomInterestRate() : account.getInterestRate());
+
+        // Calculate interest for one day
+        return calculatorServiceClient.calculateInterest(principal, interestRate, 1);
     }
 }
@@ -0,0 +1,225 @@
+package com.app.fdaccount.batch;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.fdaccount.entity.AccountBalance;
+import com.app.fdaccount.entity.AccountTransaction;
+import com.app.fdaccount.enums.TransactionType;
+import com.app.fdaccount.repository.AccountBalanceRepository;
+import com.app.fdaccount.repository.AccountTransactionRepository;
+import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.repository.LedgerBatchRepository;
+import com.app.fdaccount.service.BatchLeaseService;
+import com.app.fdaccount.service.LedgerArchiveService;
+import com.app.fdaccount.service.TransactionReferenceGenerator;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batch job for ledger compaction and archival
+ * Runs at 3:00 AM on the 1st of each month
+ *
+ * For every closed month older than the retention window, an account's daily
+ * INTEREST_ACCRUAL transactions are replaced by one monthly summary posting and
+ * its balance history is reduced to the month-end row per balance type. Removed
+ * rows are written to the on-disk archive first, so history stays readable
+ * through LedgerArchiveService.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerCompactionBatch {
+
+    public static final String JOB_NAME = "LEDGER_COMPACTION";
+
+    private final FdAccountRepository accountRepository;
+    private final AccountTransactionRepository transactionRepository;
+    private final AccountBalanceRepository balanceRepository;
+    private final LedgerBatchRepository ledgerBatchRepository;
+    private final LedgerArchiveService ledgerArchiveService;
+    private final BatchLeaseService batchLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionReferenceGenerator transactionReferenceGenerator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${batch.ledger-compaction.enabled:true}")
+    private boolean compactionEnabled;
+
+    @Value("${batch.ledger-compaction.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${batch.ledger-compaction.chunk-size:100}")
+    private int chunkSize;
+
+    /**
+     * Running totals for a compaction run
+     */
+    private static class CompactionStats {
+        private int summaries;
+        private int archivedTransactions;
+        private int archivedBalances;
+    }
+
+    /**
+     * Compact and archive ledger rows older than the retention window
+     * Scheduled to run at 3:00 AM on the 1st of each month
+     */
+    @Scheduled(cron = "${batch.ledger-compaction.cron:0 0 3 1 * ?}")
+    public void compactLedger() {
+        if (!compactionEnabled || !batchLeaseService.tryAcquire(JOB_NAME)) {
+            return;
+        }
+
+        try {
+            runCompaction();
+        } finally {
+            batchLeaseService.release(JOB_NAME);
+        }
+    }
+
+    private void runCompaction() {
+        // Everything before the first day of this cutoff month belongs to closed, retained-out months
+        LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+        log.info("🕐 Starting ledger compaction for rows before {} (chunk size: {})...", cutoff, chunkSize);
+
+        long startTime = System.currentTimeMillis();
+        CompactionStats stats = new CompactionStats();
+        long lastId = 0L;
+
+        try {
+            while (true) {
+                List<Long> accountIds = accountRepository.findAccountIdsAfter(lastId, PageRequest.of(0, chunkSize));
+                if (accountIds.isEmpty()) {
+                    break;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> compactChunk(accountIds, cutoff, stats));
+                lastId = accountIds.get(accountIds.size() - 1);
+            }
+        } catch (Exception e) {
+            // The failed chunk was rolled back; its archive files are merged again on the next run
+            log.error("❌ Ledger compaction aborted after account ID {}", lastId, e);
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+
+        log.info("✅ Ledger compaction completed in {}ms - Summaries: {}, Archived transactions: {}, Archived balances: {}",
+                duration, stats.summaries, stats.archivedTransactions, stats.archivedBalances);
+    }
+
+    /**
+     * Compact one chunk of accounts in a single transaction
+     */
+    private void compactChunk(List<Long> accountIds, LocalDate cutoff, CompactionStats stats) {
+        List<AccountTransaction> summaries = new ArrayList<>();
+        List<Long> archivedTransactionIds = new ArrayList<>();
+        List<Long> archivedBalanceIds = new ArrayList<>();
+
+        List<AccountTransaction> accruals = transactionRepository.findCompactableTransactions(
+                accountIds, TransactionType.INTEREST_ACCRUAL, cutoff);
+
+        for (Map.Entry<Long, Map<YearMonth, List<AccountTransaction>>> account : groupByAccountAndMonth(
+                accruals, transaction -> transaction.getAccount().getId(),
+                transaction -> YearMonth.from(transaction.getTransactionDate())).entrySet()) {
+
+            for (Map.Entry<YearMonth, List<AccountTransaction>> month : account.getValue().entrySet()) {
+                List<AccountTransaction> days = month.getValue();
+                if (days.size() < 2) {
+                    continue;
+                }
+
+                ledgerArchiveService.archiveTransactions(account.getKey(), month.getKey(), days);
+                summaries.add(summarize(month.getKey(), days));
+                days.forEach(day -> archivedTransactionIds.add(day.getId()));
+            }
+        }
+
+        List<AccountBalance> balances = balanceRepository.findByAccountIdsBefore(accountIds, cutoff);
+
+        for (Map.Entry<Long, Map<YearMonth, List<AccountBalance>>> account : groupByAccountAndMonth(
+                balances, balance -> balance.getAccount().getId(),
+                balance -> YearMonth.from(balance.getAsOfDate())).entrySet()) {
+
+            for (Map.Entry<YearMonth, List<AccountBalance>> month : account.getValue().entrySet()) {
+                // Rows are in posting order, so the last one per type is the month-end balance
+                Map<String, AccountBalance> monthEnd = new LinkedHashMap<>();
+                month.getValue().forEach(balance -> monthEnd.put(balance.getBalanceType(), balance));
+
+                List<AccountBalance> superseded = month.getValue().stream()
+                        .filter(balance -> monthEnd.get(balance.getBalanceType()) != balance)
+                        .toList();
+                if (superseded.isEmpty()) {
+                    continue;
+                }
+
+                ledgerArchiveService.archiveBalances(account.getKey(), month.getKey(), superseded);
+                superseded.forEach(balance -> archivedBalanceIds.add(balance.getId()));
+            }
+        }
+
+        // Archive files are already on disk; the hot tables change only if this transaction commits
+        ledgerBatchRepository.insertTransactions(summaries);
+        transactionRepository.deleteAllByIdInBatch(archivedTransactionIds);
+        balanceRepository.deleteAllByIdInBatch(archivedBalanceIds);
+
+        entityManager.clear();
+
+        stats.summaries += summaries.size();
+        stats.archivedTransactions += archivedTransactionIds.size();
+        stats.archivedBalances += archivedBalanceIds.size();
+    }
+
+    /**
+     * Roll up one month of daily accruals into a single posting dated on the last accrual day
+     */
+    private AccountTransaction summarize(YearMonth month, List<AccountTransaction> days) {
+        AccountTransaction first = days.get(0);
+        AccountTransaction last = days.get(days.size() - 1);
+        BigDecimal total = days.stream()
+                .map(AccountTransaction::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return AccountTransaction.builder()
+                .account(last.getAccount())
+                .transactionReference(transactionReferenceGenerator.next())
+                .transactionType(TransactionType.INTEREST_ACCRUAL)
+                .amount(total)
+                .transactionDate(last.getTransactionDate())
+                .valueDate(last.getValueDate())
+                .description(String.format("Monthly interest accrual summary for %s: %d days (%s to %s)",
+                        month, days.size(), first.getTransactionDate(), last.getTransactionDate()))
+                .principalBalanceAfter(last.getPrincipalBalanceAfter())
+                .interestBalanceAfter(last.getInterestBalanceAfter())
+                .totalBalanceAfter(last.getTotalBalanceAfter())
+                .performedBy("SYSTEM-COMPACTION")
+                .isReversed(false)
+                .isSummary(true)
+                .build();
+    }
+
+    private static <T> Map<Long, Map<YearMonth, List<T>>> groupByAccountAndMonth(
+            List<T> rows, Function<T, Long> accountOf, Function<T, YearMonth> monthOf) {
+        return rows.stream().collect(Collectors.groupingBy(accountOf, LinkedHashMap::new,
+                Collectors.groupingBy(monthOf, TreeMap::new, Collectors.toList())));
+    }
+}
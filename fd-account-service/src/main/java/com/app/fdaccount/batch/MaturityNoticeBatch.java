@@ -1,8 +1,13 @@
 package com.app.fdaccount.batch;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -10,109 +15,206 @@ import org.springframework.stereotype.Component;
 
 import com.app.fdaccount.dto.external.CustomerDto;
 import com.app.fdaccount.entity.AccountRole;
+import com.app.fdaccount.entity.BatchJobExecution;
 import com.app.fdaccount.entity.FdAccount;
-import com.app.fdaccount.enums.AccountStatus;
 import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.service.BatchJobService;
+import com.app.fdaccount.service.BatchLeaseService;
 import com.app.fdaccount.service.integration.CustomerServiceClient;
 import com.app.fdaccount.service.integration.EmailServiceClient;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Batch job for sending maturity notices
  * Runs at 2:00 AM daily (after maturity processing)
+ *
+ * Accounts and their roles are loaded in one query, primary owners are resolved
+ * with one bulk customer lookup, and notices are sent through a bounded-concurrency
+ * pipeline so at most N email requests are in flight at any time.
+ * Only the node holding the job lease sends notices, once per business date.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MaturityNoticeBatch {
 
+    public static final String JOB_NAME = "MATURITY_NOTICE";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MMM-yyyy");
+
     private final FdAccountRepository accountRepository;
     private final CustomerServiceClient customerServiceClient;
     private final EmailServiceClient emailServiceClient;
+    private final BatchJobService batchJobService;
+    private final BatchLeaseService batchLeaseService;
 
     @Value("${batch.maturity-notice.days-before:10}")
     private int daysBeforeMaturity;
 
+    @Value("${batch.maturity-notice.concurrency:16}")
+    private int concurrency;
+
+    @Value("${batch.maturity-notice.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
     @Value("${alert.sms.enabled:true}")
     private boolean smsEnabled;
 
     @Value("${alert.email.enabled:true}")
     private boolean emailEnabled;
 
+    /**
+     * Result of sending a single maturity notice
+     */
+    enum NoticeOutcome {
+        SENT,
+        NO_OWNER,
+        NO_EMAIL,
+        FAILED
+    }
+
+    /**
+     * An account paired with the owner who should receive its notice
+     */
+    private record MaturityNotice(FdAccount account, AccountRole owner) {
+    }
+
     /**
      * Send maturity notices for accounts maturing in N days
      * Scheduled to run at 2:00 AM daily
      */
     @Scheduled(cron = "${batch.maturity-notice.cron:0 0 2 * * ?}")
     public void sendMaturityNotices() {
+        if (!batchLeaseService.tryAcquire(JOB_NAME)) {
+            return;
+        }
+
+        try {
+            runMaturityNotices();
+        } finally {
+            batchLeaseService.release(JOB_NAME);
+        }
+    }
+
+    private void runMaturityNotices() {
         log.info("🕐 Starting maturity notice batch...");
 
         LocalDate today = LocalDate.now();
         LocalDate noticeDate = today.plusDays(daysBeforeMaturity);
         long startTime = System.currentTimeMillis();
 
-        // Get accounts maturing on the notice date
-        List<FdAccount> upcomingMaturityAccounts = accountRepository.findByMaturityDateAndStatus(
-                noticeDate, AccountStatus.ACTIVE);
-
-        log.info("Found {} accounts maturing on {} ({} days from today)",
-                upcomingMaturityAccounts.size(), noticeDate, daysBeforeMaturity);
-
-        int successCount = 0;
-        int errorCount = 0;
-
-        for (FdAccount account : upcomingMaturityAccounts) {
-            try {
-                sendMaturityNotice(account);
-                successCount++;
-            } catch (Exception e) {
-                log.error("❌ Error sending maturity notice for account: {}",
-                        account.getAccountNumber(), e);
-                errorCount++;
-            }
+        // The run marker keeps a second node (or a late cron on a skewed clock) from re-sending today's notices
+        List<BatchJobExecution> executions = batchJobService.startOrResume(JOB_NAME, today,
+                () -> List.of(IdRange.all()));
+
+        if (executions.isEmpty()) {
+            log.info("Maturity notices already sent for {}", today);
+            return;
         }
 
-        long duration = System.currentTimeMillis() - startTime;
+        // Stage 1: accounts maturing on the notice date, roles fetched in the same query
+        List<MaturityNotice> notices = accountRepository.findMaturingAccountsWithRoles(noticeDate).stream()
+                .map(account -> new MaturityNotice(account, findPrimaryOwner(account)))
+                .toList();
+        long loadedAt = System.currentTimeMillis();
+
+        log.info("Found {} accounts maturing on {} ({} days from today) in {}ms",
+                notices.size(), noticeDate, daysBeforeMaturity, loadedAt - startTime);
+
+        // Stage 2: resolve every owner with one bulk customer lookup
+        Map<Long, CustomerDto> customers = emailEnabled ? resolveOwners(notices) : Collections.emptyMap();
+        long resolvedAt = System.currentTimeMillis();
+
+        log.info("Resolved {} customers in {}ms", customers.size(), resolvedAt - loadedAt);
+
+        // Stage 3: send notices with at most 'concurrency' requests in flight
+        Map<NoticeOutcome, Integer> summary = Flux.fromIterable(notices)
+                .flatMap(notice -> sendMaturityNotice(notice, customers, today), concurrency)
+                .collect(() -> new EnumMap<NoticeOutcome, Integer>(NoticeOutcome.class),
+                        (counts, outcome) -> counts.merge(outcome, 1, Integer::sum))
+                .block();
+        long sentAt = System.currentTimeMillis();
 
-        log.info("✅ Maturity notice batch completed in {}ms - Success: {}, Errors: {}",
-                duration, successCount, errorCount);
+        log.info("Sent {} notices in {}ms (concurrency: {})", notices.size(), sentAt - resolvedAt, concurrency);
+        batchJobService.complete(executions.get(0).getId());
+
+        log.info("✅ Maturity notice batch completed in {}ms - Summary: {}", sentAt - startTime, summary);
     }
 
     /**
-     * Send maturity notice for a single account
+     * Primary active owner of the account, or the first active role if none is primary
      */
-    private void sendMaturityNotice(FdAccount account) {
-        log.info("Sending maturity notice for account: {}", account.getAccountNumber());
-
-        // Get primary owner
-        AccountRole primaryOwner = account.getRoles().stream()
+    private AccountRole findPrimaryOwner(FdAccount account) {
+        return account.getRoles().stream()
                 .filter(role -> Boolean.TRUE.equals(role.getIsPrimary()) &&
                         Boolean.TRUE.equals(role.getIsActive()))
                 .findFirst()
                 .orElse(account.getRoles().stream()
-                        .filter(AccountRole::getIsActive)
+                        .filter(role -> Boolean.TRUE.equals(role.getIsActive()))
                         .findFirst()
                         .orElse(null));
+    }
+
+    /**
+     * Look up all owners in bulk; on failure every notice falls through as NO_EMAIL
+     */
+    private Map<Long, CustomerDto> resolveOwners(List<MaturityNotice> notices) {
+        List<Long> customerIds = notices.stream()
+                .map(MaturityNotice::owner)
+                .filter(Objects::nonNull)
+                .map(AccountRole::getCustomerId)
+                .distinct()
+                .toList();
+
+        try {
+            return customerServiceClient.getCustomersByIds(customerIds);
+        } catch (Exception e) {
+            log.error("❌ Bulk customer lookup failed for {} customers: {}", customerIds.size(), e.getMessage(), e);
+            return Collections.emptyMap();
+        }
+    }
 
-        if (primaryOwner == null) {
+    /**
+     * Send maturity notice for a single account
+     */
+    private Mono<NoticeOutcome> sendMaturityNotice(MaturityNotice notice, Map<Long, CustomerDto> customers,
+            LocalDate today) {
+        FdAccount account = notice.account();
+        AccountRole owner = notice.owner();
+
+        if (owner == null) {
             log.warn("No active owner found for account: {}", account.getAccountNumber());
-            return;
+            return Mono.just(NoticeOutcome.NO_OWNER);
         }
 
         // Send SMS if enabled
         if (smsEnabled) {
-            sendSMS(primaryOwner.getCustomerId(), primaryOwner.getCustomerName(), account);
+            sendSMS(owner.getCustomerId(), owner.getCustomerName(), account);
         }
 
         // Send Email if enabled
-        if (emailEnabled) {
-            sendEmail(primaryOwner.getCustomerId(), primaryOwner.getCustomerName(), account);
+        if (!emailEnabled) {
+            return Mono.just(NoticeOutcome.SENT);
+        }
+
+        CustomerDto customer = customers.get(owner.getCustomerId());
+        if (customer == null || customer.getEmail() == null || customer.getEmail().isEmpty()) {
+            log.warn("No email address found for customer: {}", owner.getCustomerId());
+            return Mono.just(NoticeOutcome.NO_EMAIL);
         }
 
-        log.info("✅ Sent maturity notice to customer {} for account: {}",
-                primaryOwner.getCustomerId(), account.getAccountNumber());
+        return sendEmail(customer, account, today)
+                .timeout(Duration.ofMillis(sendTimeoutMs))
+                .thenReturn(NoticeOutcome.SENT)
+                .onErrorResume(e -> {
+                    log.error("❌ Failed to send email to customer {} for account {}: {}",
+                            owner.getCustomerId(), account.getAccountNumber(), e.getMessage());
+                    return Mono.just(NoticeOutcome.FAILED);
+                });
     }
 
     /**
@@ -130,52 +232,35 @@ public class MaturityNoticeBatch {
     /**
      * Send Email notification using templated email
      */
-    private void sendEmail(Long customerId, String customerName, FdAccount account) {
-        try {
-            // Fetch customer details to get email address
-            CustomerDto customer = customerServiceClient.getCustomerById(customerId);
-
-            if (customer == null || customer.getEmail() == null || customer.getEmail().isEmpty()) {
-                log.warn("No email address found for customer: {}", customerId);
-                return;
-            }
-
-            // Format data for email template
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MMM-yyyy");
-            LocalDate today = LocalDate.now();
-            long daysUntil = java.time.temporal.ChronoUnit.DAYS.between(today, account.getMaturityDate());
-
-            String principalAmount = String.format("₹ %,.2f", account.getPrincipalAmount());
-            String maturityAmount = String.format("₹ %,.2f", account.getMaturityAmount());
-            String interestRate = String.format("%.2f%%",
-                    account.getCustomInterestRate() != null ? account.getCustomInterestRate()
-                            : account.getInterestRate());
-            String maturityDate = account.getMaturityDate().format(formatter);
-            String daysUntilMaturity = daysUntil + " days";
-            String maturityInstruction = account.getMaturityInstruction() != null
-                    ? account.getMaturityInstruction().toString()
-                    : "HOLD";
-            String transferAccount = account.getMaturityTransferAccount() != null ? account.getMaturityTransferAccount()
-                    : "";
-
-            // Send email using the templated email service
-            emailServiceClient.sendFdMaturityNotificationEmail(
-                    customer.getEmail(),
-                    customer.getCustomerName(),
-                    account.getAccountNumber(),
-                    account.getAccountName(),
-                    principalAmount,
-                    interestRate,
-                    maturityDate,
-                    maturityAmount,
-                    daysUntilMaturity,
-                    maturityInstruction,
-                    transferAccount);
-
-            log.info("✅ FD maturity notification email sent to customer {} ({})",
-                    customerId, customer.getEmail());
-        } catch (Exception e) {
-            log.error("❌ Failed to send email to customer {}: {}", customerId, e.getMessage(), e);
-        }
+    private Mono<Void> sendEmail(CustomerDto customer, FdAccount account, LocalDate today) {
+        // Format data for email template
+        long daysUntil = java.time.temporal.ChronoUnit.DAYS.between(today, account.getMaturityDate());
+
+        String principalAmount = String.format("₹ %,.2f", account.getPrincipalAmount());
+        String maturityAmount = String.format("₹ %,.2f", account.getMaturityAmount());
+        String interestRate = String.format("%.2f%%",
+                account.getCustomInterestRate() != null ? account.getCustomInterestRate()
+                        : account.getInterestRate());
+        String maturityDate = account.getMaturityDate().format(DATE_FORMATTER);
+        String daysUntilMaturity = daysUntil + " days";
+        String maturityInstruction = account.getMaturityInstruction() != null
+                ? account.getMaturityInstruction().toString()
+                : "HOLD";
+        String transferAccount = account.getMaturityTransferAccount() != null ? account.getMaturityTransferAccount()
+                : "";
+
+        // Send email using the templated email service
+        return emailServiceClient.sendFdMaturityNotification(
+                customer.getEmail(),
+                customer.getCustomerName(),
+                account.getAccountNumber(),
+                account.getAccountName(),
+                principalAmount,
+                interestRate,
+                maturityDate,
+                maturityAmount,
+                daysUntilMaturity,
+                maturityInstruction,
+                transferAccount);
     }
 }
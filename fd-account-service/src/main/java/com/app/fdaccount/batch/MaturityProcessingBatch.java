@@ -2,124 +2,345 @@ package com.app.fdaccount.batch;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.app.common.money.Money;
 import com.app.fdaccount.entity.AccountBalance;
+import com.app.fdaccount.entity.AccountCurrentBalance;
 import com.app.fdaccount.entity.AccountTransaction;
+import com.app.fdaccount.entity.BatchJobExecution;
 import com.app.fdaccount.entity.FdAccount;
 import com.app.fdaccount.enums.AccountStatus;
 import com.app.fdaccount.enums.MaturityInstruction;
 import com.app.fdaccount.enums.TransactionType;
+import com.app.fdaccount.repository.AccountCurrentBalanceRepository;
 import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.repository.LedgerBatchRepository;
+import com.app.fdaccount.service.BatchJobService;
+import com.app.fdaccount.service.BatchLeaseService;
+import com.app.fdaccount.service.TransactionReferenceGenerator;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Batch job for processing matured FD accounts
  * Runs at 1:30 AM daily (after interest calculation)
+ *
+ * Maturity pays out the accrued interest balance, so a business date is only processed
+ * once an INTEREST_CALCULATION run on or after that date has completed on every partition.
+ * Until then the run is deferred and picked up again by a periodic retry; this also holds
+ * when interest runs on another node or in shared-partitions mode.
+ *
+ * Maturing accounts are read in keyset chunks and grouped by maturity instruction.
+ * Each group's transactions, balances and account updates are written with
+ * JDBC batches instead of one entity save per account. Account rows are updated
+ * only at the version they were read with; a chunk that raced a posting is rolled
+ * back and re-run from fresh balances.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MaturityProcessingBatch {
 
+    public static final String JOB_NAME = "MATURITY_PROCESSING";
+
+    private static final List<String> MATURITY_BALANCE_TYPES = List.of("PRINCIPAL", "INTEREST_ACCRUED");
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
     private final FdAccountRepository accountRepository;
+    private final AccountCurrentBalanceRepository currentBalanceRepository;
+    private final LedgerBatchRepository ledgerBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchJobService batchJobService;
+    private final BatchLeaseService batchLeaseService;
+    private final TransactionReferenceGenerator transactionReferenceGenerator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${batch.maturity-processing.chunk-size:500}")
+    private int chunkSize;
 
     /**
-     * Process all accounts that matured today
+     * Process all accounts that matured today, after finishing runs left over from earlier dates
      * Scheduled to run at 1:30 AM daily
+     *
+     * Each chunk commits together with the run's checkpoint, so a restarted run
+     * continues after the last committed account instead of starting over.
+     * Only the node holding the job lease runs the batch.
      */
     @Scheduled(cron = "${batch.maturity-processing.cron:0 30 1 * * ?}")
-    @Transactional
     public void processMaturedAccounts() {
-        log.info("🕐 Starting maturity processing batch...");
+        if (!batchLeaseService.tryAcquire(JOB_NAME)) {
+            return;
+        }
+
+        try {
+            LocalDate today = LocalDate.now();
+            batchJobService.findUnfinishedBusinessDates(JOB_NAME, today.minusDays(1))
+                    .forEach(this::runMaturityProcessing);
+            runMaturityProcessing(today);
+        } finally {
+            batchLeaseService.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * Retry runs that were deferred for unfinished interest accrual, stopped on an error or
+     * interrupted by a restart, each for its own business date, oldest first
+     * Runs on the batch scheduler, so on this node it never overlaps the interest batch
+     */
+    @Scheduled(fixedDelayString = "${batch.maturity-processing.retry-interval-ms:600000}",
+            initialDelayString = "${batch.maturity-processing.retry-interval-ms:600000}")
+    public void resumeUnfinishedRuns() {
+        List<LocalDate> businessDates = batchJobService.findUnfinishedBusinessDates(JOB_NAME, LocalDate.now());
+        if (businessDates.isEmpty() || !batchLeaseService.tryAcquire(JOB_NAME)) {
+            return;
+        }
+
+        try {
+            businessDates.forEach(this::runMaturityProcessing);
+        } finally {
+            batchLeaseService.release(JOB_NAME);
+        }
+    }
+
+    private void runMaturityProcessing(LocalDate businessDate) {
+        log.info("🕐 Starting maturity processing batch for {} (chunk size: {})...", businessDate, chunkSize);
 
-        LocalDate today = LocalDate.now();
         long startTime = System.currentTimeMillis();
 
-        // Get accounts maturing today
-        List<FdAccount> maturingAccounts = accountRepository.findByMaturityDateAndStatus(
-                today, AccountStatus.ACTIVE);
+        List<BatchJobExecution> executions = batchJobService.startOrResume(JOB_NAME, businessDate,
+                () -> List.of(IdRange.all()));
 
-        log.info("Found {} accounts maturing today", maturingAccounts.size());
+        if (executions.isEmpty()) {
+            log.info("No maturity processing work pending for {}", businessDate);
+            return;
+        }
 
-        int successCount = 0;
-        int errorCount = 0;
+        BatchJobExecution execution = executions.get(0);
 
-        for (FdAccount account : maturingAccounts) {
-            try {
-                processMaturedAccount(account, today);
-                successCount++;
-            } catch (Exception e) {
-                log.error("❌ Error processing maturity for account: {}", account.getAccountNumber(), e);
-                errorCount++;
+        if (!isInterestAccrued(businessDate)) {
+            String reason = "Waiting for " + InterestCalculationBatch.JOB_NAME + " on or after " + businessDate
+                    + " to complete";
+            log.warn("⚠️ Maturity processing for {} deferred: {}", businessDate, reason);
+            batchJobService.defer(execution.getId(), reason);
+            return;
+        }
+
+        BatchCounters counters = new BatchCounters();
+        Map<MaturityInstruction, Integer> instructionCounts = new EnumMap<>(MaturityInstruction.class);
+        long lastId = execution.getLastProcessedId();
+
+        try {
+            while (true) {
+                BatchCounters chunkCounters = new BatchCounters();
+                Long chunkLastId = executeChunk(execution, lastId, businessDate, chunkCounters, instructionCounts);
+
+                if (chunkLastId == null) {
+                    break;
+                }
+                counters.merge(chunkCounters);
+                lastId = chunkLastId;
             }
+            batchJobService.complete(execution.getId());
+        } catch (Exception e) {
+            // The failed chunk was rolled back; its accounts remain ACTIVE and are retried from the checkpoint
+            log.error("❌ Maturity processing aborted after account ID {}", lastId, e);
+            counters.incrementError();
+            batchJobService.fail(execution.getId(), e);
         }
 
         long duration = System.currentTimeMillis() - startTime;
 
-        log.info("✅ Maturity processing batch completed in {}ms - Success: {}, Errors: {}",
-                duration, successCount, errorCount);
+        log.info("✅ Maturity processing batch for {} completed in {}ms - Success: {}, Errors: {}, By instruction: {}",
+                businessDate, duration, counters.getSuccessCount(), counters.getErrorCount(), instructionCounts);
     }
 
     /**
-     * Process a single matured account
+     * Whether the accounts maturing on the date have their interest accrued through it
+     * Any later completed interest run also accrued them, since they are still ACTIVE.
+     * A date with no maturing accounts has nothing to wait for.
      */
-    private void processMaturedAccount(FdAccount account, LocalDate maturityDate) {
-        log.info("Processing maturity for account: {}", account.getAccountNumber());
+    private boolean isInterestAccrued(LocalDate maturityDate) {
+        if (batchJobService.hasCompletedRunSince(InterestCalculationBatch.JOB_NAME, maturityDate)) {
+            return true;
+        }
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> accountRepository
+                .findMaturingAccountsAfterId(maturityDate, 0L, PageRequest.of(0, 1)).isEmpty()));
+    }
 
-        // Get current balances
-        BigDecimal currentPrincipal = getCurrentBalance(account, "PRINCIPAL");
-        BigDecimal currentInterest = getCurrentBalance(account, "INTEREST_ACCRUED");
-        BigDecimal totalAmount = currentPrincipal.add(currentInterest);
+    /**
+     * Run one chunk in its own transaction, re-running it from fresh state when a posting
+     * changed one of its accounts concurrently (optimistic version conflict)
+     */
+    private Long executeChunk(BatchJobExecution execution, long afterId, LocalDate maturityDate,
+                              BatchCounters counters, Map<MaturityInstruction, Integer> instructionCounts) {
+        for (int attempt = 1; ; attempt++) {
+            BatchCounters attemptCounters = new BatchCounters();
+            Map<MaturityInstruction, Integer> attemptInstructionCounts = new EnumMap<>(MaturityInstruction.class);
+            try {
+                Long chunkLastId = transactionTemplate.execute(status -> processChunk(
+                        execution, afterId, maturityDate, attemptCounters, attemptInstructionCounts));
+                counters.merge(attemptCounters);
+                attemptInstructionCounts.forEach((instruction, count) ->
+                        instructionCounts.merge(instruction, count, Integer::sum));
+                return chunkLastId;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("🔁 Maturity chunk after account ID {} conflicted with a concurrent posting, retrying (attempt {}/{})",
+                        afterId, attempt + 1, MAX_CHUNK_ATTEMPTS);
+            }
+        }
+    }
 
-        // Process based on maturity instruction
-        MaturityInstruction instruction = account.getMaturityInstruction() != null ?
+    /**
+     * Process the next chunk of accounts maturing on the given date
+     * and advance the checkpoint in the same transaction
+     *
+     * @return the ID of the last account in the chunk, or null when no accounts remain
+     */
+    private Long processChunk(BatchJobExecution execution, long afterId, LocalDate maturityDate,
+                              BatchCounters counters, Map<MaturityInstruction, Integer> instructionCounts) {
+        List<FdAccount> chunk = accountRepository.findMaturingAccountsAfterId(
+                maturityDate, afterId, PageRequest.of(0, chunkSize));
+
+        if (chunk.isEmpty()) {
+            return null;
+        }
+
+        // Balances are read after the accounts; a posting committed in between bumped the
+        // version, so the account update below fails and the chunk is re-run
+        Map<Long, Map<String, BigDecimal>> currentBalances = loadCurrentBalances(chunk);
+
+        // Detach the chunk (versions stay as loaded): every write below goes through JDBC batches
+        entityManager.clear();
+
+        Map<MaturityInstruction, List<FdAccount>> groups = chunk.stream()
+                .collect(Collectors.groupingBy(this::resolveInstruction,
+                        () -> new EnumMap<>(MaturityInstruction.class), Collectors.toList()));
+
+        for (Map.Entry<MaturityInstruction, List<FdAccount>> group : groups.entrySet()) {
+            MaturityInstruction instruction = group.getKey();
+            MaturityPostings postings = new MaturityPostings();
+
+            for (FdAccount account : group.getValue()) {
+                try {
+                    MaturityPostings accountPostings = new MaturityPostings();
+                    processMaturedAccount(account, instruction, maturityDate,
+                            currentBalances.getOrDefault(account.getId(), Map.of()), accountPostings);
+                    postings.addAll(accountPostings);
+                    counters.incrementSuccess();
+                } catch (Exception e) {
+                    log.error("❌ Error processing maturity for account: {}", account.getAccountNumber(), e);
+                    counters.incrementError();
+                }
+            }
+
+            // Version-checked account update first: it fails fast on a conflict and locks the rows
+            ledgerBatchRepository.updateAccountTerms(postings.accounts);
+            ledgerBatchRepository.insertTransactions(postings.transactions);
+            ledgerBatchRepository.insertBalances(postings.balances);
+
+            instructionCounts.merge(instruction, postings.accounts.size(), Integer::sum);
+            log.info("Applied {} maturities with instruction {} ({} transactions, {} balances)",
+                    postings.accounts.size(), instruction, postings.transactions.size(), postings.balances.size());
+        }
+
+        Long chunkLastId = chunk.get(chunk.size() - 1).getId();
+        batchJobService.checkpoint(execution.getId(), chunkLastId, counters);
+        return chunkLastId;
+    }
+
+    /**
+     * Load the current PRINCIPAL and INTEREST_ACCRUED balances for a chunk in one query
+     */
+    private Map<Long, Map<String, BigDecimal>> loadCurrentBalances(List<FdAccount> accounts) {
+        List<Long> accountIds = accounts.stream().map(FdAccount::getId).toList();
+
+        Map<Long, Map<String, BigDecimal>> result = new HashMap<>();
+        for (AccountCurrentBalance balance : currentBalanceRepository.findByAccountIdsAndBalanceTypes(
+                accountIds, MATURITY_BALANCE_TYPES)) {
+            result.computeIfAbsent(balance.getAccount().getId(), id -> new HashMap<>())
+                    .put(balance.getBalanceType(), balance.getBalance());
+        }
+        return result;
+    }
+
+    private MaturityInstruction resolveInstruction(FdAccount account) {
+        return account.getMaturityInstruction() != null ?
                 account.getMaturityInstruction() : MaturityInstruction.HOLD;
+    }
+
+    /**
+     * Plan the postings for a single matured account
+     */
+    private void processMaturedAccount(FdAccount account, MaturityInstruction instruction, LocalDate maturityDate,
+                                       Map<String, BigDecimal> balances, MaturityPostings postings) {
+        log.debug("Processing maturity for account: {}", account.getAccountNumber());
+
+        // Get current balances
+        Money currentPrincipal = Money.of(balances.getOrDefault("PRINCIPAL", account.getPrincipalAmount()));
+        Money currentInterest = Money.of(balances.getOrDefault("INTEREST_ACCRUED", BigDecimal.ZERO));
+        Money totalAmount = currentPrincipal.plus(currentInterest);
 
+        // Process based on maturity instruction
         switch (instruction) {
             case CLOSE_AND_PAYOUT:
-                processClosureAndPayout(account, totalAmount, maturityDate);
+                processClosureAndPayout(account, totalAmount, maturityDate, postings);
                 break;
 
             case RENEW_PRINCIPAL_ONLY:
-                processRenewalPrincipalOnly(account, currentPrincipal, currentInterest, maturityDate);
+                processRenewalPrincipalOnly(account, currentPrincipal, currentInterest, maturityDate, postings);
                 break;
 
             case RENEW_WITH_INTEREST:
-                processRenewalWithInterest(account, totalAmount, maturityDate);
+                processRenewalWithInterest(account, totalAmount, maturityDate, postings);
                 break;
 
             case TRANSFER_TO_SAVINGS:
             case TRANSFER_TO_CURRENT:
-                processTransfer(account, totalAmount, maturityDate, instruction);
+                processTransfer(account, totalAmount, maturityDate, instruction, postings);
                 break;
 
             case HOLD:
             default:
-                processHold(account, maturityDate);
+                processHold(account, postings);
                 break;
         }
 
-        log.info("✅ Processed maturity for account: {} with instruction: {}",
+        log.debug("✅ Processed maturity for account: {} with instruction: {}",
                 account.getAccountNumber(), instruction);
     }
 
     /**
      * Close account and payout full amount
      */
-    private void processClosureAndPayout(FdAccount account, BigDecimal amount, LocalDate date) {
+    private void processClosureAndPayout(FdAccount account, Money amount, LocalDate date,
+                                         MaturityPostings postings) {
         // Create maturity payout transaction
-        AccountTransaction transaction = AccountTransaction.builder()
-                .transactionReference(generateTransactionReference())
+        postings.transactions.add(AccountTransaction.builder()
+                .account(account)
+                .transactionReference(transactionReferenceGenerator.next())
                 .transactionType(TransactionType.MATURITY_PAYOUT)
-                .amount(amount)
+                .amount(amount.toBigDecimal())
                 .transactionDate(date)
                 .valueDate(date)
                 .description("Maturity payout - Account closed")
@@ -128,33 +349,34 @@ public class MaturityProcessingBatch {
                 .totalBalanceAfter(BigDecimal.ZERO)
                 .performedBy("SYSTEM-BATCH")
                 .isReversed(false)
-                .build();
-
-        account.addTransaction(transaction);
+                .build());
 
         // Update account status
         account.setStatus(AccountStatus.MATURED);
         account.setClosureDate(date);
+        postings.accounts.add(account);
 
         // Update balances to zero
-        updateBalance(account, "PRINCIPAL", BigDecimal.ZERO, date);
-        updateBalance(account, "INTEREST_ACCRUED", BigDecimal.ZERO, date);
-        updateBalance(account, "AVAILABLE", BigDecimal.ZERO, date);
-
-        accountRepository.save(account);
+        updateBalance(account, "PRINCIPAL", BigDecimal.ZERO, date, postings);
+        updateBalance(account, "INTEREST_ACCRUED", BigDecimal.ZERO, date, postings);
+        updateBalance(account, "AVAILABLE", BigDecimal.ZERO, date, postings);
 
-        log.info("Account {} closed with payout: {}", account.getAccountNumber(), amount);
+        log.debug("Account {} closed with payout: {}", account.getAccountNumber(), amount);
     }
 
     /**
      * Renew with principal only, payout interest
      */
-    private void processRenewalPrincipalOnly(FdAccount account, BigDecimal principal,
-                                             BigDecimal interest, LocalDate date) {
+    private void processRenewalPrincipalOnly(FdAccount account, Money principalAmount,
+                                             Money interestAmount, LocalDate date, MaturityPostings postings) {
+        BigDecimal principal = principalAmount.toBigDecimal();
+        BigDecimal interest = interestAmount.toBigDecimal();
+
         // Payout interest
-        if (interest.compareTo(BigDecimal.ZERO) > 0) {
-            AccountTransaction interestPayout = AccountTransaction.builder()
-                    .transactionReference(generateTransactionReference())
+        if (interestAmount.isPositive()) {
+            postings.transactions.add(AccountTransaction.builder()
+                    .account(account)
+                    .transactionReference(transactionReferenceGenerator.next())
                     .transactionType(TransactionType.MATURITY_PAYOUT)
                     .amount(interest)
                     .transactionDate(date)
@@ -165,14 +387,13 @@ public class MaturityProcessingBatch {
                     .totalBalanceAfter(principal)
                     .performedBy("SYSTEM-BATCH")
                     .isReversed(false)
-                    .build();
-
-            account.addTransaction(interestPayout);
+                    .build());
         }
 
         // Create renewal transaction
-        AccountTransaction renewal = AccountTransaction.builder()
-                .transactionReference(generateTransactionReference())
+        postings.transactions.add(AccountTransaction.builder()
+                .account(account)
+                .transactionReference(transactionReferenceGenerator.next())
                 .transactionType(TransactionType.MATURITY_RENEWAL)
                 .amount(principal)
                 .transactionDate(date)
@@ -183,32 +404,33 @@ public class MaturityProcessingBatch {
                 .totalBalanceAfter(principal)
                 .performedBy("SYSTEM-BATCH")
                 .isReversed(false)
-                .build();
-
-        account.addTransaction(renewal);
+                .build());
 
         // Update account for new term
         account.setEffectiveDate(date);
         account.setMaturityDate(date.plusMonths(account.getTermMonths()));
         account.setStatus(AccountStatus.ACTIVE); // Keep active for new term
+        postings.accounts.add(account);
 
         // Reset interest balance
-        updateBalance(account, "INTEREST_ACCRUED", BigDecimal.ZERO, date);
-        updateBalance(account, "AVAILABLE", principal, date);
-
-        accountRepository.save(account);
+        updateBalance(account, "INTEREST_ACCRUED", BigDecimal.ZERO, date, postings);
+        updateBalance(account, "AVAILABLE", principal, date, postings);
 
-        log.info("Account {} renewed with principal: {}, interest payout: {}",
+        log.debug("Account {} renewed with principal: {}, interest payout: {}",
                 account.getAccountNumber(), principal, interest);
     }
 
     /**
      * Renew with principal + interest
      */
-    private void processRenewalWithInterest(FdAccount account, BigDecimal totalAmount, LocalDate date) {
+    private void processRenewalWithInterest(FdAccount account, Money renewalAmount, LocalDate date,
+                                            MaturityPostings postings) {
+        BigDecimal totalAmount = renewalAmount.toBigDecimal();
+
         // Create renewal transaction
-        AccountTransaction renewal = AccountTransaction.builder()
-                .transactionReference(generateTransactionReference())
+        postings.transactions.add(AccountTransaction.builder()
+                .account(account)
+                .transactionReference(transactionReferenceGenerator.next())
                 .transactionType(TransactionType.MATURITY_RENEWAL)
                 .amount(totalAmount)
                 .transactionDate(date)
@@ -219,38 +441,36 @@ public class MaturityProcessingBatch {
                 .totalBalanceAfter(totalAmount)
                 .performedBy("SYSTEM-BATCH")
                 .isReversed(false)
-                .build();
-
-        account.addTransaction(renewal);
+                .build());
 
         // Update account for new term
         account.setPrincipalAmount(totalAmount); // New principal includes old interest
         account.setEffectiveDate(date);
         account.setMaturityDate(date.plusMonths(account.getTermMonths()));
         account.setStatus(AccountStatus.ACTIVE);
+        postings.accounts.add(account);
 
         // Reset balances
-        updateBalance(account, "PRINCIPAL", totalAmount, date);
-        updateBalance(account, "INTEREST_ACCRUED", BigDecimal.ZERO, date);
-        updateBalance(account, "AVAILABLE", totalAmount, date);
+        updateBalance(account, "PRINCIPAL", totalAmount, date, postings);
+        updateBalance(account, "INTEREST_ACCRUED", BigDecimal.ZERO, date, postings);
+        updateBalance(account, "AVAILABLE", totalAmount, date, postings);
 
-        accountRepository.save(account);
-
-        log.info("Account {} renewed with total amount: {}", account.getAccountNumber(), totalAmount);
+        log.debug("Account {} renewed with total amount: {}", account.getAccountNumber(), totalAmount);
     }
 
     /**
      * Transfer to savings/current account
      */
-    private void processTransfer(FdAccount account, BigDecimal amount, LocalDate date,
-                                  MaturityInstruction instruction) {
+    private void processTransfer(FdAccount account, Money amount, LocalDate date,
+                                  MaturityInstruction instruction, MaturityPostings postings) {
         String transferAccount = account.getMaturityTransferAccount();
 
         // Create transfer transaction
-        AccountTransaction transfer = AccountTransaction.builder()
-                .transactionReference(generateTransactionReference())
+        postings.transactions.add(AccountTransaction.builder()
+                .account(account)
+                .transactionReference(transactionReferenceGenerator.next())
                 .transactionType(TransactionType.MATURITY_TRANSFER)
-                .amount(amount)
+                .amount(amount.toBigDecimal())
                 .transactionDate(date)
                 .valueDate(date)
                 .description(String.format("Maturity transfer to %s account: %s",
@@ -261,66 +481,59 @@ public class MaturityProcessingBatch {
                 .totalBalanceAfter(BigDecimal.ZERO)
                 .performedBy("SYSTEM-BATCH")
                 .isReversed(false)
-                .build();
-
-        account.addTransaction(transfer);
+                .build());
 
         // Update account status
         account.setStatus(AccountStatus.MATURED);
         account.setClosureDate(date);
+        postings.accounts.add(account);
 
         // Update balances to zero
-        updateBalance(account, "PRINCIPAL", BigDecimal.ZERO, date);
-        updateBalance(account, "INTEREST_ACCRUED", BigDecimal.ZERO, date);
-        updateBalance(account, "AVAILABLE", BigDecimal.ZERO, date);
-
-        accountRepository.save(account);
+        updateBalance(account, "PRINCIPAL", BigDecimal.ZERO, date, postings);
+        updateBalance(account, "INTEREST_ACCRUED", BigDecimal.ZERO, date, postings);
+        updateBalance(account, "AVAILABLE", BigDecimal.ZERO, date, postings);
 
-        log.info("Account {} transferred {} to account: {}",
+        log.debug("Account {} transferred {} to account: {}",
                 account.getAccountNumber(), amount, transferAccount);
     }
 
     /**
      * Hold maturity amount (no action)
      */
-    private void processHold(FdAccount account, LocalDate date) {
+    private void processHold(FdAccount account, MaturityPostings postings) {
         // Just update status to MATURED, keep balances as is
         account.setStatus(AccountStatus.MATURED);
-        accountRepository.save(account);
+        postings.accounts.add(account);
 
-        log.info("Account {} matured with HOLD instruction - no payout", account.getAccountNumber());
-    }
-
-    /**
-     * Get current balance
-     */
-    private BigDecimal getCurrentBalance(FdAccount account, String balanceType) {
-        return account.getBalances().stream()
-                .filter(b -> balanceType.equals(b.getBalanceType()))
-                .max((b1, b2) -> b1.getAsOfDate().compareTo(b2.getAsOfDate()))
-                .map(AccountBalance::getBalance)
-                .orElse(balanceType.equals("PRINCIPAL") ? account.getPrincipalAmount() : BigDecimal.ZERO);
+        log.debug("Account {} matured with HOLD instruction - no payout", account.getAccountNumber());
     }
 
     /**
      * Update balance
      */
-    private void updateBalance(FdAccount account, String balanceType, BigDecimal balance, LocalDate date) {
-        AccountBalance accountBalance = AccountBalance.builder()
+    private void updateBalance(FdAccount account, String balanceType, BigDecimal balance, LocalDate date,
+                               MaturityPostings postings) {
+        postings.balances.add(AccountBalance.builder()
+                .account(account)
                 .balanceType(balanceType)
                 .balance(balance)
                 .asOfDate(date)
                 .description("Balance after maturity processing")
-                .build();
-
-        account.addBalance(accountBalance);
+                .build());
     }
 
     /**
-     * Generate transaction reference
+     * Rows to be written for a set of matured accounts
      */
-    private String generateTransactionReference() {
-        return "TXN-" + LocalDate.now().toString().replace("-", "") + "-" +
-                UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    private static class MaturityPostings {
+        private final List<AccountTransaction> transactions = new ArrayList<>();
+        private final List<AccountBalance> balances = new ArrayList<>();
+        private final List<FdAccount> accounts = new ArrayList<>();
+
+        void addAll(MaturityPostings other) {
+            transactions.addAll(other.transactions);
+            balances.addAll(other.balances);
+            accounts.addAll(other.accounts);
+        }
     }
 }
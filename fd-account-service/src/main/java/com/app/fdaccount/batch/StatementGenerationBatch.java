@@ -0,0 +1,453 @@
+package com.app.fdaccount.batch;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import com.app.fdaccount.dto.AccountStatement;
+import com.app.fdaccount.entity.BatchJobExecution;
+import com.app.fdaccount.enums.StatementPeriod;
+import com.app.fdaccount.repository.AccountBalanceRepository;
+import com.app.fdaccount.repository.AccountBalanceRepository.BalanceSnapshotRow;
+import com.app.fdaccount.repository.AccountTransactionRepository;
+import com.app.fdaccount.repository.AccountTransactionRepository.StatementTransactionRow;
+import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.repository.FdAccountRepository.StatementAccountRow;
+import com.app.fdaccount.service.BatchJobService;
+import com.app.fdaccount.service.BatchLeaseService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batch job for monthly and quarterly account statements
+ * Runs at 4:00 AM on the 1st of each month for the month just ended, and for the
+ * quarter as well when that month closes one
+ *
+ * Accounts open during the period are walked in ID-range partitions on the batch
+ * worker pool. Each chunk reads its opening and closing balances from the balance
+ * history in two queries, streams the period's transactions in account and ID order,
+ * and renders every statement through the cached text template into one file per
+ * chunk. The file is moved into place before the partition checkpoint commits, so a
+ * resumed run rewrites at most the chunk that was in flight.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatementGenerationBatch {
+
+    public static final String JOB_NAME_PREFIX = "STATEMENT_";
+
+    private static final String TEMPLATE = "account-statement";
+    private static final String LINE_FORMAT = "%-10s  %-32s  %-23s  %,14.2f  %,14.2f%s";
+    private static final String AMOUNT_FORMAT = "%,18.2f";
+    private static final Pattern BRANCH_CODE_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,20}");
+
+    private final FdAccountRepository accountRepository;
+    private final AccountTransactionRepository transactionRepository;
+    private final AccountBalanceRepository balanceRepository;
+    private final SpringTemplateEngine statementTemplateEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor batchTaskExecutor;
+    private final ThreadPoolTaskExecutor statementCoordinatorExecutor;
+    private final BatchJobService batchJobService;
+    private final BatchLeaseService batchLeaseService;
+
+    @Value("${batch.statement.enabled:true}")
+    private boolean statementsEnabled;
+
+    @Value("${batch.statement.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${batch.statement.partitions:0}")
+    private int partitionCount;
+
+    @Value("${batch.statement.output-directory:./data/statements}")
+    private String outputDirectory;
+
+    /**
+     * Parameters of one statement run
+     */
+    private record StatementRun(String jobName, StatementPeriod period, LocalDate periodStart, LocalDate periodEnd,
+                                String branchCode, Path directory, LocalDate generatedOn) {
+    }
+
+    /**
+     * Generate statements for the month just ended, and the quarter when it closes one
+     * Scheduled to run at 4:00 AM on the 1st of each month, after interest accrual has
+     * posted the month-end balances
+     */
+    @Scheduled(cron = "${batch.statement.cron:0 0 4 1 * ?}")
+    public void generatePeriodEndStatements() {
+        if (!statementsEnabled) {
+            return;
+        }
+
+        LocalDate monthEnd = StatementPeriod.MONTHLY.lastEndBefore(LocalDate.now());
+        generateStatements(StatementPeriod.MONTHLY, monthEnd, null);
+
+        if (StatementPeriod.QUARTERLY.isPeriodEnd(monthEnd)) {
+            generateStatements(StatementPeriod.QUARTERLY, monthEnd, null);
+        }
+    }
+
+    /**
+     * Start (or resume) a statement run in the background
+     * The run coordinates on its own thread; only its partitions use the batch worker pool
+     *
+     * @param periodEnd last day of the period; defaults to the most recently ended period
+     * @param branchCode restricts the run to one branch; null for all accounts
+     * @return the job name, for following progress in the batch execution history
+     */
+    public String launch(StatementPeriod period, LocalDate periodEnd, String branchCode) {
+        LocalDate end = periodEnd != null ? periodEnd : period.lastEndBefore(LocalDate.now());
+
+        if (!period.isPeriodEnd(end)) {
+            throw new IllegalArgumentException("Period end " + end + " is not the last day of a " + period + " period");
+        }
+        if (!end.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Statement period ending " + end + " has not closed yet");
+        }
+
+        String normalizedBranch = branchCode == null || branchCode.isBlank() ? null : branchCode.trim();
+        // The branch code becomes part of the job name and the output path
+        if (normalizedBranch != null && !BRANCH_CODE_PATTERN.matcher(normalizedBranch).matches()) {
+            throw new IllegalArgumentException("Invalid branch code: " + normalizedBranch);
+        }
+
+        CompletableFuture.runAsync(() -> generateStatements(period, end, normalizedBranch),
+                        statementCoordinatorExecutor)
+                .exceptionally(e -> {
+                    log.error("❌ Statement run {} for {} failed", period, end, e);
+                    return null;
+                });
+        return jobName(period, normalizedBranch);
+    }
+
+    /**
+     * Generate the statements of one period, resuming an interrupted run from its checkpoints
+     */
+    public void generateStatements(StatementPeriod period, LocalDate periodEnd, String branchCode) {
+        String jobName = jobName(period, branchCode);
+        if (!batchLeaseService.tryAcquire(jobName)) {
+            log.info("{} for {} is already running", jobName, periodEnd);
+            return;
+        }
+
+        try {
+            Path directory = Paths.get(outputDirectory, period.name().toLowerCase(Locale.ROOT),
+                    periodEnd.toString(), branchCode != null ? branchCode : "all");
+            StatementRun run = new StatementRun(jobName, period, period.startOf(periodEnd), periodEnd,
+                    branchCode, directory, LocalDate.now());
+            runStatements(run);
+        } finally {
+            batchLeaseService.release(jobName);
+        }
+    }
+
+    private void runStatements(StatementRun run) {
+        log.info("🕐 Starting {} statement generation for {} to {}{} (node: {})...", run.period(),
+                run.periodStart(), run.periodEnd(), run.branchCode() != null ? " in branch " + run.branchCode() : "",
+                batchLeaseService.getNodeId());
+
+        long startTime = System.currentTimeMillis();
+
+        // The period end is the run's business date, so each period is generated once and resumed until complete
+        List<BatchJobExecution> partitions = batchJobService.startOrResume(
+                run.jobName(), run.periodEnd(), this::planPartitions);
+
+        if (partitions.isEmpty()) {
+            log.info("No statement work pending for {} {}", run.jobName(), run.periodEnd());
+            return;
+        }
+
+        try {
+            Files.createDirectories(run.directory());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create statement directory " + run.directory(), e);
+        }
+
+        log.info("Processing {} partitions (chunk size: {}) into {}", partitions.size(), chunkSize, run.directory());
+
+        List<CompletableFuture<BatchCounters>> futures = partitions.stream()
+                .map(partition -> CompletableFuture.supplyAsync(
+                        () -> processPartition(run, partition), batchTaskExecutor))
+                .toList();
+
+        BatchCounters totals = new BatchCounters();
+        for (CompletableFuture<BatchCounters> future : futures) {
+            totals.merge(future.join());
+        }
+
+        BatchCounters runTotals = batchJobService.getRunTotals(run.jobName(), run.periodEnd());
+        long duration = System.currentTimeMillis() - startTime;
+
+        log.info("✅ {} statements for {} completed in {}ms over {} partitions - Generated: {}, Errors: {} (run totals: {}/{})",
+                run.period(), run.periodEnd(), duration, partitions.size(), totals.getSuccessCount(),
+                totals.getErrorCount(), runTotals.getSuccessCount(), runTotals.getErrorCount());
+    }
+
+    /**
+     * Split the account ID space into partitions for a new run
+     */
+    private List<IdRange> planPartitions() {
+        Long minId = accountRepository.findMinAccountId();
+        Long maxId = accountRepository.findMaxAccountId();
+
+        if (minId == null || maxId == null) {
+            log.info("No accounts found for statement generation");
+            return List.of();
+        }
+
+        int partitions = partitionCount > 0 ? partitionCount : batchTaskExecutor.getMaxPoolSize();
+        List<IdRange> ranges = IdRange.split(minId, maxId, partitions);
+        log.info("Partitioning accounts {}..{} into {} ranges", minId, maxId, ranges.size());
+        return ranges;
+    }
+
+    /**
+     * Claim a partition and write statements for its accounts, chunk by chunk,
+     * starting after the partition's last checkpoint
+     */
+    private BatchCounters processPartition(StatementRun run, BatchJobExecution pending) {
+        BatchCounters counters = new BatchCounters();
+        Optional<BatchJobExecution> claimed = batchJobService.claim(pending.getId());
+
+        if (claimed.isEmpty()) {
+            log.debug("Statement partition {} is owned by another node or already finished",
+                    pending.getPartitionIndex());
+            return counters;
+        }
+
+        BatchJobExecution partition = claimed.get();
+        long lastId = partition.getLastProcessedId();
+        int chunkCount = 0;
+
+        try {
+            while (true) {
+                final long afterId = lastId;
+                BatchCounters chunkCounters = new BatchCounters();
+                Long chunkLastId = transactionTemplate.execute(
+                        status -> processChunk(run, partition, afterId, chunkCounters));
+
+                if (chunkLastId == null) {
+                    break;
+                }
+
+                counters.merge(chunkCounters);
+                lastId = chunkLastId;
+                chunkCount++;
+            }
+            batchJobService.complete(partition.getId());
+        } catch (Exception e) {
+            // The chunk's file may be rewritten on the next run; its checkpoint was rolled back
+            log.error("❌ Statement partition {} aborted after account ID {}", partition.getPartitionIndex(), lastId, e);
+            counters.incrementError();
+            batchJobService.fail(partition.getId(), e);
+        }
+
+        log.debug("Statement partition {} finished: {} chunks - Generated: {}, Errors: {}",
+                partition.getPartitionIndex(), chunkCount, counters.getSuccessCount(), counters.getErrorCount());
+        return counters;
+    }
+
+    /**
+     * Write the statements of the next chunk of accounts after the given ID to one file
+     * and advance the partition checkpoint
+     *
+     * @return the ID of the last account in the chunk, or null when the partition is exhausted
+     */
+    private Long processChunk(StatementRun run, BatchJobExecution partition, long afterId, BatchCounters counters) {
+        PageRequest page = PageRequest.of(0, chunkSize);
+        List<StatementAccountRow> chunk = run.branchCode() != null
+                ? accountRepository.findStatementAccountsInIdRangeByBranch(run.branchCode(), afterId,
+                        partition.getRangeEnd(), run.periodStart(), run.periodEnd(), page)
+                : accountRepository.findStatementAccountsInIdRange(afterId,
+                        partition.getRangeEnd(), run.periodStart(), run.periodEnd(), page);
+
+        if (chunk.isEmpty()) {
+            return null;
+        }
+
+        List<Long> accountIds = chunk.stream().map(StatementAccountRow::getId).toList();
+        Long chunkLastId = accountIds.get(accountIds.size() - 1);
+
+        Map<Long, Map<String, BigDecimal>> opening = balancesBefore(accountIds, run.periodStart());
+        Map<Long, Map<String, BigDecimal>> closing = balancesBefore(accountIds, run.periodEnd().plusDays(1));
+
+        Path file = run.directory().resolve(String.format("part-%03d-%d-%d.txt",
+                partition.getPartitionIndex(), accountIds.get(0), chunkLastId));
+        writeChunk(run, chunk, accountIds, opening, closing, file, counters);
+
+        batchJobService.checkpoint(partition.getId(), chunkLastId, counters);
+        return chunkLastId;
+    }
+
+    /**
+     * Render the chunk's statements into a temporary file while walking the period's
+     * transactions alongside the accounts, then move it into place
+     */
+    private void writeChunk(StatementRun run, List<StatementAccountRow> chunk, List<Long> accountIds,
+                            Map<Long, Map<String, BigDecimal>> opening, Map<Long, Map<String, BigDecimal>> closing,
+                            Path file, BatchCounters counters) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+            try (Stream<StatementTransactionRow> rows = transactionRepository.streamStatementRows(
+                         accountIds, run.periodStart(), run.periodEnd());
+                 BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+
+                Iterator<StatementTransactionRow> iterator = rows.iterator();
+                StatementTransactionRow next = iterator.hasNext() ? iterator.next() : null;
+                boolean first = true;
+
+                for (StatementAccountRow account : chunk) {
+                    // Rows arrive grouped by account in the same ID order as the chunk
+                    List<String> lines = new ArrayList<>();
+                    while (next != null && next.getAccountId().equals(account.getId())) {
+                        lines.add(formatLine(next));
+                        next = iterator.hasNext() ? iterator.next() : null;
+                    }
+
+                    try {
+                        String statement = render(run, account, lines,
+                                opening.getOrDefault(account.getId(), Map.of()),
+                                closing.getOrDefault(account.getId(), Map.of()));
+                        if (!first) {
+                            writer.write('\f'); // Page break between statements
+                        }
+                        writer.write(statement);
+                        first = false;
+                        counters.incrementSuccess();
+                    } catch (RuntimeException e) {
+                        log.error("❌ Error rendering statement for account: {}", account.getAccountNumber(), e);
+                        counters.incrementError();
+                    }
+                }
+            }
+
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write statements " + file, e);
+        } finally {
+            // Do not leave a partial chunk behind when rendering or the move failed
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("⚠️ Could not delete temporary statement file: {}", path, e);
+        }
+    }
+
+    private String render(StatementRun run, StatementAccountRow account, List<String> lines,
+                          Map<String, BigDecimal> opening, Map<String, BigDecimal> closing) {
+        AccountStatement statement = AccountStatement.builder()
+                .periodLabel(periodLabel(run.period(), run.periodEnd()))
+                .periodStart(run.periodStart())
+                .periodEnd(run.periodEnd())
+                .accountNumber(account.getAccountNumber())
+                .accountName(account.getAccountName())
+                .productName(account.getProductName())
+                .branch(account.getBranchName() != null
+                        ? account.getBranchCode() + " - " + account.getBranchName() : account.getBranchCode())
+                .status(account.getStatus().name())
+                .interestRate(account.getInterestRate().toPlainString())
+                .effectiveDate(account.getEffectiveDate())
+                .maturityDate(account.getMaturityDate())
+                .openingPrincipal(amount(opening.get("PRINCIPAL")))
+                .openingInterest(amount(opening.get("INTEREST_ACCRUED")))
+                .openingTotal(amount(total(opening)))
+                .closingPrincipal(amount(closing.get("PRINCIPAL")))
+                .closingInterest(amount(closing.get("INTEREST_ACCRUED")))
+                .closingTotal(amount(total(closing)))
+                .lines(lines)
+                .generatedOn(run.generatedOn())
+                .build();
+
+        Context context = new Context(Locale.ROOT);
+        context.setVariable("statement", statement);
+        return statementTemplateEngine.process(TEMPLATE, context);
+    }
+
+    /**
+     * Latest balance of each type per account, among entries dated before the given date
+     */
+    private Map<Long, Map<String, BigDecimal>> balancesBefore(List<Long> accountIds, LocalDate beforeDate) {
+        Map<Long, Map<String, BigDecimal>> balances = new HashMap<>();
+        for (BalanceSnapshotRow row : balanceRepository.findLatestBalancesBefore(accountIds, beforeDate)) {
+            balances.computeIfAbsent(row.getAccountId(), id -> new HashMap<>())
+                    .put(row.getBalanceType(), row.getBalance());
+        }
+        return balances;
+    }
+
+    /**
+     * Total balance: the posted AVAILABLE balance, or principal plus accrued interest before one exists
+     */
+    private BigDecimal total(Map<String, BigDecimal> balances) {
+        BigDecimal available = balances.get("AVAILABLE");
+        if (available != null) {
+            return available;
+        }
+        return balances.getOrDefault("PRINCIPAL", BigDecimal.ZERO)
+                .add(balances.getOrDefault("INTEREST_ACCRUED", BigDecimal.ZERO));
+    }
+
+    private String formatLine(StatementTransactionRow row) {
+        return String.format(Locale.ROOT, LINE_FORMAT,
+                row.getTransactionDate(),
+                row.getTransactionReference(),
+                row.getTransactionType(),
+                row.getAmount(),
+                row.getTotalBalanceAfter() != null ? row.getTotalBalanceAfter() : BigDecimal.ZERO,
+                Boolean.TRUE.equals(row.getIsReversed()) ? "  REVERSED" : "");
+    }
+
+    private String amount(BigDecimal value) {
+        return String.format(Locale.ROOT, AMOUNT_FORMAT, value != null ? value : BigDecimal.ZERO);
+    }
+
+    private static String periodLabel(StatementPeriod period, LocalDate periodEnd) {
+        return period == StatementPeriod.QUARTERLY
+                ? period + " " + periodEnd.getYear() + "-Q" + ((periodEnd.getMonthValue() - 1) / 3 + 1)
+                : period + " " + periodEnd.getYear() + "-" + String.format("%02d", periodEnd.getMonthValue());
+    }
+
+    private static String jobName(StatementPeriod period, String branchCode) {
+        return JOB_NAME_PREFIX + period + (branchCode != null ? "_" + branchCode : "");
+    }
+}
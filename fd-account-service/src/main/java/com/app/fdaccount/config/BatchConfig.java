@@ -0,0 +1,63 @@
+package com.app.fdaccount.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration for scheduled batch jobs
+ * Provides the bounded worker pool used to process batch partitions in parallel, and the
+ * coordinator thread that runs on-demand batch runs outside that pool
+ */
+@Slf4j
+@Configuration
+public class BatchConfig {
+
+    @Value("${batch.worker-threads:0}")
+    private int workerThreads;
+
+    /**
+     * Worker pool for partitioned batch execution
+     * Defaults to one thread per available core when batch.worker-threads is 0
+     */
+    @Bean(name = "batchTaskExecutor")
+    public ThreadPoolTaskExecutor batchTaskExecutor() {
+        int threads = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 4);
+        executor.setThreadNamePrefix("batch-");
+        // Back-pressure: the submitting thread runs the partition itself when the queue is full
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("✅ Batch worker pool initialized with {} threads", threads);
+        return executor;
+    }
+
+    /**
+     * Single thread for on-demand runs (statement generation) that fan out to the worker pool
+     * A coordinator blocks until its partitions finish, so it must never occupy a worker
+     * thread itself; runs launched while one is in progress wait their turn.
+     */
+    @Bean(name = "statementCoordinatorExecutor")
+    public ThreadPoolTaskExecutor statementCoordinatorExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("batch-coordinator-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,19 @@
+package com.app.fdaccount.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.app.calc.FdCalculator;
+
+/**
+ * Exposes the shared fd-calc-core kernel as a bean
+ * Maturity and accrual figures are computed in-process with the same code as fd-calculator-service
+ */
+@Configuration
+public class CalculatorCoreConfig {
+
+    @Bean
+    public FdCalculator fdCalculator() {
+        return new FdCalculator();
+    }
+}
@@ -0,0 +1,13 @@
+package com.app.fdaccount.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the transactional outbox
+ * Binds outbox.* for OutboxService (writes) and OutboxRelay (delivery)
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+}
@@ -0,0 +1,72 @@
+package com.app.fdaccount.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings of the transactional outbox and its relay (outbox.*)
+ */
+@Data
+@ConfigurationProperties("outbox")
+public class OutboxProperties {
+
+    private Relay relay = new Relay();
+
+    /**
+     * Hours a delivered event is kept before it is purged
+     */
+    private int retentionHours = 72;
+
+    /**
+     * HTTP subscribers keyed by name; the name is stored as each event's destination
+     */
+    private Map<String, Subscriber> subscribers = new LinkedHashMap<>();
+
+    /**
+     * Enabled subscribers with a URL
+     */
+    public Map<String, Subscriber> enabledSubscribers() {
+        return subscribers.entrySet().stream()
+                .filter(entry -> entry.getValue().isEnabled() && entry.getValue().getUrl() != null
+                        && !entry.getValue().getUrl().isBlank())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
+                        (first, second) -> first, LinkedHashMap::new));
+    }
+
+    @Data
+    public static class Relay {
+        private boolean enabled = true;
+        private int batchSize = 200;
+        private long claimTtlSeconds = 60;
+        private long requestTimeoutMs = 10000;
+        private long retryBackoffMs = 1000;
+        private long maxBackoffMs = 300000;
+        private int concurrency = 16;
+    }
+
+    @Data
+    public static class Subscriber {
+        private boolean enabled = true;
+        private String url;
+
+        /**
+         * true = one POST of a JSON array of envelopes per claimed batch;
+         * false = one POST per event with the bare payload and an X-Event-Id header
+         */
+        private boolean batch;
+
+        /**
+         * Sent as X-Event-Token when set
+         */
+        private String token;
+
+        private List<String> eventTypes = new ArrayList<>();
+    }
+}
@@ -0,0 +1,33 @@
+package com.app.fdaccount.config;
+
+import java.util.function.BooleanSupplier;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections of read-only transactions to the read replica
+ *
+ * Everything else, and read-only work while the replica is unhealthy or too far behind,
+ * goes to the primary. Must sit behind a LazyConnectionDataSourceProxy so the connection
+ * is fetched after the transaction's read-only flag has been bound.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final BooleanSupplier replicaUsable;
+
+    public ReadWriteRoutingDataSource(BooleanSupplier replicaUsable) {
+        this.replicaUsable = replicaUsable;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaUsable.getAsBoolean()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,134 @@
+package com.app.fdaccount.config;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks how far the read replica is behind the primary
+ *
+ * On every tick this node stamps its heartbeat row on the primary and reads the same row
+ * back from the replica. The replica is usable for reads while that stamp is younger than
+ * datasource.replica.max-lag-ms; when it is older, missing or unreadable, read-only
+ * transactions fall back to the primary until the replica catches up.
+ *
+ * The lag a check measured keeps growing until the next check, so the replica also
+ * stops being used once the last measurement plus the time since exceeds the tolerance,
+ * for example when checks stall. The check interval must be well below max-lag-ms.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String UPDATE_HEARTBEAT_SQL =
+            "UPDATE replication_heartbeats SET beat_at = ? WHERE node_id = ?";
+
+    private static final String INSERT_HEARTBEAT_SQL =
+            "INSERT INTO replication_heartbeats (node_id, beat_at) VALUES (?, ?)";
+
+    private static final String SELECT_HEARTBEAT_SQL =
+            "SELECT beat_at FROM replication_heartbeats WHERE node_id = ?";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Supplier<String> nodeId;
+    private final Duration maxLag;
+
+    private volatile boolean replicaUsable;
+    private volatile Duration lastLag;
+    private volatile LagSample lastSample;
+
+    public ReplicaLagMonitor(JdbcTemplate primaryJdbcTemplate, JdbcTemplate replicaJdbcTemplate,
+                             Supplier<String> nodeId, Duration maxLag) {
+        this.primaryJdbcTemplate = primaryJdbcTemplate;
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.nodeId = nodeId;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Whether read-only transactions may currently use the replica
+     * False until the first successful check after startup, and once the last
+     * measured lag plus the time since that check exceeds the tolerance
+     */
+    public boolean isReplicaUsable() {
+        LagSample sample = lastSample;
+        if (sample == null) {
+            return false;
+        }
+        Duration sinceCheck = Duration.ofNanos(System.nanoTime() - sample.measuredAtNanos());
+        return sample.lag().plus(sinceCheck).compareTo(maxLag) <= 0;
+    }
+
+    /**
+     * Replication lag measured by the last check, or null if the replica could not be read
+     */
+    public Duration getLastLag() {
+        return lastLag;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.heartbeat-interval-ms:1000}",
+            scheduler = SchedulingConfig.HEARTBEAT_SCHEDULER)
+    public void checkReplicaLag() {
+        writeHeartbeat();
+
+        long measuredAtNanos = System.nanoTime();
+        Duration lag = readLag();
+        boolean usable = lag != null && lag.compareTo(maxLag) <= 0;
+        lastLag = lag;
+        lastSample = usable ? new LagSample(lag, measuredAtNanos) : null;
+
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("✅ Read replica is back within lag tolerance ({} ms), routing read-only work to it",
+                        lag.toMillis());
+            } else {
+                log.warn("⚠️ Read replica lag {} exceeds {} ms, routing read-only work to the primary",
+                        lag == null ? "unknown" : lag.toMillis() + " ms", maxLag.toMillis());
+            }
+        }
+        replicaUsable = usable;
+    }
+
+    private void writeHeartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (primaryJdbcTemplate.update(UPDATE_HEARTBEAT_SQL, Timestamp.valueOf(now), nodeId.get()) == 0) {
+                primaryJdbcTemplate.update(INSERT_HEARTBEAT_SQL, nodeId.get(), Timestamp.valueOf(now));
+            }
+        } catch (DataAccessException e) {
+            // A missed stamp only makes the replica look further behind
+            log.warn("⚠️ Failed to write replication heartbeat for node {}: {}", nodeId.get(), e.getMessage());
+        }
+    }
+
+    private Duration readLag() {
+        try {
+            Timestamp beatAt = replicaJdbcTemplate.queryForObject(SELECT_HEARTBEAT_SQL, Timestamp.class, nodeId.get());
+            if (beatAt == null) {
+                return null;
+            }
+            Duration lag = Duration.between(beatAt.toLocalDateTime(), LocalDateTime.now());
+            return lag.isNegative() ? Duration.ZERO : lag;
+        } catch (EmptyResultDataAccessException e) {
+            // This node's first heartbeat has not reached the replica yet
+            return null;
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Failed to read replication heartbeat from the replica: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Lag measured by a successful check and when (System.nanoTime) it was measured
+     */
+    private record LagSample(Duration lag, long measuredAtNanos) {
+    }
+}
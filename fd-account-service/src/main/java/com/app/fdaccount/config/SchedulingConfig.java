@@ -0,0 +1,52 @@
+package com.app.fdaccount.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Schedulers for @Scheduled tasks
+ *
+ * Batch jobs run for hours on the default single-thread scheduler, one after another.
+ * Short periodic tasks that must keep running during a batch (lease heartbeat, replica
+ * lag check, outbox relay) opt into the separate heartbeat scheduler with
+ * {@code @Scheduled(scheduler = SchedulingConfig.HEARTBEAT_SCHEDULER)}.
+ */
+@Slf4j
+@Configuration
+public class SchedulingConfig {
+
+    public static final String HEARTBEAT_SCHEDULER = "heartbeatScheduler";
+
+    @Value("${scheduling.heartbeat-threads:4}")
+    private int heartbeatThreads;
+
+    /**
+     * Default scheduler for batch jobs
+     * A single thread keeps jobs sequential (maturity processing waits for interest accrual)
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(60);
+        return scheduler;
+    }
+
+    /**
+     * Scheduler for heartbeats and pollers that batch jobs must not starve
+     */
+    @Bean(name = HEARTBEAT_SCHEDULER)
+    public ThreadPoolTaskScheduler heartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(1, heartbeatThreads));
+        scheduler.setThreadNamePrefix("heartbeat-");
+        log.info("✅ Heartbeat scheduler initialized with {} threads", Math.max(1, heartbeatThreads));
+        return scheduler;
+    }
+}
@@ -3,7 +3,9 @@ package com.app.fdaccount.controller;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,13 +14,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.app.fdaccount.dto.AccountResponse;
 import com.app.fdaccount.dto.AccountSummaryResponse;
+import com.app.fdaccount.dto.BulkCreateAccountRequest;
+import com.app.fdaccount.dto.BulkCreateAccountResponse;
 import com.app.fdaccount.dto.CreateAccountRequest;
+import com.app.fdaccount.dto.CursorPageResponse;
+import com.app.fdaccount.dto.CustomerPortfolioSummaryResponse;
 import com.app.fdaccount.dto.CustomizeAccountRequest;
 import com.app.fdaccount.dto.SearchAccountRequest;
 import com.app.fdaccount.enums.AccountIdType;
+import com.app.fdaccount.enums.ExportFormat;
+import com.app.fdaccount.service.AccountExportService;
 import com.app.fdaccount.service.AccountCreationService;
 import com.app.fdaccount.service.AccountInquiryService;
 
@@ -41,6 +50,7 @@ public class AccountController {
 
     private final AccountCreationService accountCreationService;
     private final AccountInquiryService accountInquiryService;
+    private final AccountExportService accountExportService;
 
     /**
      * Create a new FD account with values inherited from product
@@ -56,6 +66,21 @@ public class AccountController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Open many FD accounts in one request with per-account results
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Bulk Create FD Accounts",
+               description = "Open many product-inherited FD accounts at once; each account succeeds or fails independently")
+    public ResponseEntity<BulkCreateAccountResponse> createAccounts(
+            @Valid @RequestBody BulkCreateAccountRequest request) {
+
+        log.info("REST: Bulk creating {} FD accounts", request.getAccounts().size());
+        BulkCreateAccountResponse response = accountCreationService.createAccounts(request);
+        HttpStatus status = response.getFailedCount() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     /**
      * Create a new FD account with customized values
      */
@@ -79,10 +104,12 @@ public class AccountController {
     public ResponseEntity<AccountResponse> getAccount(
             @PathVariable String identifier,
             @Parameter(description = "Type of identifier: ACCOUNT_NUMBER, IBAN, INTERNAL_ID")
-            @RequestParam(defaultValue = "ACCOUNT_NUMBER") AccountIdType idType) {
+            @RequestParam(defaultValue = "ACCOUNT_NUMBER") AccountIdType idType,
+            @Parameter(description = "Include the full balance history in addition to current balances")
+            @RequestParam(defaultValue = "false") boolean includeBalanceHistory) {
         
         log.info("REST: Fetching account: {} (type: {})", identifier, idType);
-        AccountResponse response = accountInquiryService.getAccount(identifier, idType);
+        AccountResponse response = accountInquiryService.getAccount(identifier, idType, includeBalanceHistory);
         return ResponseEntity.ok(response);
     }
 
@@ -114,6 +141,20 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get aggregated portfolio summary for a customer
+     */
+    @GetMapping("/customer/{customerId}/summary")
+    @Operation(summary = "Get Customer Portfolio Summary",
+               description = "Get account counts, balances and account rows for a customer, aggregated in SQL")
+    public ResponseEntity<CustomerPortfolioSummaryResponse> getCustomerPortfolioSummary(
+            @PathVariable Long customerId) {
+        
+        log.info("REST: Fetching portfolio summary for customer: {}", customerId);
+        CustomerPortfolioSummaryResponse response = accountInquiryService.getCustomerPortfolioSummary(customerId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Search accounts with criteria
      */
@@ -128,6 +169,20 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Search accounts with keyset pagination
+     */
+    @PostMapping("/search/cursor")
+    @Operation(summary = "Search Accounts (Keyset)",
+               description = "Search FD accounts slice by slice; pass nextCursor back as cursor for the next slice. Suited to deep scrolling")
+    public ResponseEntity<CursorPageResponse<AccountSummaryResponse>> searchAccountsByCursor(
+            @Valid @RequestBody SearchAccountRequest request) {
+
+        log.info("REST: Keyset search of accounts after cursor {}", request.getCursor());
+        CursorPageResponse<AccountSummaryResponse> response = accountInquiryService.searchAccountsByCursor(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get accounts maturing in next N days
      */
@@ -171,6 +226,66 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Stream all accounts of a branch
+     */
+    @GetMapping("/export/branch/{branchCode}")
+    @Operation(summary = "Export Accounts by Branch",
+               description = "Stream all accounts of a branch as NDJSON or CSV with constant memory")
+    public ResponseEntity<StreamingResponseBody> exportAccountsByBranch(
+            @PathVariable String branchCode,
+            @Parameter(description = "ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        log.info("REST: Exporting accounts for branch: {} as {}", branchCode, format);
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        return exportResponse(exportFormat, "accounts-branch-" + branchCode,
+                out -> accountExportService.exportAccountsByBranch(branchCode, exportFormat, out));
+    }
+
+    /**
+     * Stream all accounts of a product
+     */
+    @GetMapping("/export/product/{productCode}")
+    @Operation(summary = "Export Accounts by Product",
+               description = "Stream all accounts of an FD product as NDJSON or CSV with constant memory")
+    public ResponseEntity<StreamingResponseBody> exportAccountsByProduct(
+            @PathVariable String productCode,
+            @Parameter(description = "ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        log.info("REST: Exporting accounts for product: {} as {}", productCode, format);
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        return exportResponse(exportFormat, "accounts-product-" + productCode,
+                out -> accountExportService.exportAccountsByProduct(productCode, exportFormat, out));
+    }
+
+    /**
+     * Stream all accounts of a customer
+     */
+    @GetMapping("/export/customer/{customerId}")
+    @Operation(summary = "Export Customer Accounts",
+               description = "Stream all accounts of a customer as NDJSON or CSV with constant memory")
+    public ResponseEntity<StreamingResponseBody> exportAccountsByCustomer(
+            @PathVariable Long customerId,
+            @Parameter(description = "ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        log.info("REST: Exporting accounts for customer: {} as {}", customerId, format);
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        return exportResponse(exportFormat, "accounts-customer-" + customerId,
+                out -> accountExportService.exportAccountsByCustomer(customerId, exportFormat, out));
+    }
+
+    static ResponseEntity<StreamingResponseBody> exportResponse(ExportFormat format, String fileName,
+                                                                StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + fileName + "." + format.name().toLowerCase() + "\"")
+                .body(body);
+    }
+
     /**
      * Check if account number exists
      */
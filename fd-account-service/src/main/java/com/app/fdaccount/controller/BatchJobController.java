@@ -0,0 +1,89 @@
+package com.app.fdaccount.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.app.fdaccount.batch.StatementGenerationBatch;
+import com.app.fdaccount.dto.BatchJobExecutionResponse;
+import com.app.fdaccount.enums.StatementPeriod;
+import com.app.fdaccount.service.BatchJobService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST Controller for batch job run history
+ */
+@Slf4j
+@RestController
+@RequestMapping("/batch-jobs")
+@RequiredArgsConstructor
+@Tag(name = "Batch Jobs", description = "APIs for inspecting scheduled batch job executions and starting on-demand runs")
+public class BatchJobController {
+
+    private final BatchJobService batchJobService;
+    private final StatementGenerationBatch statementGenerationBatch;
+
+    /**
+     * Get batch job execution history
+     */
+    @GetMapping("/executions")
+    @Operation(summary = "Get Batch Job Executions",
+               description = "Get per-partition execution checkpoints, newest business date first")
+    public ResponseEntity<Page<BatchJobExecutionResponse>> getExecutions(
+            @Parameter(description = "Job name, e.g. INTEREST_CALCULATION")
+            @RequestParam(required = false) String jobName,
+            @Parameter(description = "Business date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("REST: Getting batch job executions - job: {}, date: {}", jobName, businessDate);
+        Page<BatchJobExecutionResponse> response = batchJobService.getExecutions(jobName, businessDate, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get a single batch job execution
+     */
+    @GetMapping("/executions/{id}")
+    @Operation(summary = "Get Batch Job Execution", description = "Get a batch job execution checkpoint by ID")
+    public ResponseEntity<BatchJobExecutionResponse> getExecution(@PathVariable Long id) {
+        log.info("REST: Getting batch job execution: {}", id);
+        BatchJobExecutionResponse response = batchJobService.getExecution(id);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Generate account statements for a closed period
+     */
+    @PostMapping("/statements")
+    @Operation(summary = "Generate Statements",
+               description = "Start or resume statement generation for a closed monthly or quarterly period in the background. " +
+                             "Progress is visible in the execution history under the returned job name.")
+    public ResponseEntity<String> generateStatements(
+            @Parameter(description = "Statement period: monthly or quarterly")
+            @RequestParam(defaultValue = "monthly") String period,
+            @Parameter(description = "Last day of the period (yyyy-MM-dd); defaults to the most recently ended period")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodEnd,
+            @Parameter(description = "Restrict the run to one branch")
+            @RequestParam(required = false) String branchCode) {
+
+        log.info("REST: Generating {} statements - period end: {}, branch: {}", period, periodEnd, branchCode);
+        String jobName = statementGenerationBatch.launch(StatementPeriod.fromName(period), periodEnd, branchCode);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobName);
+    }
+}
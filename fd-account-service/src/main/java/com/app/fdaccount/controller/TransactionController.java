@@ -14,11 +14,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.app.fdaccount.dto.PrematureWithdrawalInquiryRequest;
 import com.app.fdaccount.dto.PrematureWithdrawalInquiryResponse;
+import com.app.fdaccount.dto.PrematureWithdrawalScheduleRequest;
+import com.app.fdaccount.dto.PrematureWithdrawalScheduleResponse;
 import com.app.fdaccount.dto.TransactionRequest;
 import com.app.fdaccount.dto.TransactionResponse;
+import com.app.fdaccount.enums.ExportFormat;
+import com.app.fdaccount.service.AccountExportService;
 import com.app.fdaccount.service.PrematureWithdrawalService;
 import com.app.fdaccount.service.TransactionService;
 
@@ -41,6 +46,7 @@ public class TransactionController {
 
     private final TransactionService transactionService;
     private final PrematureWithdrawalService prematureWithdrawalService;
+    private final AccountExportService accountExportService;
 
     /**
      * Create a new transaction
@@ -103,6 +109,62 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Stream all transactions of an account
+     */
+    @GetMapping("/export/account/{accountNumber}")
+    @Operation(summary = "Export Account Transactions",
+               description = "Stream all transactions of an account in posting order as NDJSON or CSV with constant memory")
+    public ResponseEntity<StreamingResponseBody> exportAccountTransactions(
+            @PathVariable String accountNumber,
+            @Parameter(description = "ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        log.info("REST: Exporting transactions for account: {} as {}", accountNumber, format);
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        Long accountId = accountExportService.resolveAccountId(accountNumber);
+        return AccountController.exportResponse(exportFormat, "transactions-" + accountNumber,
+                out -> accountExportService.exportTransactions(accountId, exportFormat, out));
+    }
+
+    /**
+     * Get transaction history, optionally including archived rows
+     */
+    @GetMapping("/account/{accountNumber}/history")
+    @Operation(summary = "Get Account Transaction History",
+               description = "Get transactions for an account in a date range; includeArchived reads compacted months back from the ledger archive")
+    public ResponseEntity<List<TransactionResponse>> getTransactionHistory(
+            @PathVariable String accountNumber,
+            @Parameter(description = "From date (yyyy-MM-dd), inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "To date (yyyy-MM-dd), inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @Parameter(description = "Replace monthly accrual summaries with the archived daily rows")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        log.info("REST: Fetching transaction history for account: {} ({} to {}, archived: {})",
+                accountNumber, fromDate, toDate, includeArchived);
+        List<TransactionResponse> response = transactionService.getTransactionHistory(
+                accountNumber, fromDate, toDate, includeArchived);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get recent transactions across a customer's accounts
+     */
+    @GetMapping("/customer/{customerId}/recent")
+    @Operation(summary = "Get Recent Customer Transactions",
+               description = "Get the latest transactions across all accounts of a customer (at most 50)")
+    public ResponseEntity<List<TransactionResponse>> getRecentCustomerTransactions(
+            @PathVariable Long customerId,
+            @Parameter(description = "Number of transactions (max 50)")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        log.info("REST: Fetching {} recent transactions for customer: {}", limit, customerId);
+        List<TransactionResponse> response = transactionService.getRecentCustomerTransactions(customerId, limit);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get transactions with pagination
      */
@@ -138,6 +200,21 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Premature withdrawal payout schedule across exit dates
+     */
+    @PostMapping("/premature-withdrawal/schedule")
+    @Operation(summary = "Premature Withdrawal Schedule",
+               description = "Get payout, penalty and effective rate for every exit date in a range, at a fixed step")
+    public ResponseEntity<PrematureWithdrawalScheduleResponse> getPrematureWithdrawalSchedule(
+            @Valid @RequestBody PrematureWithdrawalScheduleRequest request) {
+
+        log.info("REST: Premature withdrawal schedule for account: {}", request.getAccountNumber());
+        PrematureWithdrawalScheduleResponse response =
+                prematureWithdrawalService.getPrematureWithdrawalSchedule(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Process premature withdrawal
      */
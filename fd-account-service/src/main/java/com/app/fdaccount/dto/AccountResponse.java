@@ -40,6 +40,7 @@ public class AccountResponse {
     private LocalDate effectiveDate;
     private LocalDate maturityDate;
     private LocalDate closureDate;
+    private LocalDate lastAccrualDate;
     
     // Settings
     private String interestCalculationMethod;
@@ -58,7 +59,8 @@ public class AccountResponse {
     
     // Relationships
     private List<RoleResponse> roles;
-    private List<BalanceResponse> balances;
+    private List<BalanceResponse> balances; // Current balance per type
+    private List<BalanceResponse> balanceHistory; // Populated only when requested
     
     // Audit
     private String remarks;
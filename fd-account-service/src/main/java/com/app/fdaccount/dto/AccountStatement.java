@@ -0,0 +1,43 @@
+package com.app.fdaccount.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Model of one rendered account statement
+ * Amounts are pre-formatted to the fixed column widths of the text template
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountStatement {
+
+    private String periodLabel;        // e.g. "MONTHLY 2026-09"
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+
+    private String accountNumber;
+    private String accountName;
+    private String productName;
+    private String branch;
+    private String status;
+    private String interestRate;
+    private LocalDate effectiveDate;
+    private LocalDate maturityDate;
+
+    private String openingPrincipal;
+    private String openingInterest;
+    private String openingTotal;
+    private String closingPrincipal;
+    private String closingInterest;
+    private String closingTotal;
+
+    private List<String> lines;        // One formatted row per transaction, in posting order
+    private LocalDate generatedOn;
+}
@@ -22,4 +22,5 @@ public class BalanceResponse {
     private BigDecimal balance;
     private LocalDate asOfDate;
     private String description;
+    private Boolean archived; // Read back from the ledger archive
 }
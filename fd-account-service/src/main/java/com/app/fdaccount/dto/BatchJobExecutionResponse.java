@@ -0,0 +1,37 @@
+package com.app.fdaccount.dto;
+
+import com.app.fdaccount.enums.BatchJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a batch job execution checkpoint
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobExecutionResponse {
+
+    private Long id;
+    private String jobName;
+    private LocalDate businessDate;
+    private Integer partitionIndex;
+    private Long rangeStart;
+    private Long rangeEnd;
+    private Long lastProcessedId;
+    private BatchJobStatus status;
+    private String owner;
+    private Integer successCount;
+    private Integer skippedCount;
+    private Integer errorCount;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.app.fdaccount.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for opening many FD accounts in one call
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateAccountRequest {
+
+    @NotEmpty(message = "At least one account is required")
+    @Size(max = 1000, message = "At most 1000 accounts can be opened at once")
+    private List<@Valid CreateAccountRequest> accounts;
+}
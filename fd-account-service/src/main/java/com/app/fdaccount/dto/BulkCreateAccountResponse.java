@@ -0,0 +1,43 @@
+package com.app.fdaccount.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for bulk account opening with one result per requested account
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateAccountResponse {
+
+    private int totalRequested;
+    private int createdCount;
+    private int failedCount;
+    private List<ItemResult> results;
+
+    /**
+     * Outcome of one requested account, in request order
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private boolean created;
+        private Long accountId;
+        private String accountNumber;
+        private String ibanNumber;
+        private BigDecimal maturityAmount;
+        private LocalDate maturityDate;
+        private String error;
+    }
+}
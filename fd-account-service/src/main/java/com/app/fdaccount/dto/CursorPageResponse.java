@@ -0,0 +1,24 @@
+package com.app.fdaccount.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One slice of a keyset-paginated listing
+ * Pass nextCursor back as the cursor to fetch the following slice
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private Integer size;
+    private Long nextCursor; // null on the last slice
+    private boolean hasNext;
+}
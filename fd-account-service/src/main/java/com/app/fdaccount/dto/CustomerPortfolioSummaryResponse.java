@@ -0,0 +1,70 @@
+package com.app.fdaccount.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.app.fdaccount.enums.AccountStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a customer's FD portfolio: counts and balances aggregated in SQL,
+ * plus a lightweight row per account
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerPortfolioSummaryResponse {
+
+    private Long customerId;
+    private Integer totalAccounts;
+    private Integer activeAccounts;
+    private Integer maturedAccounts;
+    private Integer closedAccounts;
+    private BigDecimal activePrincipalAmount;   // Principal currently invested (ACTIVE accounts)
+    private BigDecimal activeMaturityAmount;    // Expected maturity value of ACTIVE accounts
+    private BigDecimal totalInterestAccrued;    // Accrued interest balance across all accounts
+    private List<StatusTotals> statusTotals;
+    private List<AccountItem> accounts;
+
+    /**
+     * Totals for one account status
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatusTotals {
+        private AccountStatus status;
+        private Integer accountCount;
+        private BigDecimal principalAmount;
+        private BigDecimal maturityAmount;
+        private BigDecimal interestAccrued;
+    }
+
+    /**
+     * One account of the customer
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountItem {
+        private Long id;
+        private String accountNumber;
+        private String productName;
+        private AccountStatus status;
+        private BigDecimal principalAmount;
+        private BigDecimal interestRate;
+        private Integer termMonths;
+        private BigDecimal maturityAmount;
+        private BigDecimal interestAccrued;
+        private LocalDate effectiveDate;
+        private LocalDate maturityDate;
+    }
+}
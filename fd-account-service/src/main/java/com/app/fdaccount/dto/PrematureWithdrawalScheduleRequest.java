@@ -0,0 +1,35 @@
+package com.app.fdaccount.dto;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for a premature withdrawal payout schedule across a range of exit dates
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrematureWithdrawalScheduleRequest {
+
+    @NotBlank(message = "Account number is required")
+    @Size(max = 20, message = "Account number cannot exceed 20 characters")
+    private String accountNumber;
+
+    private LocalDate fromDate;    // First exit date; defaults to today (never before the effective date)
+
+    private LocalDate toDate;      // Last exit date; defaults to the day before maturity
+
+    @Min(value = 1, message = "Step must be at least 1 day")
+    @Max(value = 366, message = "Step cannot exceed 366 days")
+    @Builder.Default
+    private Integer stepDays = 1;  // Days between consecutive exit dates
+}
@@ -0,0 +1,58 @@
+package com.app.fdaccount.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a premature withdrawal payout schedule
+ * Each entry carries the same figures a single-date inquiry returns for that exit date
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrematureWithdrawalScheduleResponse {
+
+    private String accountNumber;
+    private LocalDate effectiveDate;
+    private LocalDate maturityDate;
+    private Integer totalTermDays;
+
+    private BigDecimal principalAmount;
+    private BigDecimal normalInterestRate;
+    private BigDecimal penaltyPercentage;
+    private BigDecimal revisedInterestRate;
+    private BigDecimal tdsRate;            // Zero when TDS does not apply
+
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private Integer stepDays;
+    private List<Entry> entries;
+
+    private String message;
+    private Boolean isEligible;
+
+    /**
+     * Payout for one exit date
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private LocalDate withdrawalDate;
+        private Integer daysHeld;
+        private BigDecimal interestEarned;
+        private BigDecimal penaltyAmount;
+        private BigDecimal tdsAmount;
+        private BigDecimal netInterest;
+        private BigDecimal netPayable;
+        private BigDecimal effectiveAnnualRate; // Net interest as an annual % of principal over the days held
+    }
+}
@@ -28,7 +28,7 @@ public class SearchAccountRequest {
     private LocalDate maturityDateFrom;
     private LocalDate maturityDateTo;
     
-    // Pagination
+    // Offset pagination (POST /accounts/search)
     @Builder.Default
     private Integer page = 0;
     
@@ -41,4 +41,8 @@ public class SearchAccountRequest {
     
     @Builder.Default
     private String sortDirection = "DESC";
+
+    // Keyset pagination (POST /accounts/search/cursor): ID of the last account of the previous
+    // slice, or null for the first slice; ordered by ID in sortDirection
+    private Long cursor;
 }
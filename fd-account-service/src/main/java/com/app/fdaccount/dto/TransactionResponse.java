@@ -20,6 +20,7 @@ import java.time.LocalDateTime;
 public class TransactionResponse {
 
     private Long id;
+    private String accountNumber; // Set on cross-account listings only
     private String transactionReference;
     private TransactionType transactionType;
     private BigDecimal amount;
@@ -41,6 +42,10 @@ public class TransactionResponse {
     
     // Related transaction
     private Long relatedTransactionId;
+
+    // Compaction
+    private Boolean isSummary; // Monthly roll-up of daily accruals
+    private Boolean archived;  // Read back from the ledger archive
     
     private LocalDateTime createdAt;
 }
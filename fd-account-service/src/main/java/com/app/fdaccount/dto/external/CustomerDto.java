@@ -2,6 +2,8 @@ package com.app.fdaccount.dto.external;
 
 import java.time.LocalDate;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,8 +18,12 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class CustomerDto {
 
+    @JsonAlias("id")
     private Long customerId;
+
+    @JsonAlias("fullName")
     private String customerName;
+
     private String email;
     private String phone;
     private String panNumber;
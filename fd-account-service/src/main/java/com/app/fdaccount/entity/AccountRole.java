@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -28,7 +29,8 @@ import lombok.NoArgsConstructor;
  * Represents the relationship between a customer and an FD account
  */
 @Entity
-@Table(name = "account_roles")
+@Table(name = "account_roles", indexes =
+        @Index(name = "idx_account_roles_customer", columnList = "customer_id, is_active"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -28,7 +29,8 @@ import lombok.NoArgsConstructor;
  * Represents all transactions on an FD account
  */
 @Entity
-@Table(name = "account_transactions")
+@Table(name = "account_transactions", indexes =
+        @Index(name = "idx_account_transactions_account_date", columnList = "account_id, transaction_date"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -93,6 +95,10 @@ public class AccountTransaction {
     @Column
     private Long relatedTransactionId;
 
+    // Monthly roll-up of archived daily accrual rows (null on rows written before compaction existed)
+    @Column
+    private Boolean isSummary;
+
     // Audit
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,107 @@
+package com.app.fdaccount.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.app.fdaccount.enums.BatchJobStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Batch Job Execution Entity
+ * Persistent checkpoint for one partition of a batch run on a business date.
+ * lastProcessedId is updated in the same transaction as each committed chunk,
+ * so a restarted run continues right after the last committed account.
+ */
+@Entity
+@Table(name = "batch_job_executions", uniqueConstraints =
+        @UniqueConstraint(columnNames = {"job_name", "business_date", "partition_index"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchJobExecution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 50)
+    private String jobName;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "partition_index", nullable = false)
+    private Integer partitionIndex;
+
+    @Column(nullable = false)
+    private Long rangeStart; // Exclusive lower account ID bound
+
+    @Column(nullable = false)
+    private Long rangeEnd; // Inclusive upper account ID bound
+
+    @Column(nullable = false)
+    private Long lastProcessedId; // Last account ID covered by a committed chunk
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BatchJobStatus status;
+
+    @Column(length = 100)
+    private String owner; // Node ID currently processing this partition
+
+    private LocalDateTime leaseUntil; // Claim expiry; extended with every checkpoint
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer successCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer skippedCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer errorCount = 0;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    // Audit
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -4,7 +4,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import org.hibernate.annotations.ColumnDefault;
 
 import com.app.fdaccount.enums.AccountStatus;
 import com.app.fdaccount.enums.MaturityInstruction;
@@ -18,10 +22,15 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.MapKey;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,13 +41,26 @@ import lombok.NoArgsConstructor;
  * Represents a Fixed Deposit account with all its attributes
  */
 @Entity
-@Table(name = "fd_accounts")
+// Fetch plan for single-account inquiry; only one collection is joined, as joining roles with
+// current balances would repeat each role once per balance type in the roles list
+@NamedEntityGraph(name = FdAccount.GRAPH_WITH_ROLES, attributeNodes = @NamedAttributeNode("roles"))
+@Table(name = "fd_accounts", indexes = {
+        // InnoDB appends the primary key to each secondary index, so equality on the leading
+        // columns also serves ORDER BY id for keyset search
+        @Index(name = "idx_fd_accounts_status_maturity", columnList = "status, maturity_date"),
+        @Index(name = "idx_fd_accounts_product_status", columnList = "product_code, status"),
+        @Index(name = "idx_fd_accounts_branch_status", columnList = "branch_code, status"),
+        @Index(name = "idx_fd_accounts_maturity_date", columnList = "maturity_date"),
+        @Index(name = "idx_fd_accounts_account_name", columnList = "account_name")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class FdAccount {
 
+    public static final String GRAPH_WITH_ROLES = "FdAccount.withRoles";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -91,6 +113,10 @@ public class FdAccount {
     @Column
     private LocalDate closureDate;
 
+    // Interest accrued up to and including this date (daily accrual watermark)
+    @Column
+    private LocalDate lastAccrualDate;
+
     // Account Settings
     @Column(length = 20)
     private String interestCalculationMethod; // SIMPLE, COMPOUND
@@ -139,6 +165,12 @@ public class FdAccount {
     @Column(length = 100)
     private String updatedBy;
 
+    // Optimistic lock; bumped by every posting, so postings from stale state fail and retry
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // Relationships
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
@@ -150,7 +182,12 @@ public class FdAccount {
 
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
-    private List<AccountBalance> balances = new ArrayList<>();
+    private List<AccountBalance> balances = new ArrayList<>(); // Append-only balance history
+
+    @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @MapKey(name = "balanceType")
+    @Builder.Default
+    private Map<String, AccountCurrentBalance> currentBalances = new HashMap<>();
 
     @PrePersist
     protected void onCreate() {
@@ -189,4 +226,39 @@ public class FdAccount {
         balances.add(balance);
         balance.setAccount(this);
     }
+
+    /**
+     * Current balance of a type, or the default if nothing has been posted
+     * Reads the one-row-per-type current balance map, never the history
+     */
+    public BigDecimal getCurrentBalance(String balanceType, BigDecimal defaultBalance) {
+        AccountCurrentBalance current = currentBalances.get(balanceType);
+        return current != null ? current.getBalance() : defaultBalance;
+    }
+
+    /**
+     * Post a balance: append a history row and update the current balance in place
+     * A back-dated posting is recorded in history but does not replace a later current balance
+     */
+    public void postBalance(String balanceType, BigDecimal balance, LocalDate asOfDate, String description) {
+        addBalance(AccountBalance.builder()
+                .balanceType(balanceType)
+                .balance(balance)
+                .asOfDate(asOfDate)
+                .description(description)
+                .build());
+
+        AccountCurrentBalance current = currentBalances.get(balanceType);
+        if (current == null) {
+            currentBalances.put(balanceType, AccountCurrentBalance.builder()
+                    .account(this)
+                    .balanceType(balanceType)
+                    .balance(balance)
+                    .asOfDate(asOfDate)
+                    .build());
+        } else if (!asOfDate.isBefore(current.getAsOfDate())) {
+            current.setBalance(balance);
+            current.setAsOfDate(asOfDate);
+        }
+    }
 }
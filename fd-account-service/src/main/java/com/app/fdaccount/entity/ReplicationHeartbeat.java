@@ -0,0 +1,33 @@
+package com.app.fdaccount.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Replication Heartbeat Entity
+ * Each node stamps its own row on the primary; the age of the stamp as seen on the
+ * read replica is that node's measure of replication lag.
+ */
+@Entity
+@Table(name = "replication_heartbeats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReplicationHeartbeat {
+
+    @Id
+    @Column(length = 100)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private LocalDateTime beatAt;
+}
@@ -0,0 +1,11 @@
+package com.app.fdaccount.enums;
+
+/**
+ * Batch Job Status Enum
+ * Lifecycle of one batch job execution (or one partition of it)
+ */
+public enum BatchJobStatus {
+    STARTED,    // Running, or interrupted before completion and eligible for restart
+    COMPLETED,  // All chunks committed
+    FAILED      // Aborted on an error; resumes from its checkpoint on the next run
+}
@@ -0,0 +1,32 @@
+package com.app.fdaccount.enums;
+
+/**
+ * Export Format Enum
+ * Wire formats for streaming list exports
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"), // One JSON object per line
+    CSV("text/csv");                // Header row, then one record per line
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Parse a format name case-insensitively
+     */
+    public static ExportFormat fromName(String name) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + name + " (use ndjson or csv)");
+    }
+}
@@ -0,0 +1,10 @@
+package com.app.fdaccount.enums;
+
+/**
+ * Outbox Status Enum
+ * Delivery state of one outbox event
+ */
+public enum OutboxStatus {
+    PENDING,    // Not yet accepted by its subscriber; claimed, retried with backoff, never dropped
+    DELIVERED   // Accepted by its subscriber; removed after the retention period
+}
@@ -0,0 +1,52 @@
+package com.app.fdaccount.enums;
+
+import java.time.LocalDate;
+
+/**
+ * Statement Period Enum
+ * Calendar periods covered by an account statement
+ */
+public enum StatementPeriod {
+    MONTHLY(1),   // Calendar month
+    QUARTERLY(3); // Calendar quarter (Jan-Mar, Apr-Jun, ...)
+
+    private final int months;
+
+    StatementPeriod(int months) {
+        this.months = months;
+    }
+
+    /**
+     * First day of the period ending on the given date
+     */
+    public LocalDate startOf(LocalDate periodEnd) {
+        return periodEnd.withDayOfMonth(1).minusMonths(months - 1L);
+    }
+
+    /**
+     * Last day of the most recent period that ended before the given date
+     */
+    public LocalDate lastEndBefore(LocalDate date) {
+        int monthsIntoPeriod = (date.getMonthValue() - 1) % months;
+        return date.withDayOfMonth(1).minusMonths(monthsIntoPeriod).minusDays(1);
+    }
+
+    /**
+     * Whether the given date is the last day of a period
+     */
+    public boolean isPeriodEnd(LocalDate date) {
+        return date.getMonthValue() % months == 0 && date.equals(date.withDayOfMonth(date.lengthOfMonth()));
+    }
+
+    /**
+     * Parse a period name case-insensitively
+     */
+    public static StatementPeriod fromName(String name) {
+        for (StatementPeriod period : values()) {
+            if (period.name().equalsIgnoreCase(name)) {
+                return period;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported statement period: " + name + " (use monthly or quarterly)");
+    }
+}
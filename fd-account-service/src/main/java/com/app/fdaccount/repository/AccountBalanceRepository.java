@@ -2,10 +2,12 @@ package com.app.fdaccount.repository;
 
 import com.app.fdaccount.entity.AccountBalance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -60,6 +62,35 @@ public interface AccountBalanceRepository extends JpaRepository<AccountBalance,
     /**
      * Delete old balances (for cleanup)
      */
+    @Modifying
     @Query("DELETE FROM AccountBalance b WHERE b.account.id = :accountId AND b.asOfDate < :cutoffDate")
-    void deleteOldBalances(@Param("accountId") Long accountId, @Param("cutoffDate") LocalDate cutoffDate);
+    int deleteOldBalances(@Param("accountId") Long accountId, @Param("cutoffDate") LocalDate cutoffDate);
+
+    /**
+     * Find balances older than a cutoff for a set of accounts, in posting order
+     */
+    @Query("SELECT b FROM AccountBalance b WHERE b.account.id IN :accountIds AND b.asOfDate < :cutoffDate " +
+           "ORDER BY b.account.id ASC, b.asOfDate ASC, b.id ASC")
+    List<AccountBalance> findByAccountIdsBefore(@Param("accountIds") List<Long> accountIds,
+                                                @Param("cutoffDate") LocalDate cutoffDate);
+
+    /**
+     * Latest balance of each type for a set of accounts, among entries dated before a date
+     * Balances are appended in posting order, so the highest ID per account and type is the latest
+     */
+    @Query("SELECT b.account.id AS accountId, b.balanceType AS balanceType, b.balance AS balance " +
+           "FROM AccountBalance b WHERE b.id IN (" +
+           "SELECT MAX(b2.id) FROM AccountBalance b2 WHERE b2.account.id IN :accountIds AND b2.asOfDate < :beforeDate " +
+           "GROUP BY b2.account.id, b2.balanceType)")
+    List<BalanceSnapshotRow> findLatestBalancesBefore(@Param("accountIds") List<Long> accountIds,
+                                                      @Param("beforeDate") LocalDate beforeDate);
+
+    /**
+     * Balance of one type on one account at a point in time
+     */
+    interface BalanceSnapshotRow {
+        Long getAccountId();
+        String getBalanceType();
+        BigDecimal getBalance();
+    }
 }
@@ -0,0 +1,31 @@
+package com.app.fdaccount.repository;
+
+import com.app.fdaccount.entity.AccountCurrentBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for AccountCurrentBalance entity
+ */
+@Repository
+public interface AccountCurrentBalanceRepository extends JpaRepository<AccountCurrentBalance, Long> {
+
+    /**
+     * Find the current balance of one type for an account
+     */
+    @Query("SELECT c FROM AccountCurrentBalance c WHERE c.account.id = :accountId AND c.balanceType = :balanceType")
+    Optional<AccountCurrentBalance> findByAccountIdAndBalanceType(@Param("accountId") Long accountId,
+                                                                  @Param("balanceType") String balanceType);
+
+    /**
+     * Find current balances of the given types for many accounts in one query
+     */
+    @Query("SELECT c FROM AccountCurrentBalance c WHERE c.account.id IN :accountIds AND c.balanceType IN :balanceTypes")
+    List<AccountCurrentBalance> findByAccountIdsAndBalanceTypes(@Param("accountIds") List<Long> accountIds,
+                                                                @Param("balanceTypes") List<String> balanceTypes);
+}
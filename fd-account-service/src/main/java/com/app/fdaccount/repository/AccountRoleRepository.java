@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -68,4 +69,20 @@ public interface AccountRoleRepository extends JpaRepository<AccountRole, Long>
      */
     @Query("SELECT COUNT(r) FROM AccountRole r WHERE r.account.id = :accountId AND r.isActive = true")
     long countActiveRolesByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * Primary owner names of many accounts in one query, for list responses
+     * Callers bound the ID list (AccountInquiryService queries at most 1000 IDs at a time)
+     */
+    @Query("SELECT r.account.id AS accountId, r.customerName AS customerName FROM AccountRole r " +
+           "WHERE r.account.id IN :accountIds AND r.isPrimary = true ORDER BY r.id")
+    List<PrimaryOwnerRow> findPrimaryOwnerNames(@Param("accountIds") Collection<Long> accountIds);
+
+    /**
+     * Primary owner of an account, read as columns rather than as an entity
+     */
+    interface PrimaryOwnerRow {
+        Long getAccountId();
+        String getCustomerName();
+    }
 }
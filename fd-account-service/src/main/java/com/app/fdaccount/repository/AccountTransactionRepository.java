@@ -2,16 +2,24 @@ package com.app.fdaccount.repository;
 
 import com.app.fdaccount.entity.AccountTransaction;
 import com.app.fdaccount.enums.TransactionType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository interface for AccountTransaction entity
@@ -24,6 +32,14 @@ public interface AccountTransactionRepository extends JpaRepository<AccountTrans
      */
     Optional<AccountTransaction> findByTransactionReference(String transactionReference);
 
+    /**
+     * Resolve the account ID a transaction was posted to
+     * Read-write so a reversal always resolves its target on the primary, never a lagging replica
+     */
+    @Transactional
+    @Query("SELECT t.account.id FROM AccountTransaction t WHERE t.transactionReference = :transactionReference")
+    Optional<Long> findAccountIdByTransactionReference(@Param("transactionReference") String transactionReference);
+
     /**
      * Find all transactions for an account
      */
@@ -42,6 +58,39 @@ public interface AccountTransactionRepository extends JpaRepository<AccountTrans
     @Query("SELECT t FROM AccountTransaction t WHERE t.account.accountNumber = :accountNumber ORDER BY t.transactionDate DESC")
     List<AccountTransaction> findByAccountNumber(@Param("accountNumber") String accountNumber);
 
+    /**
+     * Stream export rows of an account's transactions in posting order
+     * The stream must be consumed and closed inside a read-only transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = FdAccountRepository.STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id AS id, t.transactionReference AS transactionReference, t.transactionType AS transactionType, " +
+           "t.amount AS amount, t.transactionDate AS transactionDate, t.valueDate AS valueDate, " +
+           "t.description AS description, t.principalBalanceAfter AS principalBalanceAfter, " +
+           "t.interestBalanceAfter AS interestBalanceAfter, t.totalBalanceAfter AS totalBalanceAfter, " +
+           "t.isReversed AS isReversed FROM AccountTransaction t " +
+           "WHERE t.account.id = :accountId ORDER BY t.transactionDate ASC, t.id ASC")
+    Stream<TransactionExportRow> streamExportRowsByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * Stream the transactions of a set of accounts within a date range, grouped by account in posting order
+     * The stream must be consumed and closed inside a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = FdAccountRepository.STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.account.id AS accountId, t.id AS id, t.transactionReference AS transactionReference, " +
+           "t.transactionType AS transactionType, t.amount AS amount, t.transactionDate AS transactionDate, " +
+           "t.description AS description, t.totalBalanceAfter AS totalBalanceAfter, t.isReversed AS isReversed " +
+           "FROM AccountTransaction t WHERE t.account.id IN :accountIds " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate ORDER BY t.account.id ASC, t.id ASC")
+    Stream<StatementTransactionRow> streamStatementRows(@Param("accountIds") List<Long> accountIds,
+                                                        @Param("startDate") LocalDate startDate,
+                                                        @Param("endDate") LocalDate endDate);
+
     /**
      * Find transactions by type
      */
@@ -80,6 +129,21 @@ public interface AccountTransactionRepository extends JpaRepository<AccountTrans
     @Query("SELECT t FROM AccountTransaction t WHERE t.account.id = :accountId ORDER BY t.transactionDate DESC, t.createdAt DESC LIMIT 1")
     Optional<AccountTransaction> findLatestTransactionByAccountId(@Param("accountId") Long accountId);
 
+    /**
+     * Find the latest non-reversed transaction date of a given type for an account
+     */
+    @Query("SELECT MAX(t.transactionDate) FROM AccountTransaction t WHERE t.account.id = :accountId AND t.transactionType = :transactionType AND t.isReversed = false")
+    LocalDate findLatestTransactionDateByAccountIdAndType(@Param("accountId") Long accountId,
+                                                          @Param("transactionType") TransactionType transactionType);
+
+    /**
+     * Latest transactions across all accounts a customer holds an active role on, with the account fetched
+     */
+    @Query("SELECT t FROM AccountTransaction t JOIN FETCH t.account a " +
+           "WHERE a.id IN (SELECT r.account.id FROM AccountRole r WHERE r.customerId = :customerId AND r.isActive = true) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<AccountTransaction> findRecentByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
     /**
      * Find related transactions
      */
@@ -101,4 +165,46 @@ public interface AccountTransactionRepository extends JpaRepository<AccountTrans
      * Check if transaction reference exists
      */
     boolean existsByTransactionReference(String transactionReference);
+
+    /**
+     * Find daily accrual rows older than a cutoff that can be rolled up, in posting order
+     */
+    @Query("SELECT t FROM AccountTransaction t WHERE t.account.id IN :accountIds AND t.transactionType = :transactionType " +
+           "AND t.transactionDate < :cutoffDate AND t.isReversed = false AND t.relatedTransactionId IS NULL " +
+           "AND (t.isSummary IS NULL OR t.isSummary = false) ORDER BY t.account.id ASC, t.transactionDate ASC, t.id ASC")
+    List<AccountTransaction> findCompactableTransactions(@Param("accountIds") List<Long> accountIds,
+                                                         @Param("transactionType") TransactionType transactionType,
+                                                         @Param("cutoffDate") LocalDate cutoffDate);
+
+    /**
+     * Flat transaction row for exports
+     */
+    interface TransactionExportRow {
+        Long getId();
+        String getTransactionReference();
+        TransactionType getTransactionType();
+        BigDecimal getAmount();
+        LocalDate getTransactionDate();
+        LocalDate getValueDate();
+        String getDescription();
+        BigDecimal getPrincipalBalanceAfter();
+        BigDecimal getInterestBalanceAfter();
+        BigDecimal getTotalBalanceAfter();
+        Boolean getIsReversed();
+    }
+
+    /**
+     * Statement line of an account
+     */
+    interface StatementTransactionRow {
+        Long getAccountId();
+        Long getId();
+        String getTransactionReference();
+        TransactionType getTransactionType();
+        BigDecimal getAmount();
+        LocalDate getTransactionDate();
+        String getDescription();
+        BigDecimal getTotalBalanceAfter();
+        Boolean getIsReversed();
+    }
 }
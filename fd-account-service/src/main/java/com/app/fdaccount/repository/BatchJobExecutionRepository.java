@@ -0,0 +1,86 @@
+package com.app.fdaccount.repository;
+
+import com.app.fdaccount.entity.BatchJobExecution;
+import com.app.fdaccount.enums.BatchJobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for BatchJobExecution entity
+ */
+@Repository
+public interface BatchJobExecutionRepository extends JpaRepository<BatchJobExecution, Long> {
+
+    /**
+     * Find all partitions of a job run on a business date
+     */
+    List<BatchJobExecution> findByJobNameAndBusinessDateOrderByPartitionIndexAsc(String jobName, LocalDate businessDate);
+
+    /**
+     * Find all partitions of a job's runs on or after a business date
+     */
+    List<BatchJobExecution> findByJobNameAndBusinessDateGreaterThanEqual(String jobName, LocalDate businessDate);
+
+    /**
+     * Find a job's executions up to a business date in any of the given statuses
+     */
+    List<BatchJobExecution> findByJobNameAndBusinessDateLessThanEqualAndStatusIn(String jobName, LocalDate businessDate,
+                                                                               Collection<BatchJobStatus> statuses);
+
+    /**
+     * Find executions up to a business date in any of the given statuses
+     */
+    List<BatchJobExecution> findByBusinessDateLessThanEqualAndStatusIn(LocalDate businessDate,
+                                                                     Collection<BatchJobStatus> statuses);
+
+    /**
+     * Execution history, newest first, optionally filtered by job name and business date
+     */
+    @Query("SELECT e FROM BatchJobExecution e WHERE " +
+           "(:jobName IS NULL OR e.jobName = :jobName) AND " +
+           "(:businessDate IS NULL OR e.businessDate = :businessDate) " +
+           "ORDER BY e.businessDate DESC, e.jobName ASC, e.partitionIndex ASC")
+    Page<BatchJobExecution> searchExecutions(@Param("jobName") String jobName,
+                                             @Param("businessDate") LocalDate businessDate,
+                                             Pageable pageable);
+
+    /**
+     * Claim an unfinished partition if it is unowned, already ours, or its claim has expired
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE BatchJobExecution e SET e.owner = :owner, e.leaseUntil = :leaseUntil, e.updatedAt = :now " +
+           "WHERE e.id = :id AND e.status <> :completed AND " +
+           "(e.owner IS NULL OR e.owner = :owner OR e.leaseUntil IS NULL OR e.leaseUntil < :now)")
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("completed") BatchJobStatus completed,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Advance the checkpoint, add a committed chunk's counters and extend the claim
+     */
+    @Modifying
+    @Query("UPDATE BatchJobExecution e SET e.lastProcessedId = :lastProcessedId, " +
+           "e.successCount = e.successCount + :successCount, " +
+           "e.skippedCount = e.skippedCount + :skippedCount, " +
+           "e.errorCount = e.errorCount + :errorCount, " +
+           "e.leaseUntil = :leaseUntil, e.updatedAt = :now WHERE e.id = :id")
+    int advanceCheckpoint(@Param("id") Long id,
+                          @Param("lastProcessedId") Long lastProcessedId,
+                          @Param("successCount") int successCount,
+                          @Param("skippedCount") int skippedCount,
+                          @Param("errorCount") int errorCount,
+                          @Param("now") LocalDateTime now,
+                          @Param("leaseUntil") LocalDateTime leaseUntil);
+}
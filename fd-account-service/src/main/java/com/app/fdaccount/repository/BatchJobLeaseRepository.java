@@ -0,0 +1,40 @@
+package com.app.fdaccount.repository;
+
+import com.app.fdaccount.entity.BatchJobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for BatchJobLease entity
+ * All ownership changes are single conditional UPDATEs, so only one node can win a lease
+ */
+@Repository
+public interface BatchJobLeaseRepository extends JpaRepository<BatchJobLease, String> {
+
+    /**
+     * Take the lease if it has expired or is already held by the given owner
+     */
+    @Modifying
+    @Query("UPDATE BatchJobLease l SET l.owner = :owner, l.leaseUntil = :leaseUntil, l.acquiredAt = :now, " +
+           "l.updatedAt = :now WHERE l.jobName = :jobName AND (l.leaseUntil < :now OR l.owner = :owner)")
+    int takeOver(@Param("jobName") String jobName,
+                 @Param("owner") String owner,
+                 @Param("now") LocalDateTime now,
+                 @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Extend a lease still held by the given owner
+     */
+    @Modifying
+    @Query("UPDATE BatchJobLease l SET l.leaseUntil = :leaseUntil, l.updatedAt = :now " +
+           "WHERE l.jobName = :jobName AND l.owner = :owner")
+    int renew(@Param("jobName") String jobName,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+}
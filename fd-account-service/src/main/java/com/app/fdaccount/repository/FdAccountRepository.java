@@ -2,28 +2,75 @@ package com.app.fdaccount.repository;
 
 import com.app.fdaccount.entity.FdAccount;
 import com.app.fdaccount.enums.AccountStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository interface for FdAccount entity
  */
 @Repository
-public interface FdAccountRepository extends JpaRepository<FdAccount, Long> {
+public interface FdAccountRepository extends JpaRepository<FdAccount, Long>, JpaSpecificationExecutor<FdAccount> {
 
     /**
      * Find account by account number
      */
     Optional<FdAccount> findByAccountNumber(String accountNumber);
 
+    /**
+     * Find account by account number with its roles, for the account summary and full view
+     */
+    @EntityGraph(FdAccount.GRAPH_WITH_ROLES)
+    Optional<FdAccount> findWithRolesByAccountNumber(String accountNumber);
+
+    /**
+     * Find account by IBAN with its roles, for the full account view
+     */
+    @EntityGraph(FdAccount.GRAPH_WITH_ROLES)
+    Optional<FdAccount> findWithRolesByIbanNumber(String ibanNumber);
+
+    /**
+     * Find account by ID with its roles, for the full account view
+     */
+    @EntityGraph(FdAccount.GRAPH_WITH_ROLES)
+    Optional<FdAccount> findWithRolesById(Long id);
+
+    /**
+     * Resolve an account's ID from its account number
+     * Read-write so a posting always resolves its target on the primary, never a lagging replica
+     */
+    @Transactional
+    @Query("SELECT a.id FROM FdAccount a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findIdByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    /**
+     * Load an account for a balance posting
+     * The version is incremented at commit even when only balances and transactions change,
+     * so a concurrent posting computed from the same balances fails its optimistic check
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT a FROM FdAccount a WHERE a.id = :id")
+    Optional<FdAccount> findByIdForPosting(@Param("id") Long id);
+
     /**
      * Find account by IBAN
      */
@@ -60,6 +107,63 @@ public interface FdAccountRepository extends JpaRepository<FdAccount, Long> {
     @Query("SELECT DISTINCT a FROM FdAccount a JOIN a.roles r WHERE r.customerId = :customerId AND r.isActive = true")
     List<FdAccount> findByCustomerId(@Param("customerId") Long customerId);
 
+    /**
+     * Per-status totals of a customer's accounts, aggregated in SQL
+     * Interest is the current accrued-interest balance, joined on the (account, balance type) unique key
+     */
+    @Query("SELECT a.status AS status, COUNT(a) AS accountCount, " +
+           "SUM(a.principalAmount) AS totalPrincipal, SUM(a.maturityAmount) AS totalMaturity, " +
+           "COALESCE(SUM(c.balance), 0) AS totalInterestAccrued " +
+           "FROM FdAccount a LEFT JOIN AccountCurrentBalance c ON c.account = a AND c.balanceType = 'INTEREST_ACCRUED' " +
+           "WHERE a.id IN (SELECT r.account.id FROM AccountRole r WHERE r.customerId = :customerId AND r.isActive = true) " +
+           "GROUP BY a.status")
+    List<CustomerStatusTotals> summarizeByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * Column projection of a customer's accounts with their accrued interest, newest first
+     */
+    @Query("SELECT a.id AS id, a.accountNumber AS accountNumber, a.productName AS productName, " +
+           "a.principalAmount AS principalAmount, a.interestRate AS interestRate, a.termMonths AS termMonths, " +
+           "a.maturityAmount AS maturityAmount, a.status AS status, a.effectiveDate AS effectiveDate, " +
+           "a.maturityDate AS maturityDate, c.balance AS interestAccrued " +
+           "FROM FdAccount a LEFT JOIN AccountCurrentBalance c ON c.account = a AND c.balanceType = 'INTEREST_ACCRUED' " +
+           "WHERE a.id IN (SELECT r.account.id FROM AccountRole r WHERE r.customerId = :customerId AND r.isActive = true) " +
+           "ORDER BY a.effectiveDate DESC, a.id DESC")
+    List<CustomerAccountRow> findAccountRowsByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * Stream export rows of a branch's accounts in ID order
+     * The stream must be consumed and closed inside a read-only transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(ACCOUNT_EXPORT_SELECT + "WHERE a.branchCode = :branchCode ORDER BY a.id")
+    Stream<AccountExportRow> streamExportRowsByBranchCode(@Param("branchCode") String branchCode);
+
+    /**
+     * Stream export rows of a product's accounts in ID order
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(ACCOUNT_EXPORT_SELECT + "WHERE a.productCode = :productCode ORDER BY a.id")
+    Stream<AccountExportRow> streamExportRowsByProductCode(@Param("productCode") String productCode);
+
+    /**
+     * Stream export rows of the accounts a customer holds an active role on, in ID order
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(ACCOUNT_EXPORT_SELECT +
+           "WHERE a.id IN (SELECT r.account.id FROM AccountRole r WHERE r.customerId = :customerId AND r.isActive = true) " +
+           "ORDER BY a.id")
+    Stream<AccountExportRow> streamExportRowsByCustomerId(@Param("customerId") Long customerId);
+
     /**
      * Find accounts maturing between dates
      */
@@ -72,6 +176,26 @@ public interface FdAccountRepository extends JpaRepository<FdAccount, Long> {
      */
     List<FdAccount> findByMaturityDateAndStatus(LocalDate maturityDate, AccountStatus status);
 
+    /**
+     * Find active accounts maturing on a date with their roles fetched in the same query
+     */
+    @Query("SELECT DISTINCT a FROM FdAccount a LEFT JOIN FETCH a.roles WHERE a.maturityDate = :maturityDate AND a.status = 'ACTIVE'")
+    List<FdAccount> findMaturingAccountsWithRoles(@Param("maturityDate") LocalDate maturityDate);
+
+    /**
+     * Find the next chunk of active accounts maturing on a date after the given ID (keyset pagination)
+     */
+    @Query("SELECT a FROM FdAccount a WHERE a.maturityDate = :maturityDate AND a.status = 'ACTIVE' AND a.id > :lastId ORDER BY a.id ASC")
+    List<FdAccount> findMaturingAccountsAfterId(@Param("maturityDate") LocalDate maturityDate,
+                                                @Param("lastId") Long lastId,
+                                                Pageable pageable);
+
+    /**
+     * Find the next page of account IDs after the given ID, any status (keyset pagination)
+     */
+    @Query("SELECT a.id FROM FdAccount a WHERE a.id > :lastId ORDER BY a.id ASC")
+    List<Long> findAccountIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
     /**
      * Find all active accounts
      */
@@ -79,29 +203,65 @@ public interface FdAccountRepository extends JpaRepository<FdAccount, Long> {
     List<FdAccount> findAllActiveAccounts();
 
     /**
-     * Search accounts with multiple criteria
-     */
-    @Query("SELECT a FROM FdAccount a WHERE " +
-           "(:accountNumber IS NULL OR a.accountNumber LIKE %:accountNumber%) AND " +
-           "(:accountName IS NULL OR LOWER(a.accountName) LIKE LOWER(CONCAT('%', :accountName, '%'))) AND " +
-           "(:productCode IS NULL OR a.productCode = :productCode) AND " +
-           "(:status IS NULL OR a.status = :status) AND " +
-           "(:branchCode IS NULL OR a.branchCode = :branchCode) AND " +
-           "(:effectiveDateFrom IS NULL OR a.effectiveDate >= :effectiveDateFrom) AND " +
-           "(:effectiveDateTo IS NULL OR a.effectiveDate <= :effectiveDateTo) AND " +
-           "(:maturityDateFrom IS NULL OR a.maturityDate >= :maturityDateFrom) AND " +
-           "(:maturityDateTo IS NULL OR a.maturityDate <= :maturityDateTo)")
-    Page<FdAccount> searchAccounts(
-            @Param("accountNumber") String accountNumber,
-            @Param("accountName") String accountName,
-            @Param("productCode") String productCode,
-            @Param("status") AccountStatus status,
-            @Param("branchCode") String branchCode,
-            @Param("effectiveDateFrom") LocalDate effectiveDateFrom,
-            @Param("effectiveDateTo") LocalDate effectiveDateTo,
-            @Param("maturityDateFrom") LocalDate maturityDateFrom,
-            @Param("maturityDateTo") LocalDate maturityDateTo,
-            Pageable pageable);
+     * Find the next chunk of active accounts after the given ID, up to an inclusive upper bound
+     * (keyset pagination within an ID partition)
+     */
+    @Query("SELECT a FROM FdAccount a WHERE a.status = 'ACTIVE' AND a.id > :lastId AND a.id <= :upperId ORDER BY a.id ASC")
+    List<FdAccount> findActiveAccountsInIdRange(@Param("lastId") Long lastId,
+                                                @Param("upperId") Long upperId,
+                                                Pageable pageable);
+
+    /**
+     * Lowest ID among active accounts
+     */
+    @Query("SELECT MIN(a.id) FROM FdAccount a WHERE a.status = 'ACTIVE'")
+    Long findMinActiveAccountId();
+
+    /**
+     * Highest ID among active accounts
+     */
+    @Query("SELECT MAX(a.id) FROM FdAccount a WHERE a.status = 'ACTIVE'")
+    Long findMaxActiveAccountId();
+
+    /**
+     * Lowest account ID, any status
+     */
+    @Query("SELECT MIN(a.id) FROM FdAccount a")
+    Long findMinAccountId();
+
+    /**
+     * Highest account ID, any status
+     */
+    @Query("SELECT MAX(a.id) FROM FdAccount a")
+    Long findMaxAccountId();
+
+    /**
+     * Find the next chunk of accounts open at any time during a statement period,
+     * after the given ID and up to an inclusive upper bound
+     */
+    @Query(STATEMENT_ACCOUNT_SELECT +
+           "WHERE a.id > :lastId AND a.id <= :upperId AND a.effectiveDate <= :periodEnd " +
+           "AND (a.closureDate IS NULL OR a.closureDate >= :periodStart) ORDER BY a.id ASC")
+    List<StatementAccountRow> findStatementAccountsInIdRange(@Param("lastId") Long lastId,
+                                                             @Param("upperId") Long upperId,
+                                                             @Param("periodStart") LocalDate periodStart,
+                                                             @Param("periodEnd") LocalDate periodEnd,
+                                                             Pageable pageable);
+
+    /**
+     * Find the next chunk of a branch's accounts open at any time during a statement period,
+     * after the given ID and up to an inclusive upper bound
+     */
+    @Query(STATEMENT_ACCOUNT_SELECT +
+           "WHERE a.branchCode = :branchCode AND a.id > :lastId AND a.id <= :upperId " +
+           "AND a.effectiveDate <= :periodEnd AND (a.closureDate IS NULL OR a.closureDate >= :periodStart) " +
+           "ORDER BY a.id ASC")
+    List<StatementAccountRow> findStatementAccountsInIdRangeByBranch(@Param("branchCode") String branchCode,
+                                                                     @Param("lastId") Long lastId,
+                                                                     @Param("upperId") Long upperId,
+                                                                     @Param("periodStart") LocalDate periodStart,
+                                                                     @Param("periodEnd") LocalDate periodEnd,
+                                                                     Pageable pageable);
 
     /**
      * Find accounts by customer ID with pagination
@@ -118,4 +278,83 @@ public interface FdAccountRepository extends JpaRepository<FdAccount, Long> {
      * Count accounts by branch
      */
     long countByBranchCode(String branchCode);
+
+    // Integer.MIN_VALUE: makes MySQL Connector/J stream rows one by one instead of buffering the result
+    String STREAM_FETCH_SIZE = "-2147483648";
+
+    String ACCOUNT_EXPORT_SELECT = "SELECT a.id AS id, a.accountNumber AS accountNumber, a.accountName AS accountName, " +
+            "a.productCode AS productCode, a.productName AS productName, a.status AS status, " +
+            "a.principalAmount AS principalAmount, COALESCE(a.customInterestRate, a.interestRate) AS interestRate, " +
+            "a.termMonths AS termMonths, a.maturityAmount AS maturityAmount, a.effectiveDate AS effectiveDate, " +
+            "a.maturityDate AS maturityDate, a.branchCode AS branchCode FROM FdAccount a ";
+
+    String STATEMENT_ACCOUNT_SELECT = "SELECT a.id AS id, a.accountNumber AS accountNumber, " +
+            "a.accountName AS accountName, a.productName AS productName, a.status AS status, " +
+            "a.principalAmount AS principalAmount, COALESCE(a.customInterestRate, a.interestRate) AS interestRate, " +
+            "a.effectiveDate AS effectiveDate, a.maturityDate AS maturityDate, a.branchCode AS branchCode, " +
+            "a.branchName AS branchName FROM FdAccount a ";
+
+    /**
+     * Totals of one account status for a customer
+     */
+    interface CustomerStatusTotals {
+        AccountStatus getStatus();
+        Long getAccountCount();
+        BigDecimal getTotalPrincipal();
+        BigDecimal getTotalMaturity();
+        BigDecimal getTotalInterestAccrued();
+    }
+
+    /**
+     * One account of a customer, read as columns rather than as an entity
+     */
+    interface CustomerAccountRow {
+        Long getId();
+        String getAccountNumber();
+        String getProductName();
+        BigDecimal getPrincipalAmount();
+        BigDecimal getInterestRate();
+        Integer getTermMonths();
+        BigDecimal getMaturityAmount();
+        AccountStatus getStatus();
+        LocalDate getEffectiveDate();
+        LocalDate getMaturityDate();
+        BigDecimal getInterestAccrued();
+    }
+
+    /**
+     * Flat account row for exports
+     */
+    interface AccountExportRow {
+        Long getId();
+        String getAccountNumber();
+        String getAccountName();
+        String getProductCode();
+        String getProductName();
+        AccountStatus getStatus();
+        BigDecimal getPrincipalAmount();
+        BigDecimal getInterestRate();
+        Integer getTermMonths();
+        BigDecimal getMaturityAmount();
+        LocalDate getEffectiveDate();
+        LocalDate getMaturityDate();
+        String getBranchCode();
+    }
+
+    /**
+     * Account header fields of a statement
+     */
+    interface StatementAccountRow {
+        Long getId();
+        String getAccountNumber();
+        String getAccountName();
+        String getProductName();
+        AccountStatus getStatus();
+        BigDecimal getPrincipalAmount();
+        BigDecimal getInterestRate();
+        LocalDate getEffectiveDate();
+        LocalDate getMaturityDate();
+        String getBranchCode();
+        String getBranchName();
+    }
 }
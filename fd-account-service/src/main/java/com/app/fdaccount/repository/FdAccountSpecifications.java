@@ -0,0 +1,98 @@
+package com.app.fdaccount.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.app.fdaccount.dto.SearchAccountRequest;
+import com.app.fdaccount.entity.AccountRole;
+import com.app.fdaccount.entity.FdAccount;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Account search predicates
+ * Only the supplied filters become predicates, so the optimizer sees a plain conjunction it
+ * can match to an index instead of (:param IS NULL OR ...) clauses. Text filters are prefix
+ * matches, which MySQL serves as index range scans (the default collation is case-insensitive).
+ */
+public final class FdAccountSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private FdAccountSpecifications() {
+    }
+
+    /**
+     * Conjunction of the filters present in a search request
+     */
+    public static Specification<FdAccount> matching(SearchAccountRequest request) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (hasText(request.getAccountNumber())) {
+                predicates.add(cb.like(root.get("accountNumber"), prefixPattern(request.getAccountNumber()), LIKE_ESCAPE));
+            }
+            if (hasText(request.getAccountName())) {
+                predicates.add(cb.like(root.get("accountName"), prefixPattern(request.getAccountName()), LIKE_ESCAPE));
+            }
+            if (hasText(request.getProductCode())) {
+                predicates.add(cb.equal(root.get("productCode"), request.getProductCode()));
+            }
+            if (request.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), request.getStatus()));
+            }
+            if (hasText(request.getBranchCode())) {
+                predicates.add(cb.equal(root.get("branchCode"), request.getBranchCode()));
+            }
+            if (request.getCustomerId() != null) {
+                Subquery<Long> holders = query.subquery(Long.class);
+                var role = holders.from(AccountRole.class);
+                holders.select(role.get("account").get("id"))
+                        .where(cb.equal(role.get("customerId"), request.getCustomerId()),
+                               cb.isTrue(role.get("isActive")));
+                predicates.add(root.get("id").in(holders));
+            }
+            addRange(predicates, cb, root.get("effectiveDate"), request.getEffectiveDateFrom(), request.getEffectiveDateTo());
+            addRange(predicates, cb, root.get("maturityDate"), request.getMaturityDateFrom(), request.getMaturityDateTo());
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Accounts after the cursor in the given ID order
+     */
+    public static Specification<FdAccount> afterCursor(Long cursor, boolean descending) {
+        return (root, query, cb) -> cursor == null
+                ? cb.conjunction()
+                : descending ? cb.lessThan(root.get("id"), cursor) : cb.greaterThan(root.get("id"), cursor);
+    }
+
+    private static void addRange(List<Predicate> predicates, CriteriaBuilder cb,
+                                 Path<LocalDate> path, LocalDate from, LocalDate to) {
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(path, to));
+        }
+    }
+
+    private static String prefixPattern(String value) {
+        String escaped = value.trim()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
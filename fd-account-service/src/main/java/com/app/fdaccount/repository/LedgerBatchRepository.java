@@ -0,0 +1,307 @@
+package com.app.fdaccount.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.app.fdaccount.entity.AccountBalance;
+import com.app.fdaccount.entity.AccountRole;
+import com.app.fdaccount.entity.AccountTransaction;
+import com.app.fdaccount.entity.FdAccount;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC-batched writes for ledger rows produced by set-based batch jobs and bulk account opening
+ *
+ * Entities with IDENTITY keys cannot be insert-batched by Hibernate, so bulk
+ * postings go through JdbcTemplate.batchUpdate instead. The entity objects are
+ * used only as row carriers; they are not attached to a persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerBatchRepository {
+
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO account_transactions (account_id, transaction_reference, transaction_type, amount, " +
+            "transaction_date, value_date, description, performed_by, principal_balance_after, " +
+            "interest_balance_after, total_balance_after, is_reversed, related_transaction_id, is_summary, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ACCOUNT_SQL =
+            "INSERT INTO fd_accounts (account_number, iban_number, account_name, product_code, product_name, " +
+            "status, principal_amount, interest_rate, custom_interest_rate, term_months, maturity_amount, " +
+            "effective_date, maturity_date, interest_calculation_method, interest_payout_frequency, auto_renewal, " +
+            "maturity_instruction, maturity_transfer_account, branch_code, branch_name, tds_applicable, tds_rate, " +
+            "remarks, created_at, updated_at, created_by, updated_by, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_ROLE_SQL =
+            "INSERT INTO account_roles (account_id, customer_id, customer_name, role_type, ownership_percentage, " +
+            "is_primary, is_active, remarks, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_BALANCE_SQL =
+            "INSERT INTO account_balances (account_id, balance_type, balance, as_of_date, description, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // Later-or-equal as-of dates replace the current balance; back-dated rows only go to history
+    private static final String UPSERT_CURRENT_BALANCE_SQL =
+            "INSERT INTO account_current_balances (account_id, balance_type, balance, as_of_date, created_at, " +
+            "updated_at) VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+            "balance = IF(VALUES(as_of_date) >= as_of_date, VALUES(balance), balance), " +
+            "as_of_date = GREATEST(VALUES(as_of_date), as_of_date), updated_at = VALUES(updated_at)";
+
+    private static final String BACKFILL_CURRENT_BALANCES_SQL =
+            "INSERT IGNORE INTO account_current_balances (account_id, balance_type, balance, as_of_date, " +
+            "created_at, updated_at) " +
+            "SELECT b.account_id, b.balance_type, b.balance, b.as_of_date, NOW(), NOW() FROM account_balances b " +
+            "WHERE b.id = (SELECT MAX(b2.id) FROM account_balances b2 WHERE b2.account_id = b.account_id " +
+            "AND b2.balance_type = b.balance_type AND b2.as_of_date = (SELECT MAX(b3.as_of_date) " +
+            "FROM account_balances b3 WHERE b3.account_id = b.account_id AND b3.balance_type = b.balance_type)) " +
+            "AND NOT EXISTS (SELECT 1 FROM account_current_balances c WHERE c.account_id = b.account_id)";
+
+    private static final String COUNT_ACCOUNTS_WITHOUT_CURRENT_BALANCES_SQL =
+            "SELECT COUNT(*) FROM fd_accounts a WHERE NOT EXISTS " +
+            "(SELECT 1 FROM account_current_balances c WHERE c.account_id = a.id)";
+
+    private static final String UPDATE_ACCOUNT_TERMS_SQL =
+            "UPDATE fd_accounts SET status = ?, principal_amount = ?, effective_date = ?, maturity_date = ?, " +
+            "closure_date = ?, updated_at = ?, version = version + 1 WHERE id = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Batch insert new accounts and set their generated IDs and timestamps
+     * Child rows (roles, transactions, balances) are not written; insert them afterwards
+     */
+    public void insertAccounts(List<FdAccount> accounts) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_ACCOUNT_SQL,
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (FdAccount account : accounts) {
+                    ps.setString(1, account.getAccountNumber());
+                    ps.setString(2, account.getIbanNumber());
+                    ps.setString(3, account.getAccountName());
+                    ps.setString(4, account.getProductCode());
+                    ps.setString(5, account.getProductName());
+                    ps.setString(6, account.getStatus().name());
+                    ps.setBigDecimal(7, account.getPrincipalAmount());
+                    ps.setBigDecimal(8, account.getInterestRate());
+                    ps.setBigDecimal(9, account.getCustomInterestRate());
+                    ps.setInt(10, account.getTermMonths());
+                    ps.setBigDecimal(11, account.getMaturityAmount());
+                    ps.setDate(12, Date.valueOf(account.getEffectiveDate()));
+                    ps.setDate(13, Date.valueOf(account.getMaturityDate()));
+                    ps.setString(14, account.getInterestCalculationMethod());
+                    ps.setString(15, account.getInterestPayoutFrequency());
+                    ps.setBoolean(16, Boolean.TRUE.equals(account.getAutoRenewal()));
+                    ps.setString(17, account.getMaturityInstruction() != null
+                            ? account.getMaturityInstruction().name() : null);
+                    ps.setString(18, account.getMaturityTransferAccount());
+                    ps.setString(19, account.getBranchCode());
+                    ps.setString(20, account.getBranchName());
+                    ps.setBoolean(21, !Boolean.FALSE.equals(account.getTdsApplicable()));
+                    ps.setBigDecimal(22, account.getTdsRate());
+                    ps.setString(23, account.getRemarks());
+                    ps.setTimestamp(24, nowTs);
+                    ps.setTimestamp(25, nowTs);
+                    ps.setString(26, account.getCreatedBy());
+                    ps.setString(27, account.getUpdatedBy());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                // Keys come back in statement order, also for rewritten multi-row inserts
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    for (FdAccount account : accounts) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException(
+                                    "No generated ID returned for account " + account.getAccountNumber());
+                        }
+                        account.setId(keys.getLong(1));
+                        account.setCreatedAt(now);
+                        account.setUpdatedAt(now);
+                        account.setVersion(0L);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Batch insert account roles; each must reference an account with an ID
+     */
+    public void insertRoles(List<AccountRole> roles) {
+        if (roles.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ROLE_SQL, roles, roles.size(),
+                (PreparedStatement ps, AccountRole role) -> {
+                    ps.setLong(1, role.getAccount().getId());
+                    ps.setLong(2, role.getCustomerId());
+                    ps.setString(3, role.getCustomerName());
+                    ps.setString(4, role.getRoleType().name());
+                    ps.setBigDecimal(5, role.getOwnershipPercentage());
+                    ps.setBoolean(6, Boolean.TRUE.equals(role.getIsPrimary()));
+                    ps.setBoolean(7, !Boolean.FALSE.equals(role.getIsActive()));
+                    ps.setString(8, role.getRemarks());
+                    ps.setTimestamp(9, now);
+                    ps.setTimestamp(10, now);
+                });
+    }
+
+    /**
+     * Batch insert transactions; each must reference an account with an ID
+     */
+    public void insertTransactions(List<AccountTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactions, transactions.size(),
+                (PreparedStatement ps, AccountTransaction txn) -> {
+                    ps.setLong(1, txn.getAccount().getId());
+                    ps.setString(2, txn.getTransactionReference());
+                    ps.setString(3, txn.getTransactionType().name());
+                    ps.setBigDecimal(4, txn.getAmount());
+                    ps.setDate(5, Date.valueOf(txn.getTransactionDate()));
+                    ps.setDate(6, Date.valueOf(txn.getValueDate()));
+                    ps.setString(7, txn.getDescription());
+                    ps.setString(8, txn.getPerformedBy());
+                    ps.setBigDecimal(9, txn.getPrincipalBalanceAfter());
+                    ps.setBigDecimal(10, txn.getInterestBalanceAfter());
+                    ps.setBigDecimal(11, txn.getTotalBalanceAfter());
+                    ps.setBoolean(12, Boolean.TRUE.equals(txn.getIsReversed()));
+                    setNullableLong(ps, 13, txn.getRelatedTransactionId());
+                    ps.setBoolean(14, Boolean.TRUE.equals(txn.getIsSummary()));
+                    ps.setTimestamp(15, now);
+                });
+    }
+
+    /**
+     * Batch post balance rows: append them to the history and update the current
+     * balance per account and type in place; each must reference an account with an ID
+     */
+    public void insertBalances(List<AccountBalance> balances) {
+        if (balances.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_BALANCE_SQL, balances, balances.size(),
+                (PreparedStatement ps, AccountBalance balance) -> {
+                    ps.setLong(1, balance.getAccount().getId());
+                    ps.setString(2, balance.getBalanceType());
+                    ps.setBigDecimal(3, balance.getBalance());
+                    ps.setDate(4, Date.valueOf(balance.getAsOfDate()));
+                    ps.setString(5, balance.getDescription());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+
+        jdbcTemplate.batchUpdate(UPSERT_CURRENT_BALANCE_SQL, balances, balances.size(),
+                (PreparedStatement ps, AccountBalance balance) -> {
+                    ps.setLong(1, balance.getAccount().getId());
+                    ps.setString(2, balance.getBalanceType());
+                    ps.setBigDecimal(3, balance.getBalance());
+                    ps.setDate(4, Date.valueOf(balance.getAsOfDate()));
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                });
+    }
+
+    /**
+     * Number of accounts that have no current balance rows yet
+     */
+    public long countAccountsWithoutCurrentBalances() {
+        Long count = jdbcTemplate.queryForObject(COUNT_ACCOUNTS_WITHOUT_CURRENT_BALANCES_SQL, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Seed current balances from history for accounts that predate the current-balance table
+     * The latest as-of date per account and type wins, and the last row posted on that date
+     * (highest ID) on ties, matching FdAccount.postBalance and the balance history lookups
+     *
+     * @return number of current balance rows created
+     */
+    public int backfillCurrentBalances() {
+        return jdbcTemplate.update(BACKFILL_CURRENT_BALANCES_SQL);
+    }
+
+    /**
+     * Batch update status, principal and term dates of accounts
+     * Each row is updated only at the version the account was loaded with, and the version is
+     * bumped as JPA would, so neither side of a concurrent posting can overwrite the other.
+     *
+     * @throws ObjectOptimisticLockingFailureException if any account changed since it was loaded;
+     *         the caller's transaction must roll back and re-read the accounts
+     */
+    public void updateAccountTerms(List<FdAccount> accounts) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_ACCOUNT_TERMS_SQL, accounts, accounts.size(),
+                (PreparedStatement ps, FdAccount account) -> {
+                    ps.setString(1, account.getStatus().name());
+                    ps.setBigDecimal(2, account.getPrincipalAmount());
+                    ps.setDate(3, Date.valueOf(account.getEffectiveDate()));
+                    ps.setDate(4, Date.valueOf(account.getMaturityDate()));
+                    setNullableDate(ps, 5, account.getClosureDate());
+                    ps.setTimestamp(6, now);
+                    ps.setLong(7, account.getId());
+                    ps.setLong(8, account.getVersion());
+                });
+
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Drivers may report SUCCESS_NO_INFO (-2) for batched rows; only 0 means a missed version
+                if (count == 0) {
+                    throw new ObjectOptimisticLockingFailureException(FdAccount.class, accounts.get(index).getId());
+                }
+                index++;
+            }
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static void setNullableDate(PreparedStatement ps, int index, LocalDate value) throws SQLException {
+        if (value != null) {
+            ps.setDate(index, Date.valueOf(value));
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+}
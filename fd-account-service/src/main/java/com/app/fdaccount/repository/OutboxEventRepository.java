@@ -0,0 +1,85 @@
+package com.app.fdaccount.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.app.fdaccount.entity.OutboxEvent;
+import com.app.fdaccount.enums.OutboxStatus;
+
+/**
+ * Repository interface for OutboxEvent entity
+ * Events are inserted by OutboxService; claims and outcomes are conditional UPDATEs by the relay
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lock the oldest due, unclaimed events, skipping rows another relay is claiming right now
+     * Only the first pending event of each aggregate qualifies, so an aggregate's later events
+     * wait until the earlier ones are delivered and are never sent out of order.
+     */
+    @Query(value = "SELECT o.id FROM outbox_events o WHERE o.status = 'PENDING' " +
+           "AND o.destination IN (:destinations) AND o.next_attempt_at <= :now " +
+           "AND (o.claimed_until IS NULL OR o.claimed_until < :now) " +
+           "AND NOT EXISTS (SELECT 1 FROM outbox_events p WHERE p.destination = o.destination " +
+           "AND p.aggregate_type = o.aggregate_type AND p.aggregate_id = o.aggregate_id " +
+           "AND p.status = 'PENDING' AND p.id < o.id) " +
+           "ORDER BY o.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockClaimableIds(@Param("destinations") Collection<String> destinations,
+                                @Param("now") LocalDateTime now,
+                                @Param("limit") int limit);
+
+    /**
+     * Claim locked events for delivery by the given relay node
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = :owner, e.claimedUntil = :claimedUntil WHERE e.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("owner") String owner,
+              @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * Events by ID, oldest first
+     */
+    List<OutboxEvent> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    /**
+     * Mark events delivered if the given node still holds their claim
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :delivered, e.deliveredAt = :now, e.claimedBy = NULL, " +
+           "e.claimedUntil = NULL, e.lastError = NULL WHERE e.id IN :ids AND e.claimedBy = :owner")
+    int markDelivered(@Param("ids") Collection<Long> ids,
+                      @Param("owner") String owner,
+                      @Param("delivered") OutboxStatus delivered,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * Release a failed event for redelivery at the given time
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, " +
+           "e.lastError = :error, e.claimedBy = NULL, e.claimedUntil = NULL " +
+           "WHERE e.id = :id AND e.claimedBy = :owner")
+    int reschedule(@Param("id") Long id,
+                   @Param("owner") String owner,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    /**
+     * Remove events delivered before the cutoff
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :delivered AND e.deliveredAt < :cutoff")
+    int deleteDeliveredBefore(@Param("delivered") OutboxStatus delivered,
+                              @Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -1,28 +1,41 @@
 package com.app.fdaccount.service;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.app.common.event.AccountCreatedEvent;
 import com.app.fdaccount.dto.AccountResponse;
 import com.app.fdaccount.dto.AccountRoleRequest;
 import com.app.fdaccount.dto.BalanceResponse;
+import com.app.fdaccount.dto.BulkCreateAccountRequest;
+import com.app.fdaccount.dto.BulkCreateAccountResponse;
 import com.app.fdaccount.dto.CreateAccountRequest;
 import com.app.fdaccount.dto.CustomizeAccountRequest;
 import com.app.fdaccount.dto.RoleResponse;
 import com.app.fdaccount.dto.external.CalculationResultDto;
 import com.app.fdaccount.dto.external.CustomerDto;
 import com.app.fdaccount.dto.external.ProductDto;
-import com.app.fdaccount.entity.AccountBalance;
+import com.app.fdaccount.entity.AccountCurrentBalance;
 import com.app.fdaccount.entity.AccountRole;
 import com.app.fdaccount.entity.AccountTransaction;
 import com.app.fdaccount.entity.FdAccount;
@@ -30,14 +43,19 @@ import com.app.fdaccount.enums.AccountStatus;
 import com.app.fdaccount.enums.MaturityInstruction;
 import com.app.fdaccount.enums.TransactionType;
 import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.repository.LedgerBatchRepository;
 import com.app.fdaccount.service.accountnumber.AccountNumberGenerator;
 import com.app.fdaccount.service.integration.CalculatorServiceClient;
 import com.app.fdaccount.service.integration.CustomerServiceClient;
-import com.app.fdaccount.service.integration.EmailServiceClient;
 import com.app.fdaccount.service.integration.ProductServiceClient;
+import com.app.fdaccount.service.outbox.OutboxService;
+import com.app.fdaccount.service.outbox.OutboxService.OutboxMessage;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Service for FD Account creation
@@ -52,8 +70,14 @@ public class AccountCreationService {
         private final ProductServiceClient productServiceClient;
         private final CustomerServiceClient customerServiceClient;
         private final CalculatorServiceClient calculatorServiceClient;
-        private final EmailServiceClient emailServiceClient;
-        private final ApplicationEventPublisher eventPublisher;
+        private final OutboxService outboxService;
+        private final TransactionReferenceGenerator transactionReferenceGenerator;
+        private final LedgerBatchRepository ledgerBatchRepository;
+        private final TransactionTemplate transactionTemplate;
+
+        // Calculation defaults for product-inherited accounts
+        private static final String DEFAULT_CALCULATION_TYPE = "COMPOUND";
+        private static final String DEFAULT_COMPOUNDING_FREQUENCY = "QUARTERLY";
 
         @Value("${account-number.generator.iban.country-code:IN}")
         private String ibanCountryCode;
@@ -61,6 +85,12 @@ public class AccountCreationService {
         @Value("${account-number.generator.iban.bank-code:CRXA}")
         private String ibanBankCode;
 
+        @Value("${account.bulk-opening.chunk-size:100}")
+        private int bulkChunkSize;
+
+        @Value("${account.opening.dependency-timeout-ms:8000}")
+        private long dependencyTimeoutMs;
+
         /**
          * Create account with values inherited from product
          */
@@ -68,35 +98,196 @@ public class AccountCreationService {
         public AccountResponse createAccount(CreateAccountRequest request) {
                 log.info("Creating FD account with product: {}", request.getProductCode());
 
-                // 1. Validate and fetch product
-                log.debug("Fetching product: {}", request.getProductCode());
-                ProductDto product = productServiceClient.getProductByCode(request.getProductCode());
-                log.debug("Product fetched: {} - {}", product.getProductCode(), product.getProductName());
-                validateProductLimits(product, request.getPrincipalAmount(), request.getTermMonths());
+                // 1-3. Fetch and validate product and all customers concurrently, and calculate
+                // maturity as soon as the product is known
+                OpeningDependencies dependencies = fetchOpeningDependencies(
+                                request.getProductCode(),
+                                request.getRoles(),
+                                product -> validateProductLimits(product, request.getPrincipalAmount(),
+                                                request.getTermMonths()),
+                                product -> calculatorServiceClient.calculateMaturityAsync(
+                                                request.getPrincipalAmount(),
+                                                product.getBaseInterestRate(),
+                                                request.getTermMonths(),
+                                                DEFAULT_CALCULATION_TYPE, // Default calculation type for FD accounts
+                                                DEFAULT_COMPOUNDING_FREQUENCY, // Default compounding frequency
+                                                request.getEffectiveDate()));
+                ProductDto product = dependencies.product();
+                CalculationResultDto calculation = dependencies.calculation();
+                log.debug("Maturity calculated: Amount={}, Date={}",
+                                calculation.getMaturityAmount(), calculation.getMaturityDate());
 
-                // 2. Validate all customers
-                for (AccountRoleRequest roleRequest : request.getRoles()) {
-                        log.debug("Fetching customer: {}", roleRequest.getCustomerId());
-                        CustomerDto customer = customerServiceClient
-                                        .getCustomerById(roleRequest.getCustomerId());
-                        log.debug("Validated customer: {} - {}", customer.getCustomerId(),
-                                        customer.getCustomerName());
+                // 4-8. Generate account number, build account with roles, initial deposit and balances
+                FdAccount account = buildAccount(request, product, calculation);
+
+                // 9. Save account
+                FdAccount savedAccount = accountRepository.save(account);
+
+                log.info("✅ Created FD account: {} for customer with principal: {}",
+                                savedAccount.getAccountNumber(), savedAccount.getPrincipalAmount());
+
+                // 10. Record the account created event and the welcome email in the same transaction
+                outboxService.appendAll(accountOpenedMessages(savedAccount, product,
+                                dependencies.customers().get(primaryRole(savedAccount).getCustomerId())));
+
+                return mapToAccountResponse(savedAccount);
+        }
+
+        /**
+         * Open many product-inherited accounts at once
+         * Products and customers are looked up once per batch, maturities are computed locally,
+         * and rows are JDBC-batched per chunk. Each account succeeds or fails on its own.
+         */
+        public BulkCreateAccountResponse createAccounts(BulkCreateAccountRequest request) {
+                List<CreateAccountRequest> requests = request.getAccounts();
+                log.info("Bulk opening {} FD accounts", requests.size());
+
+                BulkCreateAccountResponse.ItemResult[] results = new BulkCreateAccountResponse.ItemResult[requests.size()];
+
+                // 1. Fetch each distinct product once
+                Map<String, ProductDto> products = new HashMap<>();
+                Set<String> productCodes = requests.stream()
+                                .map(CreateAccountRequest::getProductCode)
+                                .collect(Collectors.toCollection(LinkedHashSet::new));
+                for (String productCode : productCodes) {
+                        try {
+                                products.put(productCode, productServiceClient.getProductByCode(productCode));
+                        } catch (Exception e) {
+                                log.warn("⚠️ Product {} unavailable for bulk opening: {}", productCode, e.getMessage());
+                        }
                 }
 
-                // 3. Calculate maturity
-                log.debug("Calculating maturity for amount: {}, rate: {}, term: {} months",
-                                request.getPrincipalAmount(), product.getBaseInterestRate(),
-                                request.getTermMonths());
-                CalculationResultDto calculation = calculatorServiceClient.calculateMaturity(
-                                request.getPrincipalAmount(),
-                                product.getBaseInterestRate(),
-                                request.getTermMonths(),
-                                "COMPOUND", // Default calculation type for FD accounts
-                                "QUARTERLY" // Default compounding frequency
-                );
-                log.debug("Maturity calculated: Amount={}, Date={}",
-                                calculation.getMaturityAmount(), calculation.getMaturityDate());
+                // 2. Fetch all customers of the batch in bulk
+                Set<Long> customerIds = requests.stream()
+                                .flatMap(item -> item.getRoles().stream())
+                                .map(AccountRoleRequest::getCustomerId)
+                                .collect(Collectors.toCollection(LinkedHashSet::new));
+                Map<Long, CustomerDto> customers = customerServiceClient.getCustomersByIds(customerIds);
+
+                // 3. Validate, compute maturity and build every account in one pass
+                List<BulkItem> pending = new ArrayList<>();
+                for (int i = 0; i < requests.size(); i++) {
+                        CreateAccountRequest item = requests.get(i);
+                        try {
+                                ProductDto product = products.get(item.getProductCode());
+                                if (product == null) {
+                                        throw new IllegalArgumentException("Product not found: " + item.getProductCode());
+                                }
+                                validateProductLimits(product, item.getPrincipalAmount(), item.getTermMonths());
+                                for (AccountRoleRequest roleRequest : item.getRoles()) {
+                                        if (!customers.containsKey(roleRequest.getCustomerId())) {
+                                                throw new IllegalArgumentException(
+                                                                "Customer not found: " + roleRequest.getCustomerId());
+                                        }
+                                }
+
+                                CalculationResultDto calculation = calculatorServiceClient.calculateMaturity(
+                                                item.getPrincipalAmount(),
+                                                product.getBaseInterestRate(),
+                                                item.getTermMonths(),
+                                                DEFAULT_CALCULATION_TYPE,
+                                                DEFAULT_COMPOUNDING_FREQUENCY,
+                                                item.getEffectiveDate());
+
+                                pending.add(new BulkItem(i, buildAccount(item, product, calculation), product));
+                        } catch (Exception e) {
+                                results[i] = failedItem(i, e);
+                        }
+                }
+
+                // 4. Insert chunk by chunk; a failed chunk is retried one account at a time
+                for (int from = 0; from < pending.size(); from += bulkChunkSize) {
+                        List<BulkItem> chunk = pending.subList(from, Math.min(from + bulkChunkSize, pending.size()));
+                        try {
+                                transactionTemplate.executeWithoutResult(status -> insertAccounts(chunk, customers));
+                                chunk.forEach(bulkItem -> results[bulkItem.index()] = createdItem(bulkItem));
+                        } catch (Exception e) {
+                                log.warn("⚠️ Bulk insert of {} accounts failed, retrying individually: {}",
+                                                chunk.size(), e.getMessage());
+                                for (BulkItem bulkItem : chunk) {
+                                        try {
+                                                transactionTemplate.executeWithoutResult(
+                                                                status -> insertAccounts(List.of(bulkItem), customers));
+                                                results[bulkItem.index()] = createdItem(bulkItem);
+                                        } catch (Exception itemError) {
+                                                results[bulkItem.index()] = failedItem(bulkItem.index(), itemError);
+                                        }
+                                }
+                        }
+                }
 
+                int createdCount = (int) Arrays.stream(results)
+                                .filter(BulkCreateAccountResponse.ItemResult::isCreated)
+                                .count();
+                log.info("✅ Bulk opening finished: {} created, {} failed", createdCount,
+                                requests.size() - createdCount);
+
+                return BulkCreateAccountResponse.builder()
+                                .totalRequested(requests.size())
+                                .createdCount(createdCount)
+                                .failedCount(requests.size() - createdCount)
+                                .results(List.of(results))
+                                .build();
+        }
+
+        /**
+         * JDBC-batch insert accounts and their roles, initial deposits, balances and outbox events
+         */
+        private void insertAccounts(List<BulkItem> items, Map<Long, CustomerDto> customers) {
+                List<FdAccount> accounts = items.stream().map(BulkItem::account).collect(Collectors.toList());
+                ledgerBatchRepository.insertAccounts(accounts);
+                ledgerBatchRepository.insertRoles(accounts.stream()
+                                .flatMap(account -> account.getRoles().stream())
+                                .collect(Collectors.toList()));
+                ledgerBatchRepository.insertTransactions(accounts.stream()
+                                .flatMap(account -> account.getTransactions().stream())
+                                .collect(Collectors.toList()));
+                ledgerBatchRepository.insertBalances(accounts.stream()
+                                .flatMap(account -> account.getBalances().stream())
+                                .collect(Collectors.toList()));
+                outboxService.appendAll(items.stream()
+                                .flatMap(item -> accountOpenedMessages(item.account(), item.product(),
+                                                customers.get(primaryRole(item.account()).getCustomerId())).stream())
+                                .collect(Collectors.toList()));
+        }
+
+        /**
+         * Result for a committed account
+         */
+        private BulkCreateAccountResponse.ItemResult createdItem(BulkItem item) {
+                FdAccount account = item.account();
+                return BulkCreateAccountResponse.ItemResult.builder()
+                                .index(item.index())
+                                .created(true)
+                                .accountId(account.getId())
+                                .accountNumber(account.getAccountNumber())
+                                .ibanNumber(account.getIbanNumber())
+                                .maturityAmount(account.getMaturityAmount())
+                                .maturityDate(account.getMaturityDate())
+                                .build();
+        }
+
+        private BulkCreateAccountResponse.ItemResult failedItem(int index, Exception e) {
+                log.warn("❌ Bulk opening item {} failed: {}", index, e.getMessage());
+                return BulkCreateAccountResponse.ItemResult.builder()
+                                .index(index)
+                                .created(false)
+                                .error(e.getMessage())
+                                .build();
+        }
+
+        /**
+         * A validated account of a bulk request, with its position in the request
+         */
+        private record BulkItem(int index, FdAccount account, ProductDto product) {
+        }
+
+        /**
+         * Build a new product-inherited account with its number, roles, initial deposit
+         * and opening balances; nothing is persisted
+         */
+        private FdAccount buildAccount(CreateAccountRequest request, ProductDto product,
+                        CalculationResultDto calculation) {
                 // 4. Generate account number
                 String accountNumber = accountNumberGenerator.generateAccountNumber(request.getBranchCode());
                 String ibanNumber = accountNumberGenerator.generateIBAN(accountNumber, ibanCountryCode,
@@ -159,7 +350,7 @@ public class AccountCreationService {
 
                 // 7. Create initial deposit transaction
                 AccountTransaction initialDeposit = AccountTransaction.builder()
-                                .transactionReference(generateTransactionReference())
+                                .transactionReference(transactionReferenceGenerator.next())
                                 .transactionType(TransactionType.INITIAL_DEPOSIT)
                                 .amount(request.getPrincipalAmount())
                                 .transactionDate(request.getEffectiveDate())
@@ -174,35 +365,12 @@ public class AccountCreationService {
                 account.addTransaction(initialDeposit);
 
                 // 8. Create initial balances
-                AccountBalance principalBalance = AccountBalance.builder()
-                                .balanceType("PRINCIPAL")
-                                .balance(request.getPrincipalAmount())
-                                .asOfDate(request.getEffectiveDate())
-                                .description("Initial principal amount")
-                                .build();
-                account.addBalance(principalBalance);
+                account.postBalance("PRINCIPAL", request.getPrincipalAmount(),
+                                request.getEffectiveDate(), "Initial principal amount");
+                account.postBalance("INTEREST_ACCRUED", BigDecimal.ZERO,
+                                request.getEffectiveDate(), "Initial interest accrued");
 
-                AccountBalance interestBalance = AccountBalance.builder()
-                                .balanceType("INTEREST_ACCRUED")
-                                .balance(BigDecimal.ZERO)
-                                .asOfDate(request.getEffectiveDate())
-                                .description("Initial interest accrued")
-                                .build();
-                account.addBalance(interestBalance);
-
-                // 9. Save account
-                FdAccount savedAccount = accountRepository.save(account);
-
-                log.info("✅ Created FD account: {} for customer with principal: {}",
-                                savedAccount.getAccountNumber(), savedAccount.getPrincipalAmount());
-
-                // 10. Publish account created event
-                publishAccountCreatedEvent(savedAccount);
-
-                // 11. Send new account email to primary account holder
-                sendNewAccountEmail(savedAccount, product);
-
-                return mapToAccountResponse(savedAccount);
+                return account;
         }
 
         /**
@@ -212,17 +380,26 @@ public class AccountCreationService {
         public AccountResponse createCustomizedAccount(CustomizeAccountRequest request) {
                 log.info("Creating customized FD account with product: {}", request.getProductCode());
 
-                // 1. Validate and fetch product
-                ProductDto product = productServiceClient.getProductByCode(request.getProductCode());
-
-                // 2. Validate customized values against product limits
-                validateCustomizedValues(product, request);
-
-                // 3. Validate all customers
-                for (AccountRoleRequest roleRequest : request.getRoles()) {
-                        CustomerDto customer = customerServiceClient.getCustomerById(roleRequest.getCustomerId());
-                        log.debug("Validated customer: {} - {}", customer.getCustomerId(), customer.getCustomerName());
-                }
+                // 1-3. Fetch product and customers concurrently, validate customized values against
+                // product limits, and calculate maturity as soon as the product is known (step 5)
+                OpeningDependencies dependencies = fetchOpeningDependencies(
+                                request.getProductCode(),
+                                request.getRoles(),
+                                product -> validateCustomizedValues(product, request),
+                                product -> calculatorServiceClient.calculateMaturityAsync(
+                                                request.getPrincipalAmount(),
+                                                request.getCustomInterestRate() != null
+                                                                ? request.getCustomInterestRate()
+                                                                : product.getBaseInterestRate(),
+                                                request.getCustomTermMonths(),
+                                                request.getCustomInterestCalculationMethod() != null
+                                                                ? request.getCustomInterestCalculationMethod()
+                                                                : "COMPOUND",
+                                                request.getCustomInterestPayoutFrequency() != null
+                                                                ? request.getCustomInterestPayoutFrequency()
+                                                                : "QUARTERLY",
+                                                request.getEffectiveDate()));
+                ProductDto product = dependencies.product();
 
                 // 4. Use customized values or defaults
                 BigDecimal interestRate = request.getCustomInterestRate() != null ? request.getCustomInterestRate()
@@ -237,17 +414,8 @@ public class AccountCreationService {
                 BigDecimal tdsRate = request.getCustomTdsRate() != null ? request.getCustomTdsRate()
                                 : product.getTdsRate();
 
-                // 5. Calculate maturity with customized values
-                CalculationResultDto calculation = calculatorServiceClient.calculateMaturity(
-                                request.getPrincipalAmount(),
-                                interestRate,
-                                termMonths,
-                                request.getCustomInterestCalculationMethod() != null
-                                                ? request.getCustomInterestCalculationMethod()
-                                                : "COMPOUND",
-                                request.getCustomInterestPayoutFrequency() != null
-                                                ? request.getCustomInterestPayoutFrequency()
-                                                : "QUARTERLY");
+                // 5. Maturity with customized values (calculated above)
+                CalculationResultDto calculation = dependencies.calculation();
 
                 // 6. Generate account number
                 String accountNumber = accountNumberGenerator.generateAccountNumber(request.getBranchCode());
@@ -300,7 +468,7 @@ public class AccountCreationService {
 
                 // 9. Create initial deposit transaction
                 AccountTransaction initialDeposit = AccountTransaction.builder()
-                                .transactionReference(generateTransactionReference())
+                                .transactionReference(transactionReferenceGenerator.next())
                                 .transactionType(TransactionType.INITIAL_DEPOSIT)
                                 .amount(request.getPrincipalAmount())
                                 .transactionDate(request.getEffectiveDate())
@@ -315,19 +483,10 @@ public class AccountCreationService {
                 account.addTransaction(initialDeposit);
 
                 // 10. Create initial balances
-                account.addBalance(AccountBalance.builder()
-                                .balanceType("PRINCIPAL")
-                                .balance(request.getPrincipalAmount())
-                                .asOfDate(request.getEffectiveDate())
-                                .description("Initial principal amount")
-                                .build());
-
-                account.addBalance(AccountBalance.builder()
-                                .balanceType("INTEREST_ACCRUED")
-                                .balance(BigDecimal.ZERO)
-                                .asOfDate(request.getEffectiveDate())
-                                .description("Initial interest accrued")
-                                .build());
+                account.postBalance("PRINCIPAL", request.getPrincipalAmount(),
+                                request.getEffectiveDate(), "Initial principal amount");
+                account.postBalance("INTEREST_ACCRUED", BigDecimal.ZERO,
+                                request.getEffectiveDate(), "Initial interest accrued");
 
                 // 11. Save account
                 FdAccount savedAccount = accountRepository.save(account);
@@ -335,12 +494,84 @@ public class AccountCreationService {
                 log.info("✅ Created customized FD account: {} with custom rate: {}%, term: {} months",
                                 savedAccount.getAccountNumber(), interestRate, termMonths);
 
-                // 12. Send new account email to primary account holder
-                sendNewAccountEmail(savedAccount, product);
+                // 12. Record the account created event and the welcome email in the same transaction
+                outboxService.appendAll(accountOpenedMessages(savedAccount, product,
+                                dependencies.customers().get(primaryRole(savedAccount).getCustomerId())));
 
                 return mapToAccountResponse(savedAccount);
         }
 
+        /**
+         * Resolve product, customers and maturity for one account opening as a single composed flow
+         * Product and customer lookups run concurrently; the calculator call starts once the product
+         * has arrived and passed validation. The whole flow shares one deadline, and every failed
+         * lookup is reported rather than only the first.
+         */
+        private OpeningDependencies fetchOpeningDependencies(String productCode, List<AccountRoleRequest> roles,
+                        Consumer<ProductDto> productValidator,
+                        Function<ProductDto, Mono<CalculationResultDto>> maturityCalculation) {
+                Mono<ProductDto> product = productServiceClient.fetchProductByCode(productCode)
+                                .doOnNext(productValidator)
+                                .cache();
+
+                List<Long> customerIds = roles.stream()
+                                .map(AccountRoleRequest::getCustomerId)
+                                .distinct()
+                                .collect(Collectors.toList());
+                Mono<List<CustomerDto>> customers = Flux.fromIterable(customerIds)
+                                .flatMapDelayError(customerServiceClient::fetchCustomerById,
+                                                Math.max(1, customerIds.size()), 1)
+                                .collectList();
+
+                Mono<CalculationResultDto> calculation = product.flatMap(maturityCalculation);
+
+                try {
+                        return Mono.zipDelayError(product, customers, calculation)
+                                        .map(resolved -> new OpeningDependencies(resolved.getT1(), resolved.getT3(),
+                                                        resolved.getT2().stream().collect(Collectors.toMap(
+                                                                        CustomerDto::getCustomerId, customer -> customer,
+                                                                        (first, second) -> first))))
+                                        .timeout(Duration.ofMillis(dependencyTimeoutMs))
+                                        .block();
+                } catch (RuntimeException e) {
+                        throw aggregateOpeningErrors(e);
+                }
+        }
+
+        /**
+         * Turn a failed dependency flow into one exception: a single failure is rethrown as is
+         * (keeping its type for the error handler), several are joined into one message
+         */
+        private RuntimeException aggregateOpeningErrors(RuntimeException error) {
+                Throwable cause = Exceptions.unwrap(error);
+                if (cause instanceof TimeoutException) {
+                        return new RuntimeException("Account opening dependencies did not respond within "
+                                        + dependencyTimeoutMs + " ms", cause);
+                }
+
+                // A failed product also fails the maturity step with the same cached error
+                List<Throwable> errors = Exceptions.unwrapMultiple(cause).stream()
+                                .flatMap(e -> Exceptions.unwrapMultiple(e).stream())
+                                .distinct()
+                                .collect(Collectors.toList());
+                if (errors.size() == 1 && errors.get(0) instanceof RuntimeException single) {
+                        return single;
+                }
+
+                RuntimeException aggregated = new RuntimeException(errors.stream()
+                                .map(Throwable::getMessage)
+                                .collect(Collectors.joining("; ")));
+                errors.forEach(aggregated::addSuppressed);
+                return aggregated;
+        }
+
+        /**
+         * Product, maturity calculation and customers (by ID) resolved for one account opening
+         */
+        private record OpeningDependencies(ProductDto product, CalculationResultDto calculation,
+                        Map<Long, CustomerDto> customers) {
+        }
+
         /**
          * Validate product limits
          */
@@ -396,14 +627,6 @@ public class AccountCreationService {
                 }
         }
 
-        /**
-         * Generate unique transaction reference
-         */
-        private String generateTransactionReference() {
-                return "TXN-" + LocalDate.now().toString().replace("-", "") + "-" +
-                                UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        }
-
         /**
          * Map entity to response DTO
          */
@@ -424,6 +647,7 @@ public class AccountCreationService {
                                 .effectiveDate(account.getEffectiveDate())
                                 .maturityDate(account.getMaturityDate())
                                 .closureDate(account.getClosureDate())
+                                .lastAccrualDate(account.getLastAccrualDate())
                                 .interestCalculationMethod(account.getInterestCalculationMethod())
                                 .interestPayoutFrequency(account.getInterestPayoutFrequency())
                                 .autoRenewal(account.getAutoRenewal())
@@ -434,7 +658,7 @@ public class AccountCreationService {
                                 .tdsApplicable(account.getTdsApplicable())
                                 .tdsRate(account.getTdsRate())
                                 .roles(mapRoles(account.getRoles()))
-                                .balances(mapBalances(account.getBalances()))
+                                .balances(mapBalances(account.getCurrentBalances().values()))
                                 .remarks(account.getRemarks())
                                 .createdAt(account.getCreatedAt())
                                 .updatedAt(account.getUpdatedAt())
@@ -463,92 +687,81 @@ public class AccountCreationService {
                                 .collect(Collectors.toList());
         }
 
-        private List<BalanceResponse> mapBalances(List<AccountBalance> balances) {
+        private List<BalanceResponse> mapBalances(Collection<AccountCurrentBalance> balances) {
                 if (balances == null || balances.isEmpty()) {
                         return null;
                 }
                 return balances.stream()
+                                .sorted(Comparator.comparing(AccountCurrentBalance::getBalanceType))
                                 .map(balance -> BalanceResponse.builder()
                                                 .id(balance.getId())
                                                 .balanceType(balance.getBalanceType())
                                                 .balance(balance.getBalance())
                                                 .asOfDate(balance.getAsOfDate())
-                                                .description(balance.getDescription())
                                                 .build())
                                 .collect(Collectors.toList());
         }
 
         /**
-         * Publish account created event for event consumption
+         * Outbox messages for a new account: the account created event and, when the primary
+         * holder has an email address, the new account email
+         * Must be appended in the account's transaction, so they are sent only for committed
+         * accounts and are never lost once the account exists.
          */
-        private void publishAccountCreatedEvent(FdAccount account) {
-                try {
-                        // Find primary account holder
-                        AccountRole primaryRole = account.getRoles().stream()
-                                        .filter(AccountRole::getIsPrimary)
-                                        .findFirst()
-                                        .orElse(account.getRoles().get(0));
-
-                        // Create and publish event
-                        AccountCreatedEvent event = AccountCreatedEvent.builder()
-                                        .accountId(account.getId())
-                                        .accountNumber(account.getAccountNumber())
-                                        .customerId(primaryRole.getCustomerId())
-                                        .customerName(primaryRole.getCustomerName())
-                                        .principalAmount(account.getPrincipalAmount())
-                                        .maturityAmount(account.getMaturityAmount())
-                                        .maturityDate(account.getMaturityDate())
-                                        .productCode(account.getProductCode())
-                                        .termMonths(account.getTermMonths())
-                                        .eventTimestamp(java.time.LocalDateTime.now())
-                                        .build();
+        private List<OutboxMessage> accountOpenedMessages(FdAccount account, ProductDto product, CustomerDto customer) {
+                AccountRole primaryRole = primaryRole(account);
+                List<OutboxMessage> messages = new ArrayList<>();
 
-                        eventPublisher.publishEvent(event);
-                        log.info("✅ Published AccountCreatedEvent for account: {} (Customer: {})",
-                                        account.getAccountNumber(), primaryRole.getCustomerId());
-                } catch (Exception e) {
-                        log.error("❌ Failed to publish AccountCreatedEvent: {}", e.getMessage(), e);
+                AccountCreatedEvent event = AccountCreatedEvent.builder()
+                                .accountId(account.getId())
+                                .accountNumber(account.getAccountNumber())
+                                .customerId(primaryRole.getCustomerId())
+                                .customerName(primaryRole.getCustomerName())
+                                .principalAmount(account.getPrincipalAmount())
+                                .maturityAmount(account.getMaturityAmount())
+                                .maturityDate(account.getMaturityDate())
+                                .productCode(account.getProductCode())
+                                .termMonths(account.getTermMonths())
+                                .eventTimestamp(java.time.LocalDateTime.now())
+                                .build();
+                messages.add(new OutboxMessage(OutboxService.AGGREGATE_FD_ACCOUNT, account.getId(),
+                                OutboxService.EVENT_ACCOUNT_CREATED, event));
+
+                if (customer == null || customer.getEmail() == null || customer.getEmail().isBlank()) {
+                        log.warn("⚠️ No email address for customer {}, skipping new account email for: {}",
+                                        primaryRole.getCustomerId(), account.getAccountNumber());
+                        return messages;
                 }
+
+                // Format data for email
+                DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd MMM yyyy");
+                BigDecimal interestRate = account.getCustomInterestRate() != null
+                                ? account.getCustomInterestRate()
+                                : account.getInterestRate();
+
+                Map<String, Object> emailRequest = new LinkedHashMap<>();
+                emailRequest.put("to", customer.getEmail());
+                emailRequest.put("customerName", customer.getCustomerName());
+                emailRequest.put("accountNumber", account.getAccountNumber());
+                emailRequest.put("accountType", product.getProductName());
+                emailRequest.put("amount", "₹ " + account.getPrincipalAmount().toString());
+                emailRequest.put("interestRate", interestRate.toString() + "%");
+                emailRequest.put("tenure", account.getTermMonths() + " months");
+                emailRequest.put("maturityDate", account.getMaturityDate().format(dateFormatter));
+                emailRequest.put("maturityAmount", "₹ " + account.getMaturityAmount().toString());
+                messages.add(new OutboxMessage(OutboxService.AGGREGATE_FD_ACCOUNT, account.getId(),
+                                OutboxService.EVENT_NEW_ACCOUNT_EMAIL, emailRequest));
+
+                return messages;
         }
 
         /**
-         * Send new account creation email to primary account holder
+         * Primary account holder, or the first role if none is marked primary
          */
-        private void sendNewAccountEmail(FdAccount account, ProductDto product) {
-                try {
-                        // Find primary account holder
-                        AccountRole primaryRole = account.getRoles().stream()
-                                        .filter(AccountRole::getIsPrimary)
-                                        .findFirst()
-                                        .orElse(account.getRoles().get(0)); // Fallback to first role if no primary
-
-                        // Get customer details
-                        CustomerDto customer = customerServiceClient.getCustomerById(primaryRole.getCustomerId());
-
-                        // Format data for email
-                        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd MMM yyyy");
-                        String maturityDateStr = account.getMaturityDate().format(dateFormatter);
-                        String tenure = account.getTermMonths() + " months";
-
-                        BigDecimal interestRate = account.getCustomInterestRate() != null
-                                        ? account.getCustomInterestRate()
-                                        : account.getInterestRate();
-
-                        // Send email
-                        emailServiceClient.sendNewAccountEmail(
-                                        customer.getEmail(),
-                                        customer.getCustomerName(),
-                                        account.getAccountNumber(),
-                                        product.getProductName(),
-                                        "₹ " + account.getPrincipalAmount().toString(),
-                                        interestRate.toString() + "%",
-                                        tenure,
-                                        maturityDateStr,
-                                        "₹ " + account.getMaturityAmount().toString());
-
-                        log.info("✅ New account email triggered for: {}", customer.getEmail());
-                } catch (Exception e) {
-                        log.error("❌ Failed to send new account email: {}", e.getMessage(), e);
-                }
+        private AccountRole primaryRole(FdAccount account) {
+                return account.getRoles().stream()
+                                .filter(AccountRole::getIsPrimary)
+                                .findFirst()
+                                .orElse(account.getRoles().get(0));
         }
 }
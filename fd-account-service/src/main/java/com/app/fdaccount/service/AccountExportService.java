@@ -0,0 +1,205 @@
+package com.app.fdaccount.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.fdaccount.enums.ExportFormat;
+import com.app.fdaccount.repository.AccountTransactionRepository;
+import com.app.fdaccount.repository.AccountTransactionRepository.TransactionExportRow;
+import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.repository.FdAccountRepository.AccountExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for streaming account and transaction exports
+ * Rows are read as column projections from a forward-only result stream and written to the
+ * response as they arrive, flushed every few hundred rows, so memory stays flat regardless of
+ * export size and the first bytes reach the client immediately.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private static final List<Column<AccountExportRow>> ACCOUNT_COLUMNS = List.of(
+            new Column<>("id", AccountExportRow::getId),
+            new Column<>("accountNumber", AccountExportRow::getAccountNumber),
+            new Column<>("accountName", AccountExportRow::getAccountName),
+            new Column<>("productCode", AccountExportRow::getProductCode),
+            new Column<>("productName", AccountExportRow::getProductName),
+            new Column<>("status", AccountExportRow::getStatus),
+            new Column<>("principalAmount", AccountExportRow::getPrincipalAmount),
+            new Column<>("interestRate", AccountExportRow::getInterestRate),
+            new Column<>("termMonths", AccountExportRow::getTermMonths),
+            new Column<>("maturityAmount", AccountExportRow::getMaturityAmount),
+            new Column<>("effectiveDate", AccountExportRow::getEffectiveDate),
+            new Column<>("maturityDate", AccountExportRow::getMaturityDate),
+            new Column<>("branchCode", AccountExportRow::getBranchCode));
+
+    private static final List<Column<TransactionExportRow>> TRANSACTION_COLUMNS = List.of(
+            new Column<>("id", TransactionExportRow::getId),
+            new Column<>("transactionReference", TransactionExportRow::getTransactionReference),
+            new Column<>("transactionType", TransactionExportRow::getTransactionType),
+            new Column<>("amount", TransactionExportRow::getAmount),
+            new Column<>("transactionDate", TransactionExportRow::getTransactionDate),
+            new Column<>("valueDate", TransactionExportRow::getValueDate),
+            new Column<>("description", TransactionExportRow::getDescription),
+            new Column<>("principalBalanceAfter", TransactionExportRow::getPrincipalBalanceAfter),
+            new Column<>("interestBalanceAfter", TransactionExportRow::getInterestBalanceAfter),
+            new Column<>("totalBalanceAfter", TransactionExportRow::getTotalBalanceAfter),
+            new Column<>("isReversed", TransactionExportRow::getIsReversed));
+
+    private final FdAccountRepository accountRepository;
+    private final AccountTransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Stream all accounts of a branch
+     */
+    @Transactional(readOnly = true)
+    public long exportAccountsByBranch(String branchCode, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<AccountExportRow> rows = accountRepository.streamExportRowsByBranchCode(branchCode)) {
+            return write(rows, ACCOUNT_COLUMNS, format, out, "branch " + branchCode);
+        }
+    }
+
+    /**
+     * Stream all accounts of a product
+     */
+    @Transactional(readOnly = true)
+    public long exportAccountsByProduct(String productCode, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<AccountExportRow> rows = accountRepository.streamExportRowsByProductCode(productCode)) {
+            return write(rows, ACCOUNT_COLUMNS, format, out, "product " + productCode);
+        }
+    }
+
+    /**
+     * Stream all accounts of a customer
+     */
+    @Transactional(readOnly = true)
+    public long exportAccountsByCustomer(Long customerId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<AccountExportRow> rows = accountRepository.streamExportRowsByCustomerId(customerId)) {
+            return write(rows, ACCOUNT_COLUMNS, format, out, "customer " + customerId);
+        }
+    }
+
+    /**
+     * Resolve the account to export transactions for, before any output is written
+     */
+    @Transactional(readOnly = true)
+    public Long resolveAccountId(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .map(account -> account.getId())
+                .orElseThrow(() -> new RuntimeException("Account not found: " + accountNumber));
+    }
+
+    /**
+     * Stream all transactions of an account in posting order
+     */
+    @Transactional(readOnly = true)
+    public long exportTransactions(Long accountId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<TransactionExportRow> rows = transactionRepository.streamExportRowsByAccountId(accountId)) {
+            return write(rows, TRANSACTION_COLUMNS, format, out, "transactions of account " + accountId);
+        }
+    }
+
+    private <T> long write(Stream<T> rows, List<Column<T>> columns, ExportFormat format,
+                           OutputStream out, String description) throws IOException {
+        long count = format == ExportFormat.CSV
+                ? writeCsv(rows.iterator(), columns, out)
+                : writeNdjson(rows.iterator(), columns, out);
+        log.info("✅ Exported {} rows ({}) as {}", count, description, format);
+        return count;
+    }
+
+    private <T> long writeNdjson(Iterator<T> rows, List<Column<T>> columns, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setCodec(objectMapper);
+            generator.setRootValueSeparator(null); // Rows are separated by the newline written below
+            while (rows.hasNext()) {
+                T row = rows.next();
+                generator.writeStartObject();
+                for (Column<T> column : columns) {
+                    generator.writeFieldName(column.name());
+                    generator.writeObject(column.value().apply(row));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                if (++count % FLUSH_EVERY_ROWS == 1) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+
+    private <T> long writeCsv(Iterator<T> rows, List<Column<T>> columns, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns.get(i).name());
+        }
+        writer.write("\r\n");
+        writer.flush();
+
+        while (rows.hasNext()) {
+            T row = rows.next();
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = columns.get(i).value().apply(row);
+                if (value != null) {
+                    writeCsvField(writer, value.toString());
+                }
+            }
+            writer.write("\r\n");
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Write one field per RFC 4180: quoted when it holds a comma, quote or line break
+     */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+}
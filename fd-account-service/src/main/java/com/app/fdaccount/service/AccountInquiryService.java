@@ -1,8 +1,13 @@
 package com.app.fdaccount.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -15,17 +20,31 @@ import org.springframework.transaction.annotation.Transactional;
 import com.app.fdaccount.dto.AccountResponse;
 import com.app.fdaccount.dto.AccountSummaryResponse;
 import com.app.fdaccount.dto.BalanceResponse;
+import com.app.fdaccount.dto.CursorPageResponse;
+import com.app.fdaccount.dto.CustomerPortfolioSummaryResponse;
 import com.app.fdaccount.dto.RoleResponse;
 import com.app.fdaccount.dto.SearchAccountRequest;
+import com.app.fdaccount.entity.AccountCurrentBalance;
 import com.app.fdaccount.entity.FdAccount;
 import com.app.fdaccount.enums.AccountIdType;
+import com.app.fdaccount.enums.AccountStatus;
+import com.app.fdaccount.repository.AccountRoleRepository;
+import com.app.fdaccount.repository.AccountRoleRepository.PrimaryOwnerRow;
 import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.repository.FdAccountRepository.CustomerAccountRow;
+import com.app.fdaccount.repository.FdAccountRepository.CustomerStatusTotals;
+import com.app.fdaccount.repository.FdAccountSpecifications;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service for FD Account inquiry and search operations
+ *
+ * Each endpoint loads a fixed fetch plan: list responses load bare accounts plus one query
+ * for their primary owners, whatever the number of accounts; the account summary fetches roles
+ * with the account; the full view adds one query for current balances and, when asked, one for
+ * the balance history.
  */
 @Slf4j
 @Service
@@ -33,26 +52,40 @@ import lombok.extern.slf4j.Slf4j;
 public class AccountInquiryService {
 
     private final FdAccountRepository accountRepository;
+    private final AccountRoleRepository accountRoleRepository;
+    private final LedgerArchiveService ledgerArchiveService;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // Account IDs bound into one IN list when looking up primary owners
+    private static final int OWNER_LOOKUP_BATCH_SIZE = 1000;
 
     /**
      * Get account by ID (account number, IBAN, or internal ID)
      */
     @Transactional(readOnly = true)
     public AccountResponse getAccount(String identifier, AccountIdType idType) {
+        return getAccount(identifier, idType, false);
+    }
+
+    /**
+     * Get account by ID, optionally including the full balance history
+     */
+    @Transactional(readOnly = true)
+    public AccountResponse getAccount(String identifier, AccountIdType idType, boolean includeBalanceHistory) {
         log.debug("Fetching account by {} = {}", idType, identifier);
 
         FdAccount account = switch (idType) {
-            case ACCOUNT_NUMBER -> accountRepository.findByAccountNumber(identifier)
+            case ACCOUNT_NUMBER -> accountRepository.findWithRolesByAccountNumber(identifier)
                     .orElseThrow(() -> new RuntimeException("Account not found: " + identifier));
-            case IBAN -> accountRepository.findByIbanNumber(identifier)
+            case IBAN -> accountRepository.findWithRolesByIbanNumber(identifier)
                     .orElseThrow(() -> new RuntimeException("IBAN not found: " + identifier));
-            case INTERNAL_ID -> accountRepository.findById(Long.parseLong(identifier))
+            case INTERNAL_ID -> accountRepository.findWithRolesById(Long.parseLong(identifier))
                     .orElseThrow(() -> new RuntimeException("Account ID not found: " + identifier));
             default -> throw new IllegalArgumentException("Unsupported ID type: " + idType);
         };
 
         log.info("✅ Found account: {}", account.getAccountNumber());
-        return mapToAccountResponse(account);
+        return mapToAccountResponse(account, includeBalanceHistory);
     }
 
     /**
@@ -60,10 +93,10 @@ public class AccountInquiryService {
      */
     @Transactional(readOnly = true)
     public AccountSummaryResponse getAccountSummary(String accountNumber) {
-        FdAccount account = accountRepository.findByAccountNumber(accountNumber)
+        FdAccount account = accountRepository.findWithRolesByAccountNumber(accountNumber)
                 .orElseThrow(() -> new RuntimeException("Account not found: " + accountNumber));
 
-        return mapToAccountSummaryResponse(account);
+        return mapToAccountSummaryResponse(account, findPrimaryOwner(account));
     }
 
     /**
@@ -76,9 +109,76 @@ public class AccountInquiryService {
         List<FdAccount> accounts = accountRepository.findByCustomerId(customerId);
 
         log.info("Found {} accounts for customer: {}", accounts.size(), customerId);
-        return accounts.stream()
-                .map(this::mapToAccountSummaryResponse)
-                .collect(Collectors.toList());
+        return mapToAccountSummaries(accounts);
+    }
+
+    /**
+     * Get a customer's portfolio summary
+     * Counts and balances come from a GROUP BY over the customer's accounts and the account
+     * rows from a column projection; no account entities or collections are loaded
+     */
+    @Transactional(readOnly = true)
+    public CustomerPortfolioSummaryResponse getCustomerPortfolioSummary(Long customerId) {
+        log.debug("Summarizing portfolio for customer: {}", customerId);
+
+        List<CustomerStatusTotals> totals = accountRepository.summarizeByCustomerId(customerId);
+        List<CustomerAccountRow> rows = accountRepository.findAccountRowsByCustomerId(customerId);
+
+        int totalAccounts = 0;
+        BigDecimal totalInterest = BigDecimal.ZERO;
+        CustomerStatusTotals active = null;
+        CustomerStatusTotals matured = null;
+        CustomerStatusTotals closed = null;
+        for (CustomerStatusTotals statusTotals : totals) {
+            totalAccounts += statusTotals.getAccountCount().intValue();
+            totalInterest = totalInterest.add(statusTotals.getTotalInterestAccrued());
+            switch (statusTotals.getStatus()) {
+                case ACTIVE -> active = statusTotals;
+                case MATURED -> matured = statusTotals;
+                case CLOSED -> closed = statusTotals;
+                default -> { }
+            }
+        }
+
+        log.info("Portfolio for customer {}: {} accounts", customerId, totalAccounts);
+        return CustomerPortfolioSummaryResponse.builder()
+                .customerId(customerId)
+                .totalAccounts(totalAccounts)
+                .activeAccounts(countOf(active))
+                .maturedAccounts(countOf(matured))
+                .closedAccounts(countOf(closed))
+                .activePrincipalAmount(active != null ? active.getTotalPrincipal() : BigDecimal.ZERO)
+                .activeMaturityAmount(active != null ? active.getTotalMaturity() : BigDecimal.ZERO)
+                .totalInterestAccrued(totalInterest)
+                .statusTotals(totals.stream()
+                        .map(statusTotals -> CustomerPortfolioSummaryResponse.StatusTotals.builder()
+                                .status(statusTotals.getStatus())
+                                .accountCount(statusTotals.getAccountCount().intValue())
+                                .principalAmount(statusTotals.getTotalPrincipal())
+                                .maturityAmount(statusTotals.getTotalMaturity())
+                                .interestAccrued(statusTotals.getTotalInterestAccrued())
+                                .build())
+                        .collect(Collectors.toList()))
+                .accounts(rows.stream()
+                        .map(row -> CustomerPortfolioSummaryResponse.AccountItem.builder()
+                                .id(row.getId())
+                                .accountNumber(row.getAccountNumber())
+                                .productName(row.getProductName())
+                                .status(row.getStatus())
+                                .principalAmount(row.getPrincipalAmount())
+                                .interestRate(row.getInterestRate())
+                                .termMonths(row.getTermMonths())
+                                .maturityAmount(row.getMaturityAmount())
+                                .interestAccrued(row.getInterestAccrued() != null ? row.getInterestAccrued() : BigDecimal.ZERO)
+                                .effectiveDate(row.getEffectiveDate())
+                                .maturityDate(row.getMaturityDate())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private int countOf(CustomerStatusTotals statusTotals) {
+        return statusTotals != null ? statusTotals.getAccountCount().intValue() : 0;
     }
 
     /**
@@ -100,23 +200,45 @@ public class AccountInquiryService {
                 sort
         );
 
-        // Execute search
-        Page<FdAccount> accountPage = accountRepository.searchAccounts(
-                searchRequest.getAccountNumber(),
-                searchRequest.getAccountName(),
-                searchRequest.getProductCode(),
-                searchRequest.getStatus(),
-                searchRequest.getBranchCode(),
-                searchRequest.getEffectiveDateFrom(),
-                searchRequest.getEffectiveDateTo(),
-                searchRequest.getMaturityDateFrom(),
-                searchRequest.getMaturityDateTo(),
-                pageable
-        );
+        // Execute search; only the supplied filters become predicates
+        Page<FdAccount> accountPage = accountRepository.findAll(
+                FdAccountSpecifications.matching(searchRequest), pageable);
 
         log.info("Found {} accounts matching search criteria", accountPage.getTotalElements());
 
-        return accountPage.map(this::mapToAccountSummaryResponse);
+        Map<Long, String> primaryOwners = findPrimaryOwners(accountPage.getContent());
+        return accountPage.map(account -> mapToAccountSummaryResponse(account, primaryOwners.get(account.getId())));
+    }
+
+    /**
+     * Search accounts with keyset pagination
+     * Each slice continues after the cursor (last account ID of the previous slice), so deep slices
+     * cost the same as the first one and no count query is run
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AccountSummaryResponse> searchAccountsByCursor(SearchAccountRequest searchRequest) {
+        log.debug("Keyset search with criteria: {}", searchRequest);
+
+        boolean descending = !"ASC".equalsIgnoreCase(searchRequest.getSortDirection());
+        int size = Math.max(1, Math.min(searchRequest.getSize() != null ? searchRequest.getSize() : 20, MAX_CURSOR_PAGE_SIZE));
+
+        // Fetch one extra row to learn whether another slice follows
+        List<FdAccount> accounts = accountRepository.findBy(
+                FdAccountSpecifications.matching(searchRequest)
+                        .and(FdAccountSpecifications.afterCursor(searchRequest.getCursor(), descending)),
+                query -> query.sortBy(Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, "id"))
+                        .limit(size + 1)
+                        .all());
+
+        boolean hasNext = accounts.size() > size;
+        List<FdAccount> slice = hasNext ? accounts.subList(0, size) : accounts;
+
+        return CursorPageResponse.<AccountSummaryResponse>builder()
+                .content(mapToAccountSummaries(slice))
+                .size(slice.size())
+                .nextCursor(hasNext ? slice.get(slice.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
@@ -129,9 +251,7 @@ public class AccountInquiryService {
         List<FdAccount> accounts = accountRepository.findAccountsMaturingBetween(startDate, endDate);
 
         log.info("Found {} accounts maturing in date range", accounts.size());
-        return accounts.stream()
-                .map(this::mapToAccountSummaryResponse)
-                .collect(Collectors.toList());
+        return mapToAccountSummaries(accounts);
     }
 
     /**
@@ -166,9 +286,7 @@ public class AccountInquiryService {
     public List<AccountSummaryResponse> getAccountsByProduct(String productCode) {
         List<FdAccount> accounts = accountRepository.findByProductCode(productCode);
 
-        return accounts.stream()
-                .map(this::mapToAccountSummaryResponse)
-                .collect(Collectors.toList());
+        return mapToAccountSummaries(accounts);
     }
 
     /**
@@ -178,15 +296,13 @@ public class AccountInquiryService {
     public List<AccountSummaryResponse> getAccountsByBranch(String branchCode) {
         List<FdAccount> accounts = accountRepository.findByBranchCode(branchCode);
 
-        return accounts.stream()
-                .map(this::mapToAccountSummaryResponse)
-                .collect(Collectors.toList());
+        return mapToAccountSummaries(accounts);
     }
 
     /**
      * Map entity to full account response
      */
-    private AccountResponse mapToAccountResponse(FdAccount account) {
+    private AccountResponse mapToAccountResponse(FdAccount account, boolean includeBalanceHistory) {
         // Map roles
         List<RoleResponse> roles = account.getRoles().stream()
                 .map(role -> RoleResponse.builder()
@@ -203,17 +319,39 @@ public class AccountInquiryService {
                         .build())
                 .collect(Collectors.toList());
 
-        // Map balances
-        List<BalanceResponse> balances = account.getBalances().stream()
+        // Map current balances (one per type)
+        List<BalanceResponse> balances = account.getCurrentBalances().values().stream()
+                .sorted(Comparator.comparing(AccountCurrentBalance::getBalanceType))
                 .map(balance -> BalanceResponse.builder()
                         .id(balance.getId())
                         .balanceType(balance.getBalanceType())
                         .balance(balance.getBalance())
                         .asOfDate(balance.getAsOfDate())
-                        .description(balance.getDescription())
                         .build())
                 .collect(Collectors.toList());
 
+        // Map balance history only when asked for; it grows with every accrual
+        List<BalanceResponse> balanceHistory = null;
+        if (includeBalanceHistory) {
+            balanceHistory = account.getBalances().stream()
+                    .map(balance -> BalanceResponse.builder()
+                            .id(balance.getId())
+                            .balanceType(balance.getBalanceType())
+                            .balance(balance.getBalance())
+                            .asOfDate(balance.getAsOfDate())
+                            .description(balance.getDescription())
+                            .build())
+                    .collect(Collectors.toList());
+
+            // Read compacted rows back from the archive, skipping any still present in the hot table
+            Set<Long> hotIds = balanceHistory.stream().map(BalanceResponse::getId).collect(Collectors.toSet());
+            List<BalanceResponse> history = balanceHistory;
+            ledgerArchiveService.readBalances(account.getId()).stream()
+                    .filter(archived -> !hotIds.contains(archived.getId()))
+                    .forEach(history::add);
+            history.sort(Comparator.comparing(BalanceResponse::getAsOfDate).thenComparing(BalanceResponse::getId));
+        }
+
         return AccountResponse.builder()
                 .id(account.getId())
                 .accountNumber(account.getAccountNumber())
@@ -230,6 +368,7 @@ public class AccountInquiryService {
                 .effectiveDate(account.getEffectiveDate())
                 .maturityDate(account.getMaturityDate())
                 .closureDate(account.getClosureDate())
+                .lastAccrualDate(account.getLastAccrualDate())
                 .interestCalculationMethod(account.getInterestCalculationMethod())
                 .interestPayoutFrequency(account.getInterestPayoutFrequency())
                 .autoRenewal(account.getAutoRenewal())
@@ -241,6 +380,7 @@ public class AccountInquiryService {
                 .tdsRate(account.getTdsRate())
                 .roles(roles)
                 .balances(balances)
+                .balanceHistory(balanceHistory)
                 .remarks(account.getRemarks())
                 .createdAt(account.getCreatedAt())
                 .updatedAt(account.getUpdatedAt())
@@ -250,15 +390,48 @@ public class AccountInquiryService {
     }
 
     /**
-     * Map entity to summary response
+     * Map a list of accounts to summary responses
+     * Primary owners come from one query per 1000 accounts instead of each account's roles
      */
-    private AccountSummaryResponse mapToAccountSummaryResponse(FdAccount account) {
-        // Get primary owner name
-        String primaryOwner = account.getRoles().stream()
+    private List<AccountSummaryResponse> mapToAccountSummaries(List<FdAccount> accounts) {
+        Map<Long, String> primaryOwners = findPrimaryOwners(accounts);
+        return accounts.stream()
+                .map(account -> mapToAccountSummaryResponse(account, primaryOwners.get(account.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, String> findPrimaryOwners(List<FdAccount> accounts) {
+        Map<Long, String> primaryOwners = new HashMap<>();
+        if (accounts.isEmpty()) {
+            return primaryOwners;
+        }
+
+        List<Long> accountIds = accounts.stream().map(FdAccount::getId).collect(Collectors.toList());
+        // Branch and product lists are unbounded; keep each IN list to a fixed size
+        for (int from = 0; from < accountIds.size(); from += OWNER_LOOKUP_BATCH_SIZE) {
+            List<Long> batch = accountIds.subList(from, Math.min(from + OWNER_LOOKUP_BATCH_SIZE, accountIds.size()));
+            for (PrimaryOwnerRow row : accountRoleRepository.findPrimaryOwnerNames(batch)) {
+                // Rows come in role ID order; the first primary role wins, as on the entity
+                primaryOwners.putIfAbsent(row.getAccountId(), row.getCustomerName());
+            }
+        }
+        return primaryOwners;
+    }
+
+    private String findPrimaryOwner(FdAccount account) {
+        return account.getRoles().stream()
                 .filter(role -> Boolean.TRUE.equals(role.getIsPrimary()))
                 .map(role -> role.getCustomerName())
                 .findFirst()
-                .orElse("N/A");
+                .orElse(null);
+    }
+
+    /**
+     * Map entity to summary response
+     */
+    private AccountSummaryResponse mapToAccountSummaryResponse(FdAccount account, String primaryOwnerName) {
+        // Get primary owner name
+        String primaryOwner = primaryOwnerName != null ? primaryOwnerName : "N/A";
 
         // Calculate days to maturity
         Integer daysToMaturity = null;
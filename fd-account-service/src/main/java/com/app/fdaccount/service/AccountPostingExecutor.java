@@ -0,0 +1,125 @@
+package com.app.fdaccount.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs balance postings on one account at a time
+ *
+ * Postings to the same account are serialized on an in-JVM lock stripe chosen by account ID,
+ * so they queue cheaply instead of colliding in the database, while postings to different
+ * accounts proceed in parallel. The lock is held until the posting's transaction has committed.
+ *
+ * Writers outside this JVM (other nodes, the accrual and maturity batches) are caught by the
+ * account's optimistic version: a posting computed from stale balances fails at commit and is
+ * re-run from fresh state, up to a bounded number of attempts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountPostingExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${transaction.posting.lock-stripes:1024}")
+    private int lockStripes;
+
+    @Value("${transaction.posting.lock-timeout-ms:5000}")
+    private long lockTimeoutMs;
+
+    @Value("${transaction.posting.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${transaction.posting.retry-backoff-ms:20}")
+    private long retryBackoffMs;
+
+    private ReentrantLock[] stripes;
+    private int stripeMask;
+
+    @PostConstruct
+    void initStripes() {
+        // Round up to a power of two so a stripe is picked with a mask
+        int size = Integer.highestOneBit(Math.max(1, lockStripes - 1)) << 1;
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        stripeMask = size - 1;
+        log.info("Account posting locks initialized with {} stripes", size);
+    }
+
+    /**
+     * Run a posting on an account in its own transaction, serialized with other postings to the
+     * same account and retried when the account was changed concurrently
+     *
+     * When a transaction is already active (a posting that is part of a larger operation), the
+     * posting joins it and runs once; the outermost posting owns the retry.
+     */
+    public <T> T execute(Long accountId, Supplier<T> posting) {
+        ReentrantLock lock = stripeFor(accountId);
+        acquire(lock, accountId);
+
+        try {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                return posting.get();
+            }
+
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionTemplate.execute(status -> posting.get());
+                } catch (ConcurrencyFailureException e) {
+                    if (attempt >= maxAttempts) {
+                        log.warn("❌ Posting to account ID {} failed after {} attempts: {}",
+                                accountId, attempt, e.getMessage());
+                        throw new IllegalStateException(
+                                "Account was changed concurrently, please retry: " + accountId, e);
+                    }
+                    log.info("🔁 Posting to account ID {} conflicted with a concurrent update, retrying (attempt {}/{})",
+                            accountId, attempt + 1, maxAttempts);
+                    backOff(attempt);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeFor(Long accountId) {
+        // Spread the bits so sequential IDs land on different stripes
+        long hash = accountId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (hash ^ (hash >>> 32)) & stripeMask];
+    }
+
+    private void acquire(ReentrantLock lock, Long accountId) {
+        try {
+            if (!lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Account is busy with other postings, please retry: " + accountId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to post to account: " + accountId, e);
+        }
+    }
+
+    private void backOff(int attempt) {
+        long delay = retryBackoffMs << (attempt - 1);
+        try {
+            Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a posting", e);
+        }
+    }
+}
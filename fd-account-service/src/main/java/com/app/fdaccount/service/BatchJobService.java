@@ -0,0 +1,271 @@
+package com.app.fdaccount.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.fdaccount.batch.BatchCounters;
+import com.app.fdaccount.batch.IdRange;
+import com.app.fdaccount.dto.BatchJobExecutionResponse;
+import com.app.fdaccount.entity.BatchJobExecution;
+import com.app.fdaccount.enums.BatchJobStatus;
+import com.app.fdaccount.repository.BatchJobExecutionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for batch job checkpoints and run history
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchJobService {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    private final BatchJobExecutionRepository executionRepository;
+    private final BatchLeaseService batchLeaseService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Start a job run for a business date, or resume the unfinished partitions of an earlier one
+     *
+     * @param partitioner supplies the ID ranges when no run exists yet for the date
+     * @return the partitions still to be processed; empty if the run is already complete
+     */
+    public List<BatchJobExecution> startOrResume(String jobName, LocalDate businessDate,
+                                                 Supplier<List<IdRange>> partitioner) {
+        try {
+            return transactionTemplate.execute(status -> doStartOrResume(jobName, businessDate, partitioner));
+        } catch (DataIntegrityViolationException e) {
+            // Another node created this run's partitions first; join its run instead
+            log.info("{} for {} was started concurrently by another node, joining", jobName, businessDate);
+            return transactionTemplate.execute(status -> doStartOrResume(jobName, businessDate, partitioner));
+        }
+    }
+
+    private List<BatchJobExecution> doStartOrResume(String jobName, LocalDate businessDate,
+                                                    Supplier<List<IdRange>> partitioner) {
+        List<BatchJobExecution> executions = executionRepository
+                .findByJobNameAndBusinessDateOrderByPartitionIndexAsc(jobName, businessDate);
+
+        if (executions.isEmpty()) {
+            List<IdRange> ranges = partitioner.get();
+            LocalDateTime now = LocalDateTime.now();
+            List<BatchJobExecution> created = new ArrayList<>();
+
+            for (int i = 0; i < ranges.size(); i++) {
+                IdRange range = ranges.get(i);
+                created.add(BatchJobExecution.builder()
+                        .jobName(jobName)
+                        .businessDate(businessDate)
+                        .partitionIndex(i)
+                        .rangeStart(range.fromExclusive())
+                        .rangeEnd(range.toInclusive())
+                        .lastProcessedId(range.fromExclusive())
+                        .status(BatchJobStatus.STARTED)
+                        .startedAt(now)
+                        .build());
+            }
+
+            log.info("Started {} for {} with {} partitions", jobName, businessDate, created.size());
+            return executionRepository.saveAllAndFlush(created);
+        }
+
+        List<BatchJobExecution> pending = executions.stream()
+                .filter(execution -> execution.getStatus() != BatchJobStatus.COMPLETED)
+                .toList();
+
+        if (pending.isEmpty()) {
+            log.info("{} already completed for {}", jobName, businessDate);
+            return pending;
+        }
+
+        // Only failed partitions are touched; running ones may be checkpointing on another node
+        for (BatchJobExecution execution : pending) {
+            if (execution.getStatus() == BatchJobStatus.FAILED) {
+                execution.setStatus(BatchJobStatus.STARTED);
+                execution.setErrorMessage(null);
+            }
+        }
+
+        log.info("🔁 Resuming {} for {}: {} of {} partitions unfinished",
+                jobName, businessDate, pending.size(), executions.size());
+        return pending;
+    }
+
+    /**
+     * Claim a partition for this node
+     *
+     * @return the partition with its latest checkpoint, or empty if another node owns it or it is finished
+     */
+    @Transactional
+    public Optional<BatchJobExecution> claim(Long executionId) {
+        int claimed = executionRepository.claim(executionId, batchLeaseService.getNodeId(),
+                BatchJobStatus.COMPLETED, LocalDateTime.now(), batchLeaseService.nextLeaseExpiry());
+        return claimed > 0 ? executionRepository.findById(executionId) : Optional.empty();
+    }
+
+    /**
+     * Record a committed chunk; must run inside the chunk's own transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void checkpoint(Long executionId, long lastProcessedId, BatchCounters chunkCounters) {
+        executionRepository.advanceCheckpoint(executionId, lastProcessedId,
+                chunkCounters.getSuccessCount(), chunkCounters.getSkippedCount(),
+                chunkCounters.getErrorCount(), LocalDateTime.now(), batchLeaseService.nextLeaseExpiry());
+    }
+
+    /**
+     * Mark a partition as fully processed
+     */
+    @Transactional
+    public void complete(Long executionId) {
+        BatchJobExecution execution = findExecution(executionId);
+        execution.setStatus(BatchJobStatus.COMPLETED);
+        execution.setCompletedAt(LocalDateTime.now());
+        execution.setLeaseUntil(null);
+        executionRepository.save(execution);
+    }
+
+    /**
+     * Mark a partition as failed; its checkpoint is kept for the next run
+     */
+    @Transactional
+    public void fail(Long executionId, Exception cause) {
+        BatchJobExecution execution = findExecution(executionId);
+        String message = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        execution.setStatus(BatchJobStatus.FAILED);
+        execution.setLeaseUntil(null);
+        execution.setErrorCount(execution.getErrorCount() + 1);
+        execution.setErrorMessage(message.length() > MAX_ERROR_MESSAGE_LENGTH ?
+                message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message);
+        executionRepository.save(execution);
+    }
+
+    /**
+     * Park a run that cannot start yet because a job it depends on has not finished
+     * The run is left FAILED with the reason, so any later trigger resumes it; no error is counted
+     */
+    @Transactional
+    public void defer(Long executionId, String reason) {
+        BatchJobExecution execution = findExecution(executionId);
+        execution.setStatus(BatchJobStatus.FAILED);
+        execution.setLeaseUntil(null);
+        execution.setErrorMessage(reason.length() > MAX_ERROR_MESSAGE_LENGTH ?
+                reason.substring(0, MAX_ERROR_MESSAGE_LENGTH) : reason);
+        executionRepository.save(execution);
+    }
+
+    /**
+     * Whether some run of a job on or after the business date has completed all its partitions
+     * Not read-only so the check sees the other nodes' latest checkpoints on the primary
+     */
+    @Transactional
+    public boolean hasCompletedRunSince(String jobName, LocalDate businessDate) {
+        Map<LocalDate, List<BatchJobExecution>> runs = executionRepository
+                .findByJobNameAndBusinessDateGreaterThanEqual(jobName, businessDate).stream()
+                .collect(Collectors.groupingBy(BatchJobExecution::getBusinessDate));
+        return runs.values().stream().anyMatch(partitions -> partitions.stream()
+                .allMatch(execution -> execution.getStatus() == BatchJobStatus.COMPLETED));
+    }
+
+    /**
+     * Business dates up to the given one on which a job has unfinished partitions, oldest first
+     */
+    @Transactional
+    public List<LocalDate> findUnfinishedBusinessDates(String jobName, LocalDate upTo) {
+        return executionRepository.findByJobNameAndBusinessDateLessThanEqualAndStatusIn(jobName, upTo,
+                        List.of(BatchJobStatus.STARTED, BatchJobStatus.FAILED)).stream()
+                .map(BatchJobExecution::getBusinessDate)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Counters of every partition of a run, including ones committed before a restart
+     * Not read-only so it stays on the primary and sees the checkpoints just committed
+     */
+    @Transactional
+    public BatchCounters getRunTotals(String jobName, LocalDate businessDate) {
+        BatchCounters totals = new BatchCounters();
+        for (BatchJobExecution execution : executionRepository
+                .findByJobNameAndBusinessDateOrderByPartitionIndexAsc(jobName, businessDate)) {
+            totals.setSuccessCount(totals.getSuccessCount() + execution.getSuccessCount());
+            totals.setSkippedCount(totals.getSkippedCount() + execution.getSkippedCount());
+            totals.setErrorCount(totals.getErrorCount() + execution.getErrorCount());
+        }
+        return totals;
+    }
+
+    /**
+     * Names of jobs with unfinished partitions on any business date up to the given one
+     * Not read-only so recovery never decides from a lagging replica
+     */
+    @Transactional
+    public List<String> findJobsToResume(LocalDate upTo) {
+        return executionRepository.findByBusinessDateLessThanEqualAndStatusIn(upTo,
+                        List.of(BatchJobStatus.STARTED, BatchJobStatus.FAILED)).stream()
+                .map(BatchJobExecution::getJobName)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Get run history, newest business date first
+     */
+    @Transactional(readOnly = true)
+    public Page<BatchJobExecutionResponse> getExecutions(String jobName, LocalDate businessDate, int page, int size) {
+        return executionRepository.searchExecutions(jobName, businessDate, PageRequest.of(page, size))
+                .map(this::mapToResponse);
+    }
+
+    /**
+     * Get a single execution by ID
+     */
+    @Transactional(readOnly = true)
+    public BatchJobExecutionResponse getExecution(Long executionId) {
+        return mapToResponse(findExecution(executionId));
+    }
+
+    private BatchJobExecution findExecution(Long executionId) {
+        return executionRepository.findById(executionId)
+                .orElseThrow(() -> new RuntimeException("Batch job execution not found: " + executionId));
+    }
+
+    private BatchJobExecutionResponse mapToResponse(BatchJobExecution execution) {
+        return BatchJobExecutionResponse.builder()
+                .id(execution.getId())
+                .jobName(execution.getJobName())
+                .businessDate(execution.getBusinessDate())
+                .partitionIndex(execution.getPartitionIndex())
+                .rangeStart(execution.getRangeStart())
+                .rangeEnd(execution.getRangeEnd())
+                .lastProcessedId(execution.getLastProcessedId())
+                .status(execution.getStatus())
+                .owner(execution.getOwner())
+                .successCount(execution.getSuccessCount())
+                .skippedCount(execution.getSkippedCount())
+                .errorCount(execution.getErrorCount())
+                .errorMessage(execution.getErrorMessage())
+                .startedAt(execution.getStartedAt())
+                .completedAt(execution.getCompletedAt())
+                .updatedAt(execution.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.app.fdaccount.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.fdaccount.config.SchedulingConfig;
+import com.app.fdaccount.entity.BatchJobLease;
+import com.app.fdaccount.repository.BatchJobLeaseRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for DB-backed batch job leases
+ *
+ * A scheduled job runs only on the node that holds its lease. Leases expire after
+ * batch.lease.ttl-seconds unless renewed, and this node renews the ones it holds
+ * on a fixed heartbeat, so a crashed node's jobs become available to the others.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchLeaseService {
+
+    private final BatchJobLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Leases held by this node and when each expires unless renewed
+    private final Map<String, LocalDateTime> heldLeases = new ConcurrentHashMap<>();
+
+    @Value("${batch.lease.ttl-seconds:300}")
+    private long leaseTtlSeconds;
+
+    @Value("${batch.lease.renew-interval-ms:60000}")
+    private long renewIntervalMs;
+
+    @Value("${batch.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${server.port:8086}")
+    private int serverPort;
+
+    private String nodeId;
+
+    @PostConstruct
+    void initNodeId() {
+        // Host and port are stable across restarts and distinct for instances sharing a machine
+        nodeId = configuredNodeId.isBlank() ? resolveHostName() + ":" + serverPort : configuredNodeId;
+        log.info("Batch node ID: {}", nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Expiry time for a lease or partition claim taken now
+     */
+    public LocalDateTime nextLeaseExpiry() {
+        return LocalDateTime.now().plus(Duration.ofSeconds(leaseTtlSeconds));
+    }
+
+    /**
+     * Try to become the owner of a job's lease
+     *
+     * @return true if this node now holds the lease
+     */
+    public boolean tryAcquire(String jobName) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = nextLeaseExpiry();
+
+        try {
+            Boolean acquired = transactionTemplate.execute(status -> {
+                if (leaseRepository.takeOver(jobName, nodeId, now, leaseUntil) > 0) {
+                    return true;
+                }
+                if (leaseRepository.existsById(jobName)) {
+                    return false;
+                }
+                leaseRepository.saveAndFlush(BatchJobLease.builder()
+                        .jobName(jobName)
+                        .owner(nodeId)
+                        .leaseUntil(leaseUntil)
+                        .acquiredAt(now)
+                        .build());
+                return true;
+            });
+
+            if (Boolean.TRUE.equals(acquired)) {
+                heldLeases.put(jobName, leaseUntil);
+                log.info("🔒 Acquired lease for {} until {}", jobName, leaseUntil);
+                return true;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the lease row first
+            log.debug("Lost race creating lease row for {}", jobName);
+        }
+
+        log.info("Lease for {} is held by another node, skipping", jobName);
+        return false;
+    }
+
+    /**
+     * Whether this node still safely holds a lease it acquired
+     * False once a renewal found it taken over, or once it is within one heartbeat
+     * interval of expiring without a successful renewal (e.g. the database is unreachable).
+     */
+    public boolean holdsLease(String jobName) {
+        LocalDateTime leaseUntil = heldLeases.get(jobName);
+        return leaseUntil != null
+                && LocalDateTime.now().plus(Duration.ofMillis(renewIntervalMs)).isBefore(leaseUntil);
+    }
+
+    /**
+     * Give up a lease held by this node so the job can run elsewhere immediately
+     */
+    public void release(String jobName) {
+        heldLeases.remove(jobName);
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> leaseRepository.renew(jobName, nodeId, now, now));
+        log.info("🔓 Released lease for {}", jobName);
+    }
+
+    /**
+     * Heartbeat that keeps this node's leases alive while its jobs are running
+     * Runs on the heartbeat scheduler, so a long batch on the default scheduler cannot delay it
+     */
+    @Scheduled(fixedDelayString = "${batch.lease.renew-interval-ms:60000}",
+            scheduler = SchedulingConfig.HEARTBEAT_SCHEDULER)
+    public void renewHeldLeases() {
+        for (String jobName : heldLeases.keySet()) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseUntil = nextLeaseExpiry();
+            Integer renewed;
+            try {
+                renewed = transactionTemplate.execute(
+                        status -> leaseRepository.renew(jobName, nodeId, now, leaseUntil));
+            } catch (RuntimeException e) {
+                // Keep the previous expiry; holdsLease turns false if renewals keep failing
+                log.warn("⚠️ Could not renew lease for {}: {}", jobName, e.getMessage());
+                continue;
+            }
+
+            if (renewed == null || renewed == 0) {
+                log.warn("⚠️ Lease for {} was lost by node {}", jobName, nodeId);
+                heldLeases.remove(jobName);
+            } else {
+                heldLeases.replace(jobName, leaseUntil);
+            }
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+}
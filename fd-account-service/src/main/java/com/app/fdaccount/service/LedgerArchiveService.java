@@ -0,0 +1,215 @@
+package com.app.fdaccount.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.app.fdaccount.dto.BalanceResponse;
+import com.app.fdaccount.dto.TransactionResponse;
+import com.app.fdaccount.entity.AccountBalance;
+import com.app.fdaccount.entity.AccountTransaction;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for the on-disk ledger archive
+ *
+ * Rows compacted out of account_transactions and account_balances are kept as
+ * gzip-compressed NDJSON, one file per account, month and kind:
+ * {directory}/{accountId}/{yyyy-MM}-transactions.ndjson.gz. Files are rewritten
+ * atomically and merged by row ID, so re-archiving the same rows is harmless.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerArchiveService {
+
+    private static final String TRANSACTIONS_SUFFIX = "-transactions.ndjson.gz";
+    private static final String BALANCES_SUFFIX = "-balances.ndjson.gz";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${ledger.archive.directory:./data/ledger-archive}")
+    private String archiveDirectory;
+
+    /**
+     * Archive transactions of one account and month, merging with rows already archived
+     */
+    public void archiveTransactions(Long accountId, YearMonth month, List<AccountTransaction> transactions) {
+        List<TransactionResponse> rows = transactions.stream().map(this::toArchivedTransaction).toList();
+        merge(archiveFile(accountId, month, TRANSACTIONS_SUFFIX), rows, TransactionResponse.class,
+                TransactionResponse::getId,
+                Comparator.comparing(TransactionResponse::getTransactionDate).thenComparing(TransactionResponse::getId));
+    }
+
+    /**
+     * Archive balance rows of one account and month, merging with rows already archived
+     */
+    public void archiveBalances(Long accountId, YearMonth month, List<AccountBalance> balances) {
+        List<BalanceResponse> rows = balances.stream().map(this::toArchivedBalance).toList();
+        merge(archiveFile(accountId, month, BALANCES_SUFFIX), rows, BalanceResponse.class,
+                BalanceResponse::getId,
+                Comparator.comparing(BalanceResponse::getAsOfDate).thenComparing(BalanceResponse::getId));
+    }
+
+    /**
+     * Read archived transactions of an account, optionally limited to a date range (inclusive)
+     */
+    public List<TransactionResponse> readTransactions(Long accountId, LocalDate fromDate, LocalDate toDate) {
+        List<TransactionResponse> result = new ArrayList<>();
+        for (Path file : archiveFiles(accountId, TRANSACTIONS_SUFFIX, fromDate, toDate)) {
+            for (TransactionResponse row : read(file, TransactionResponse.class)) {
+                if ((fromDate == null || !row.getTransactionDate().isBefore(fromDate)) &&
+                        (toDate == null || !row.getTransactionDate().isAfter(toDate))) {
+                    result.add(row);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read all archived balance rows of an account
+     */
+    public List<BalanceResponse> readBalances(Long accountId) {
+        List<BalanceResponse> result = new ArrayList<>();
+        for (Path file : archiveFiles(accountId, BALANCES_SUFFIX, null, null)) {
+            result.addAll(read(file, BalanceResponse.class));
+        }
+        return result;
+    }
+
+    private Path archiveFile(Long accountId, YearMonth month, String suffix) {
+        return Paths.get(archiveDirectory, String.valueOf(accountId), month + suffix);
+    }
+
+    /**
+     * Archive files of one kind for an account whose month overlaps the range, oldest first
+     */
+    private List<Path> archiveFiles(Long accountId, String suffix, LocalDate fromDate, LocalDate toDate) {
+        Path accountDirectory = Paths.get(archiveDirectory, String.valueOf(accountId));
+        if (!Files.isDirectory(accountDirectory)) {
+            return List.of();
+        }
+
+        YearMonth fromMonth = fromDate != null ? YearMonth.from(fromDate) : null;
+        YearMonth toMonth = toDate != null ? YearMonth.from(toDate) : null;
+
+        try (Stream<Path> files = Files.list(accountDirectory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(suffix))
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        YearMonth month = YearMonth.parse(name.substring(0, name.length() - suffix.length()));
+                        return (fromMonth == null || !month.isBefore(fromMonth)) &&
+                                (toMonth == null || !month.isAfter(toMonth));
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list ledger archive for account " + accountId, e);
+        }
+    }
+
+    private <T> void merge(Path file, List<T> rows, Class<T> type, Function<T, Long> idOf, Comparator<T> order) {
+        Map<Long, T> merged = new LinkedHashMap<>();
+        if (Files.exists(file)) {
+            read(file, type).forEach(row -> merged.put(idOf.apply(row), row));
+        }
+        rows.forEach(row -> merged.put(idOf.apply(row), row));
+
+        List<T> sorted = new ArrayList<>(merged.values());
+        sorted.sort(order);
+        write(file, sorted);
+        log.debug("Archived {} rows to {} ({} total)", rows.size(), file, sorted.size());
+    }
+
+    private <T> List<T> read(Path file, Class<T> type) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8));
+             MappingIterator<T> rows = objectMapper.readerFor(type).readValues(reader)) {
+            return rows.readAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read ledger archive " + file, e);
+        }
+    }
+
+    private <T> void write(Path file, List<T> rows) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                for (T row : rows) {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.newLine();
+                }
+            }
+
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write ledger archive " + file, e);
+        }
+    }
+
+    private TransactionResponse toArchivedTransaction(AccountTransaction transaction) {
+        return TransactionResponse.builder()
+                .id(transaction.getId())
+                .transactionReference(transaction.getTransactionReference())
+                .transactionType(transaction.getTransactionType())
+                .amount(transaction.getAmount())
+                .transactionDate(transaction.getTransactionDate())
+                .valueDate(transaction.getValueDate())
+                .description(transaction.getDescription())
+                .performedBy(transaction.getPerformedBy())
+                .principalBalanceAfter(transaction.getPrincipalBalanceAfter())
+                .interestBalanceAfter(transaction.getInterestBalanceAfter())
+                .totalBalanceAfter(transaction.getTotalBalanceAfter())
+                .isReversed(transaction.getIsReversed())
+                .reversalTransactionId(transaction.getReversalTransactionId())
+                .reversalDate(transaction.getReversalDate())
+                .reversalReason(transaction.getReversalReason())
+                .relatedTransactionId(transaction.getRelatedTransactionId())
+                .isSummary(false)
+                .archived(true)
+                .createdAt(transaction.getCreatedAt())
+                .build();
+    }
+
+    private BalanceResponse toArchivedBalance(AccountBalance balance) {
+        return BalanceResponse.builder()
+                .id(balance.getId())
+                .balanceType(balance.getBalanceType())
+                .balance(balance.getBalance())
+                .asOfDate(balance.getAsOfDate())
+                .description(balance.getDescription())
+                .archived(true)
+                .build();
+    }
+}
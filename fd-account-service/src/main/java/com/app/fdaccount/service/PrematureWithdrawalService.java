@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -11,6 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.app.fdaccount.dto.PrematureWithdrawalInquiryRequest;
 import com.app.fdaccount.dto.PrematureWithdrawalInquiryResponse;
+import com.app.fdaccount.dto.PrematureWithdrawalScheduleRequest;
+import com.app.fdaccount.dto.PrematureWithdrawalScheduleResponse;
 import com.app.fdaccount.dto.TransactionRequest;
 import com.app.fdaccount.dto.TransactionResponse;
 import com.app.fdaccount.dto.external.ProductDto;
@@ -32,14 +36,25 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PrematureWithdrawalService {
 
+    // Simple interest denominator: 365 days × 100 percent, as in the fd-calc-core daily kernel
+    private static final BigDecimal DAYS_PER_YEAR_PERCENT = BigDecimal.valueOf(36500);
+    private static final int MAX_SCHEDULE_ENTRIES = 3660;
+
     private final FdAccountRepository accountRepository;
     private final ProductServiceClient productServiceClient;
     private final CalculatorServiceClient calculatorServiceClient;
     private final TransactionService transactionService;
+    private final AccountPostingExecutor accountPostingExecutor;
 
     @Value("${transaction.premature-withdrawal-penalty:2.0}")
     private BigDecimal defaultPenaltyPercentage;
 
+    /**
+     * Interest rates applying to a premature withdrawal
+     */
+    private record WithdrawalTerms(BigDecimal normalRate, BigDecimal penaltyPercentage, BigDecimal revisedRate) {
+    }
+
     /**
      * Inquire about premature withdrawal (calculate penalty and net amount)
      */
@@ -74,16 +89,11 @@ public class PrematureWithdrawalService {
         long daysHeld = ChronoUnit.DAYS.between(account.getEffectiveDate(), request.getWithdrawalDate());
         long totalTermDays = ChronoUnit.DAYS.between(account.getEffectiveDate(), account.getMaturityDate());
 
-        // 6. Get penalty percentage (use default as product doesn't provide it)
-        BigDecimal penaltyPercentage = defaultPenaltyPercentage;
-
-        // 7. Calculate interest rate with penalty
-        BigDecimal effectiveRate = account.getCustomInterestRate() != null ? 
-                account.getCustomInterestRate() : account.getInterestRate();
-        BigDecimal revisedRate = effectiveRate.subtract(penaltyPercentage);
-        if (revisedRate.compareTo(BigDecimal.ZERO) < 0) {
-            revisedRate = BigDecimal.ZERO;
-        }
+        // 6-7. Get penalty percentage and the interest rate with penalty
+        WithdrawalTerms terms = resolveTerms(account);
+        BigDecimal penaltyPercentage = terms.penaltyPercentage();
+        BigDecimal effectiveRate = terms.normalRate();
+        BigDecimal revisedRate = terms.revisedRate();
 
         // 8. Calculate interest earned (simple interest for held period)
         BigDecimal interestEarned = calculatorServiceClient.calculateInterest(
@@ -137,10 +147,122 @@ public class PrematureWithdrawalService {
                 .build();
     }
 
+    /**
+     * Premature withdrawal payout schedule across a range of exit dates
+     *
+     * The account and product are loaded once. Simple interest for d days is P × r × d / 36500,
+     * so the exact (unrounded) numerators grow by a constant per step and each further exit
+     * date costs one addition and one rounding division, with the same HALF_UP rounding and
+     * therefore the same figures as a single-date inquiry.
+     */
+    @Transactional(readOnly = true)
+    public PrematureWithdrawalScheduleResponse getPrematureWithdrawalSchedule(PrematureWithdrawalScheduleRequest request) {
+        log.info("Premature withdrawal schedule for account: {} ({} to {}, every {} days)",
+                request.getAccountNumber(), request.getFromDate(), request.getToDate(), request.getStepDays());
+
+        FdAccount account = accountRepository.findByAccountNumber(request.getAccountNumber())
+                .orElseThrow(() -> new RuntimeException("Account not found: " + request.getAccountNumber()));
+
+        // Exit dates run from the effective date (or later) to the day before maturity (or earlier)
+        int stepDays = request.getStepDays() != null ? request.getStepDays() : 1;
+        LocalDate lastExitDate = account.getMaturityDate().minusDays(1);
+        LocalDate fromDate = request.getFromDate() != null ? request.getFromDate() : LocalDate.now();
+        if (fromDate.isBefore(account.getEffectiveDate())) {
+            fromDate = account.getEffectiveDate();
+        }
+        LocalDate toDate = request.getToDate() != null && request.getToDate().isBefore(lastExitDate)
+                ? request.getToDate() : lastExitDate;
+
+        if (account.getStatus() != AccountStatus.ACTIVE) {
+            return buildIneligibleSchedule(account, fromDate, toDate, stepDays, "Account is not active");
+        }
+
+        if (fromDate.isAfter(toDate)) {
+            return buildIneligibleSchedule(account, fromDate, toDate, stepDays,
+                    "No withdrawal dates in range before the maturity date. Please use regular maturity process.");
+        }
+
+        ProductDto product = productServiceClient.getProductByCode(account.getProductCode());
+        if (!Boolean.TRUE.equals(product.getPrematureWithdrawalAllowed())) {
+            return buildIneligibleSchedule(account, fromDate, toDate, stepDays,
+                    "Product does not allow premature withdrawal");
+        }
+
+        long dateCount = ChronoUnit.DAYS.between(fromDate, toDate) / stepDays + 1;
+        if (dateCount > MAX_SCHEDULE_ENTRIES) {
+            throw new IllegalArgumentException(String.format(
+                    "Schedule would contain %d withdrawal dates (maximum %d); narrow the date range or increase stepDays",
+                    dateCount, MAX_SCHEDULE_ENTRIES));
+        }
+
+        WithdrawalTerms terms = resolveTerms(account);
+        BigDecimal principal = account.getPrincipalAmount();
+        BigDecimal tdsRate = Boolean.TRUE.equals(account.getTdsApplicable()) && account.getTdsRate() != null
+                ? account.getTdsRate() : BigDecimal.ZERO;
+
+        // Exact P × r × days numerators, advanced by a constant per step
+        int daysHeld = (int) ChronoUnit.DAYS.between(account.getEffectiveDate(), fromDate);
+        BigDecimal normalPerDay = principal.multiply(terms.normalRate());
+        BigDecimal revisedPerDay = principal.multiply(terms.revisedRate());
+        BigDecimal normalPerStep = normalPerDay.multiply(BigDecimal.valueOf(stepDays));
+        BigDecimal revisedPerStep = revisedPerDay.multiply(BigDecimal.valueOf(stepDays));
+        BigDecimal normalNumerator = normalPerDay.multiply(BigDecimal.valueOf(daysHeld));
+        BigDecimal revisedNumerator = revisedPerDay.multiply(BigDecimal.valueOf(daysHeld));
+
+        List<PrematureWithdrawalScheduleResponse.Entry> entries = new ArrayList<>((int) dateCount);
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(stepDays)) {
+            BigDecimal interestEarned = revisedNumerator.divide(DAYS_PER_YEAR_PERCENT, 2, RoundingMode.HALF_UP);
+            BigDecimal normalInterest = normalNumerator.divide(DAYS_PER_YEAR_PERCENT, 2, RoundingMode.HALF_UP);
+
+            BigDecimal tdsAmount = BigDecimal.ZERO;
+            if (tdsRate.signum() > 0 && interestEarned.signum() > 0) {
+                tdsAmount = interestEarned.multiply(tdsRate).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            }
+            BigDecimal netInterest = interestEarned.subtract(tdsAmount);
+
+            entries.add(PrematureWithdrawalScheduleResponse.Entry.builder()
+                    .withdrawalDate(date)
+                    .daysHeld(daysHeld)
+                    .interestEarned(interestEarned)
+                    .penaltyAmount(normalInterest.subtract(interestEarned))
+                    .tdsAmount(tdsAmount)
+                    .netInterest(netInterest)
+                    .netPayable(principal.add(netInterest))
+                    .effectiveAnnualRate(daysHeld > 0
+                            ? netInterest.multiply(DAYS_PER_YEAR_PERCENT)
+                                    .divide(principal.multiply(BigDecimal.valueOf(daysHeld)), 2, RoundingMode.HALF_UP)
+                            : BigDecimal.ZERO)
+                    .build());
+
+            daysHeld += stepDays;
+            normalNumerator = normalNumerator.add(normalPerStep);
+            revisedNumerator = revisedNumerator.add(revisedPerStep);
+        }
+
+        return PrematureWithdrawalScheduleResponse.builder()
+                .accountNumber(account.getAccountNumber())
+                .effectiveDate(account.getEffectiveDate())
+                .maturityDate(account.getMaturityDate())
+                .totalTermDays((int) ChronoUnit.DAYS.between(account.getEffectiveDate(), account.getMaturityDate()))
+                .principalAmount(principal)
+                .normalInterestRate(terms.normalRate())
+                .penaltyPercentage(terms.penaltyPercentage())
+                .revisedInterestRate(terms.revisedRate())
+                .tdsRate(tdsRate)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .stepDays(stepDays)
+                .entries(entries)
+                .message(String.format("%d withdrawal dates with %.2f%% penalty", entries.size(),
+                        terms.penaltyPercentage()))
+                .isEligible(true)
+                .build();
+    }
+
     /**
      * Process premature withdrawal
+     * Runs as one transaction, retried as a whole if the account changes concurrently
      */
-    @Transactional
     public TransactionResponse processPrematureWithdrawal(
             String accountNumber, 
             LocalDate withdrawalDate, 
@@ -149,6 +271,20 @@ public class PrematureWithdrawalService {
         
         log.info("Processing premature withdrawal for account: {}", accountNumber);
 
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(() -> new RuntimeException("Account not found: " + accountNumber));
+
+        // The postings below join this one transaction and hold the account's posting lock until it commits
+        return accountPostingExecutor.execute(accountId,
+                () -> postPrematureWithdrawal(accountNumber, withdrawalDate, performedBy, remarks));
+    }
+
+    private TransactionResponse postPrematureWithdrawal(
+            String accountNumber,
+            LocalDate withdrawalDate,
+            String performedBy,
+            String remarks) {
+
         // 1. Get inquiry details first
         PrematureWithdrawalInquiryRequest inquiryRequest = PrematureWithdrawalInquiryRequest.builder()
                 .accountNumber(accountNumber)
@@ -222,6 +358,46 @@ public class PrematureWithdrawalService {
         return withdrawalResponse;
     }
 
+    /**
+     * Resolve the normal and penalised interest rates of an account
+     */
+    private WithdrawalTerms resolveTerms(FdAccount account) {
+        // Use default penalty as product doesn't provide it
+        BigDecimal penaltyPercentage = defaultPenaltyPercentage;
+
+        BigDecimal normalRate = account.getCustomInterestRate() != null ?
+                account.getCustomInterestRate() : account.getInterestRate();
+        BigDecimal revisedRate = normalRate.subtract(penaltyPercentage);
+        if (revisedRate.compareTo(BigDecimal.ZERO) < 0) {
+            revisedRate = BigDecimal.ZERO;
+        }
+        return new WithdrawalTerms(normalRate, penaltyPercentage, revisedRate);
+    }
+
+    /**
+     * Build ineligible schedule response
+     */
+    private PrematureWithdrawalScheduleResponse buildIneligibleSchedule(
+            FdAccount account,
+            LocalDate fromDate,
+            LocalDate toDate,
+            int stepDays,
+            String message) {
+
+        return PrematureWithdrawalScheduleResponse.builder()
+                .accountNumber(account.getAccountNumber())
+                .effectiveDate(account.getEffectiveDate())
+                .maturityDate(account.getMaturityDate())
+                .principalAmount(account.getPrincipalAmount())
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .stepDays(stepDays)
+                .entries(List.of())
+                .message(message)
+                .isEligible(false)
+                .build();
+    }
+
     /**
      * Build ineligible response
      */
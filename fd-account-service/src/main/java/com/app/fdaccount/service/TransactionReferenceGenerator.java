@@ -0,0 +1,172 @@
+package com.app.fdaccount.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generator for transaction references
+ * Format: TXN-YYYYMMDD-NNNNNNNNNNNNNNNNNNN (32 chars)
+ *
+ * The numeric part is a 63-bit id packing milliseconds since 2024-01-01 (41 bits),
+ * a cluster-unique node number (10 bits) and a per-node sequence (12 bits), so
+ * references are unique across nodes and sort in generation order. New keys land
+ * at the right edge of the transaction_reference index instead of scattering.
+ *
+ * The sequence is advanced with a CAS loop rather than a lock. When more than 4096
+ * references are taken in one millisecond, or the clock steps backwards, the id
+ * simply runs ahead of the clock until it catches up, so it never repeats.
+ *
+ * A node number claimed through a lease is re-checked whenever the id moves to a new
+ * millisecond. If the lease was lost (taken over, or close to expiring because renewals
+ * failed), a free number is claimed before any further reference is issued; when none
+ * can be claimed, next() fails instead of risking a duplicate. Deployments that cannot
+ * tolerate that should set ledger.reference.node-number explicitly on every instance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionReferenceGenerator {
+
+    private static final String PREFIX = "TXN-";
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int MAX_NODE_NUMBER = (1 << NODE_BITS) - 1;
+    private static final int ID_DIGITS = 19;
+    private static final String NODE_LEASE_PREFIX = "REFERENCE_NODE_";
+
+    private final BatchLeaseService batchLeaseService;
+
+    // Last issued (millis since epoch << SEQUENCE_BITS | sequence)
+    private final AtomicLong lastTimeAndSequence = new AtomicLong();
+
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    @Value("${ledger.reference.node-number:-1}")
+    private int configuredNodeNumber;
+
+    private volatile int nodeNumber;
+    private volatile String nodeLease;
+    // Millisecond (since EPOCH_MILLIS) for which the node lease was last confirmed
+    private volatile long leaseCheckedMillis = -1;
+    private volatile DatePrefix datePrefix;
+
+    @PostConstruct
+    void initNodeNumber() {
+        if (configuredNodeNumber > MAX_NODE_NUMBER) {
+            throw new IllegalArgumentException("ledger.reference.node-number must be between 0 and " + MAX_NODE_NUMBER);
+        }
+        nodeNumber = configuredNodeNumber >= 0 ? configuredNodeNumber : claimNodeNumber();
+        log.info("Transaction reference node number: {}", nodeNumber);
+    }
+
+    @PreDestroy
+    void releaseNodeNumber() {
+        if (nodeLease != null) {
+            batchLeaseService.release(nodeLease);
+        }
+    }
+
+    /**
+     * Next transaction reference; safe to call from any number of threads
+     */
+    public String next() {
+        long timeAndSequence = nextTimeAndSequence();
+        long millis = timeAndSequence >>> SEQUENCE_BITS;
+        long id = (millis << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) currentNodeNumber(millis) << SEQUENCE_BITS)
+                | (timeAndSequence & ((1L << SEQUENCE_BITS) - 1));
+
+        char[] prefix = datePrefixFor(EPOCH_MILLIS + millis);
+        char[] reference = new char[prefix.length + ID_DIGITS];
+        System.arraycopy(prefix, 0, reference, 0, prefix.length);
+        for (int i = reference.length - 1; i >= prefix.length; i--) {
+            reference[i] = (char) ('0' + (id % 10));
+            id /= 10;
+        }
+        return new String(reference);
+    }
+
+    private long nextTimeAndSequence() {
+        while (true) {
+            long previous = lastTimeAndSequence.get();
+            long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            long next = Math.max(previous + 1, now);
+            if (lastTimeAndSequence.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Node number to use for ids of the given millisecond, confirming the node lease once per millisecond
+     */
+    private int currentNodeNumber(long millis) {
+        if (nodeLease != null && millis > leaseCheckedMillis) {
+            ensureNodeLease();
+            leaseCheckedMillis = millis;
+        }
+        return nodeNumber;
+    }
+
+    /**
+     * Re-claim a node number if the lease on the current one is no longer safely held
+     */
+    private synchronized void ensureNodeLease() {
+        if (batchLeaseService.holdsLease(nodeLease)) {
+            return;
+        }
+
+        log.warn("⚠️ Lease {} on transaction reference node number {} was lost, claiming a new one",
+                nodeLease, nodeNumber);
+        nodeNumber = claimNodeNumber();
+        log.info("Transaction reference node number: {}", nodeNumber);
+    }
+
+    /**
+     * "TXN-YYYYMMDD-" for the day containing the given instant, cached until the day changes
+     */
+    private char[] datePrefixFor(long epochMillis) {
+        DatePrefix current = datePrefix;
+        if (current == null || epochMillis < current.dayStart || epochMillis >= current.dayEnd) {
+            LocalDate date = Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate();
+            current = new DatePrefix(
+                    date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                    date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli(),
+                    (PREFIX + date.toString().replace("-", "") + "-").toCharArray());
+            datePrefix = current;
+        }
+        return current.prefix;
+    }
+
+    /**
+     * Claim a node number no other live instance holds, via a batch lease per number
+     * The lease is kept alive by the lease heartbeat for as long as this node runs;
+     * if it is lost anyway, ensureNodeLease claims again (possibly the same number)
+     */
+    private int claimNodeNumber() {
+        int start = Math.floorMod(batchLeaseService.getNodeId().hashCode(), MAX_NODE_NUMBER + 1);
+        for (int i = 0; i <= MAX_NODE_NUMBER; i++) {
+            int candidate = (start + i) & MAX_NODE_NUMBER;
+            if (batchLeaseService.tryAcquire(NODE_LEASE_PREFIX + candidate)) {
+                nodeLease = NODE_LEASE_PREFIX + candidate;
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No free transaction reference node number");
+    }
+
+    private record DatePrefix(long dayStart, long dayEnd, char[] prefix) {
+    }
+}
@@ -3,8 +3,9 @@ package com.app.fdaccount.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -15,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.app.fdaccount.dto.TransactionRequest;
 import com.app.fdaccount.dto.TransactionResponse;
-import com.app.fdaccount.entity.AccountBalance;
 import com.app.fdaccount.entity.AccountTransaction;
 import com.app.fdaccount.entity.FdAccount;
 import com.app.fdaccount.enums.TransactionType;
@@ -33,27 +33,42 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class TransactionService {
 
+    // Bounds for an open-ended date range that stay within the database DATE type
+    private static final LocalDate OPEN_RANGE_START = LocalDate.of(1900, 1, 1);
+    private static final LocalDate OPEN_RANGE_END = LocalDate.of(9999, 12, 31);
+    private static final int MAX_RECENT_TRANSACTIONS = 50;
+
     private final FdAccountRepository accountRepository;
     private final AccountTransactionRepository transactionRepository;
+    private final LedgerArchiveService ledgerArchiveService;
+    private final TransactionReferenceGenerator transactionReferenceGenerator;
+    private final AccountPostingExecutor accountPostingExecutor;
 
     /**
      * Create a new transaction
+     * Serialized with other postings to the same account and retried on concurrent updates
      */
-    @Transactional
     public TransactionResponse createTransaction(TransactionRequest request) {
         log.info("Creating transaction: type={}, amount={} for account={}", 
                 request.getTransactionType(), request.getAmount(), request.getAccountNumber());
 
-        // 1. Find account
-        FdAccount account = accountRepository.findByAccountNumber(request.getAccountNumber())
+        Long accountId = accountRepository.findIdByAccountNumber(request.getAccountNumber())
+                .orElseThrow(() -> new RuntimeException("Account not found: " + request.getAccountNumber()));
+
+        return accountPostingExecutor.execute(accountId, () -> postTransaction(accountId, request));
+    }
+
+    private TransactionResponse postTransaction(Long accountId, TransactionRequest request) {
+        // 1. Find account (re-read on every attempt, so balances are current)
+        FdAccount account = accountRepository.findByIdForPosting(accountId)
                 .orElseThrow(() -> new RuntimeException("Account not found: " + request.getAccountNumber()));
 
         // 2. Validate transaction
         validateTransaction(account, request);
 
         // 3. Get current balances
-        BigDecimal currentPrincipal = getCurrentBalance(account, "PRINCIPAL");
-        BigDecimal currentInterest = getCurrentBalance(account, "INTEREST_ACCRUED");
+        BigDecimal currentPrincipal = account.getCurrentBalance("PRINCIPAL", BigDecimal.ZERO);
+        BigDecimal currentInterest = account.getCurrentBalance("INTEREST_ACCRUED", BigDecimal.ZERO);
         BigDecimal currentTotal = currentPrincipal.add(currentInterest);
 
         // 4. Calculate new balances based on transaction type
@@ -127,7 +142,7 @@ public class TransactionService {
 
         // 5. Create transaction
         AccountTransaction transaction = AccountTransaction.builder()
-                .transactionReference(generateTransactionReference())
+                .transactionReference(transactionReferenceGenerator.next())
                 .transactionType(request.getTransactionType())
                 .amount(request.getAmount())
                 .transactionDate(request.getTransactionDate())
@@ -163,12 +178,23 @@ public class TransactionService {
 
     /**
      * Reverse a transaction
+     * Serialized with other postings to the same account and retried on concurrent updates
      */
-    @Transactional
     public TransactionResponse reverseTransaction(String transactionReference, String reason, String performedBy) {
         log.info("Reversing transaction: {}", transactionReference);
 
-        // 1. Find original transaction
+        Long accountId = transactionRepository.findAccountIdByTransactionReference(transactionReference)
+                .orElseThrow(() -> new RuntimeException("Transaction not found: " + transactionReference));
+
+        return accountPostingExecutor.execute(accountId,
+                () -> postReversal(accountId, transactionReference, reason, performedBy));
+    }
+
+    private TransactionResponse postReversal(Long accountId, String transactionReference, String reason,
+                                             String performedBy) {
+        // 1. Find account and original transaction
+        FdAccount account = accountRepository.findByIdForPosting(accountId)
+                .orElseThrow(() -> new RuntimeException("Account not found: " + accountId));
         AccountTransaction originalTransaction = transactionRepository.findByTransactionReference(transactionReference)
                 .orElseThrow(() -> new RuntimeException("Transaction not found: " + transactionReference));
 
@@ -176,12 +202,9 @@ public class TransactionService {
             throw new IllegalStateException("Transaction already reversed: " + transactionReference);
         }
 
-        // 2. Find account
-        FdAccount account = originalTransaction.getAccount();
-
-        // 3. Get current balances
-        BigDecimal currentPrincipal = getCurrentBalance(account, "PRINCIPAL");
-        BigDecimal currentInterest = getCurrentBalance(account, "INTEREST_ACCRUED");
+        // 2-3. Get current balances
+        BigDecimal currentPrincipal = account.getCurrentBalance("PRINCIPAL", BigDecimal.ZERO);
+        BigDecimal currentInterest = account.getCurrentBalance("INTEREST_ACCRUED", BigDecimal.ZERO);
         BigDecimal currentTotal = currentPrincipal.add(currentInterest);
 
         // 4. Calculate reversed balances (opposite of original)
@@ -223,7 +246,7 @@ public class TransactionService {
 
         // 6. Create reversal transaction
         AccountTransaction reversalTransaction = AccountTransaction.builder()
-                .transactionReference(generateTransactionReference())
+                .transactionReference(transactionReferenceGenerator.next())
                 .transactionType(TransactionType.REVERSAL)
                 .amount(reversalAmount)
                 .transactionDate(LocalDate.now())
@@ -280,6 +303,55 @@ public class TransactionService {
         return transactions.map(this::mapToTransactionResponse);
     }
 
+    /**
+     * Get transaction history for an account, optionally within a date range (inclusive)
+     * With includeArchived, compacted months show their archived daily rows instead of the monthly summaries
+     */
+    @Transactional(readOnly = true)
+    public List<TransactionResponse> getTransactionHistory(String accountNumber, LocalDate fromDate, LocalDate toDate,
+                                                           boolean includeArchived) {
+        FdAccount account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new RuntimeException("Account not found: " + accountNumber));
+
+        List<AccountTransaction> hot = fromDate != null || toDate != null
+                ? transactionRepository.findByAccountIdAndDateRange(account.getId(),
+                        fromDate != null ? fromDate : OPEN_RANGE_START, toDate != null ? toDate : OPEN_RANGE_END)
+                : transactionRepository.findByAccountId(account.getId());
+
+        List<TransactionResponse> history = hot.stream()
+                .filter(transaction -> !includeArchived || !Boolean.TRUE.equals(transaction.getIsSummary()))
+                .map(this::mapToTransactionResponse)
+                .collect(Collectors.toList());
+
+        if (includeArchived) {
+            // An interrupted compaction can leave a row both archived and hot; keep the hot copy
+            Set<Long> hotIds = history.stream().map(TransactionResponse::getId).collect(Collectors.toSet());
+            ledgerArchiveService.readTransactions(account.getId(), fromDate, toDate).stream()
+                    .filter(archived -> !hotIds.contains(archived.getId()))
+                    .forEach(history::add);
+            history.sort(Comparator.comparing(TransactionResponse::getTransactionDate)
+                    .thenComparing(TransactionResponse::getId).reversed());
+        }
+
+        return history;
+    }
+
+    /**
+     * Get the latest transactions across all of a customer's accounts, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<TransactionResponse> getRecentCustomerTransactions(Long customerId, int limit) {
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_RECENT_TRANSACTIONS)));
+
+        return transactionRepository.findRecentByCustomerId(customerId, pageable).stream()
+                .map(transaction -> {
+                    TransactionResponse response = mapToTransactionResponse(transaction);
+                    response.setAccountNumber(transaction.getAccount().getAccountNumber());
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * Get transaction by reference
      */
@@ -312,36 +384,10 @@ public class TransactionService {
     }
 
     /**
-     * Get current balance for a balance type
-     */
-    private BigDecimal getCurrentBalance(FdAccount account, String balanceType) {
-        return account.getBalances().stream()
-                .filter(b -> balanceType.equals(b.getBalanceType()))
-                .max((b1, b2) -> b1.getAsOfDate().compareTo(b2.getAsOfDate()))
-                .map(AccountBalance::getBalance)
-                .orElse(BigDecimal.ZERO);
-    }
-
-    /**
-     * Update or create account balance
+     * Post a balance after a transaction: history row plus in-place current balance
      */
     private void updateAccountBalance(FdAccount account, String balanceType, BigDecimal balance, LocalDate asOfDate) {
-        AccountBalance accountBalance = AccountBalance.builder()
-                .balanceType(balanceType)
-                .balance(balance)
-                .asOfDate(asOfDate)
-                .description("Balance after transaction on " + asOfDate)
-                .build();
-
-        account.addBalance(accountBalance);
-    }
-
-    /**
-     * Generate unique transaction reference
-     */
-    private String generateTransactionReference() {
-        return "TXN-" + LocalDate.now().toString().replace("-", "") + "-" + 
-               UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        account.postBalance(balanceType, balance, asOfDate, "Balance after transaction on " + asOfDate);
     }
 
     /**
@@ -365,6 +411,7 @@ public class TransactionService {
                 .reversalDate(transaction.getReversalDate())
                 .reversalReason(transaction.getReversalReason())
                 .relatedTransactionId(transaction.getRelatedTransactionId())
+                .isSummary(Boolean.TRUE.equals(transaction.getIsSummary()))
                 .createdAt(transaction.getCreatedAt())
                 .build();
     }
@@ -1,9 +1,17 @@
 package com.app.fdaccount.service.accountnumber;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
@@ -12,7 +20,12 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service for managing account number sequences
- * Uses database table for persistence and caching for performance
+ *
+ * Sequences are handed out in blocks (hi-lo): a node reserves the next
+ * account-number.sequence-block-size numbers of a branch with one atomic UPDATE
+ * and then issues them from memory. Blocks never overlap, so numbers are unique
+ * across nodes; numbers left in a block when a node stops are skipped, so the
+ * block size is also the largest gap a restart can leave.
  */
 @Slf4j
 @Service
@@ -22,31 +35,82 @@ public class AccountNumberSequenceService {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, SequenceBlock> blocks = new ConcurrentHashMap<>();
+    private final Map<String, Object> refillLocks = new ConcurrentHashMap<>();
+
     @Value("${account-number.sequence-start:100000}")
     private Long sequenceStart;
 
+    @Value("${account-number.sequence-block-size:20}")
+    private int blockSize;
+
+    @Value("${account-number.sequence-max:999999}")
+    private long sequenceMax;
+
+    private TransactionTemplate reserveTemplate;
+    private volatile boolean tableReady;
+
+    @PostConstruct
+    void initReserveTemplate() {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("account-number.sequence-block-size must be at least 1");
+        }
+        // Reservations commit on their own so a rolled-back account opening cannot hand a block out twice
+        reserveTemplate = new TransactionTemplate(transactionManager);
+        reserveTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
     /**
      * Get next sequence number for a branch
-     * Thread-safe with database-level locking
+     * Lock-free while the branch's current block lasts; refills are serialized per branch
      */
-    @Transactional
-    public synchronized long getNextSequence(String branchCode) {
-        // Check if sequence exists for this branch
-        Long currentSequence = getCurrentSequence(branchCode);
-
-        long nextSequence;
-        if (currentSequence == null) {
-            // First time for this branch - use starting sequence
-            nextSequence = sequenceStart;
-            createSequence(branchCode, nextSequence);
-        } else {
-            // Increment sequence
-            nextSequence = currentSequence + 1;
-            updateSequence(branchCode, nextSequence);
+    public long getNextSequence(String branchCode) {
+        while (true) {
+            SequenceBlock block = blocks.get(branchCode);
+            if (block != null) {
+                long sequence = block.next.getAndIncrement();
+                if (sequence <= block.end) {
+                    return sequence;
+                }
+            }
+
+            synchronized (refillLocks.computeIfAbsent(branchCode, key -> new Object())) {
+                // Another thread may have refilled while this one waited
+                if (blocks.get(branchCode) == block) {
+                    blocks.put(branchCode, reserveBlock(branchCode));
+                }
+            }
         }
+    }
 
-        log.debug("Generated sequence {} for branch {}", nextSequence, branchCode);
-        return nextSequence;
+    /**
+     * Reserve the next block for a branch, creating the branch's sequence row on first use
+     */
+    private SequenceBlock reserveBlock(String branchCode) {
+        SequenceBlock block = reserveTemplate.execute(status -> {
+            ensureSequenceTableExists();
+
+            Long end = incrementSequence(branchCode);
+            if (end == null && createSequence(branchCode, sequenceStart + blockSize - 1)) {
+                end = sequenceStart + blockSize - 1;
+            }
+            if (end == null) {
+                // Lost the race to create the row; it exists now
+                end = incrementSequence(branchCode);
+            }
+            if (end == null) {
+                throw new IllegalStateException("Could not reserve account number sequence for branch " + branchCode);
+            }
+            return new SequenceBlock(end - blockSize + 1, Math.min(end, sequenceMax));
+        });
+
+        if (block.next.get() > block.end) {
+            throw new IllegalStateException("Account number sequence exhausted for branch " + branchCode);
+        }
+        log.debug("Reserved sequence block {}-{} for branch {}", block.next.get(), block.end, branchCode);
+        return block;
     }
 
     /**
@@ -68,40 +132,52 @@ public class AccountNumberSequenceService {
     }
 
     /**
-     * Create initial sequence for a branch
+     * Add a block to a branch's high-water mark in one atomic UPDATE
+     *
+     * @return the new high-water mark (last number of the reserved block), or null if the branch has no row
      */
-    private void createSequence(String branchCode, long sequence) {
-        // Create table if it doesn't exist
-        ensureSequenceTableExists();
-
+    private Long incrementSequence(String branchCode) {
         Query query = entityManager.createNativeQuery(
-            "INSERT INTO account_number_sequence (branch_code, current_sequence, created_at, updated_at) " +
-            "VALUES (:branchCode, :sequence, NOW(), NOW())"
+            "UPDATE account_number_sequence SET current_sequence = LAST_INSERT_ID(current_sequence + :blockSize), " +
+            "updated_at = NOW() WHERE branch_code = :branchCode"
         );
+        query.setParameter("blockSize", blockSize);
         query.setParameter("branchCode", branchCode);
-        query.setParameter("sequence", sequence);
-        query.executeUpdate();
+        if (query.executeUpdate() == 0) {
+            return null;
+        }
 
-        log.info("Created sequence for branch {} starting at {}", branchCode, sequence);
+        // LAST_INSERT_ID(expr) is per connection, so this reads back our own update
+        return ((Number) entityManager.createNativeQuery("SELECT LAST_INSERT_ID()").getSingleResult()).longValue();
     }
 
     /**
-     * Update sequence for a branch
+     * Create initial sequence for a branch
+     *
+     * @return false if another node created it first
      */
-    private void updateSequence(String branchCode, long newSequence) {
+    private boolean createSequence(String branchCode, long sequence) {
         Query query = entityManager.createNativeQuery(
-            "UPDATE account_number_sequence SET current_sequence = :sequence, updated_at = NOW() " +
-            "WHERE branch_code = :branchCode"
+            "INSERT IGNORE INTO account_number_sequence (branch_code, current_sequence, created_at, updated_at) " +
+            "VALUES (:branchCode, :sequence, NOW(), NOW())"
         );
         query.setParameter("branchCode", branchCode);
-        query.setParameter("sequence", newSequence);
-        query.executeUpdate();
+        query.setParameter("sequence", sequence);
+        boolean created = query.executeUpdate() > 0;
+
+        if (created) {
+            log.info("Created sequence for branch {} at {}", branchCode, sequence);
+        }
+        return created;
     }
 
     /**
-     * Ensure sequence table exists
+     * Ensure sequence table exists (checked once per node)
      */
     private void ensureSequenceTableExists() {
+        if (tableReady) {
+            return;
+        }
         try {
             entityManager.createNativeQuery(
                 "CREATE TABLE IF NOT EXISTS account_number_sequence (" +
@@ -113,6 +189,7 @@ public class AccountNumberSequenceService {
                 "INDEX idx_branch_code (branch_code)" +
                 ")"
             ).executeUpdate();
+            tableReady = true;
         } catch (Exception e) {
             // Table might already exist, which is fine
             log.debug("Sequence table check: {}", e.getMessage());
@@ -121,9 +198,13 @@ public class AccountNumberSequenceService {
 
     /**
      * Reset sequence for a branch (admin function)
+     * Other nodes keep issuing from blocks they already hold until those run out
      */
     @Transactional
     public void resetSequence(String branchCode, long newSequence) {
+        ensureSequenceTableExists();
+        blocks.remove(branchCode);
+
         Query query = entityManager.createNativeQuery(
             "UPDATE account_number_sequence SET current_sequence = :sequence, updated_at = NOW() " +
             "WHERE branch_code = :branchCode"
@@ -138,4 +219,17 @@ public class AccountNumberSequenceService {
 
         log.warn("Reset sequence for branch {} to {}", branchCode, newSequence);
     }
+
+    /**
+     * Range of sequence numbers reserved by this node; next may run past end once exhausted
+     */
+    private static final class SequenceBlock {
+        private final AtomicLong next;
+        private final long end;
+
+        private SequenceBlock(long first, long end) {
+            this.next = new AtomicLong(first);
+            this.end = end;
+        }
+    }
 }
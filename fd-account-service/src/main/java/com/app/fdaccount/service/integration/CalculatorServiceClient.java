@@ -1,71 +1,89 @@
 package com.app.fdaccount.service.integration;
 
 import java.math.BigDecimal;
-import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import com.app.fdaccount.dto.external.ApiResponseWrapper;
+import com.app.calc.FdCalculator;
+import com.app.calc.enums.CalculationType;
+import com.app.calc.enums.CompoundingFrequency;
+import com.app.calc.enums.TenureUnit;
+import com.app.calc.model.FdCalculationResult;
+import com.app.calc.model.MonthlyBreakdown;
+import com.app.common.money.Money;
+import com.app.common.money.Rate;
 import com.app.fdaccount.dto.external.CalculationRequest;
 import com.app.fdaccount.dto.external.CalculationResultDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
- * Service to integrate with fd-calculator-service
+ * FD calculations for the account service
+ * Runs the shared fd-calc-core kernel in-process, so results are identical to
+ * fd-calculator-service without a network hop
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CalculatorServiceClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private static final BigDecimal DEFAULT_TDS_RATE = BigDecimal.valueOf(10.0);
 
-    @Value("${integration.calculator-service.url}")
-    private String calculatorServiceUrl;
-
-    @Value("${integration.calculator-service.timeout:10000}")
-    private int timeout;
+    private final FdCalculator fdCalculator;
 
     /**
-     * Calculate FD maturity amount and date
+     * Calculate FD maturity amount and date, starting today
      */
-    @Cacheable(value = "calculationResults", 
-               key = "#request.principalAmount + '-' + #request.interestRate + '-' + #request.tenure")
     public CalculationResultDto calculateMaturity(CalculationRequest request) {
-        log.debug("Calculating maturity for principal: {}, rate: {}, tenure: {} {}", 
+        log.debug("Calculating maturity for principal: {}, rate: {}, tenure: {} {}",
                  request.getPrincipalAmount(), request.getInterestRate(), request.getTenure(), request.getTenureUnit());
 
         try {
-            ApiResponseWrapper<CalculationResultDto> response = webClientBuilder.build()
-                    .post()
-                    .uri(calculatorServiceUrl + "/calculate/standalone")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<ApiResponseWrapper<CalculationResultDto>>() {})
-                    .timeout(Duration.ofMillis(timeout))
-                    .block();
-
-            if (response == null || response.getData() == null) {
-                throw new RuntimeException("Calculation service returned null result");
-            }
-
-            CalculationResultDto result = response.getData();
-            log.info("✅ Calculated maturity: Amount={}, Date={}", 
-                    result.getMaturityAmount(), result.getMaturityDate());
-            return result;
-
-        } catch (Exception e) {
+            FdCalculationResult result = fdCalculator.calculate(
+                    request.getPrincipalAmount(),
+                    request.getInterestRate(),
+                    request.getTenure(),
+                    request.getTenureUnit() != null ? TenureUnit.valueOf(request.getTenureUnit()) : TenureUnit.MONTHS,
+                    CalculationType.fromMethod(request.getCalculationType()),
+                    CompoundingFrequency.fromName(request.getCompoundingFrequency()),
+                    request.getTdsRate(),
+                    LocalDate.now(),
+                    true);
+            log.debug("Calculated maturity: Amount={}, Date={}", result.getMaturityAmount(), result.getMaturityDate());
+            return toResultDto(result, request.getCustomerClassifications());
+        } catch (RuntimeException e) {
             log.error("❌ Failed to calculate maturity", e);
             throw new RuntimeException("Failed to calculate maturity: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Calculate FD maturity for a deposit starting on the given date as a Mono,
+     * for composing with the remote product/customer lookups
+     */
+    public Mono<CalculationResultDto> calculateMaturityAsync(
+            BigDecimal principalAmount,
+            BigDecimal interestRate,
+            int termMonths,
+            String interestCalculationMethod,
+            String compoundingFrequency,
+            LocalDate startDate) {
+
+        return Mono.fromCallable(() -> {
+            try {
+                return calculateMaturity(principalAmount, interestRate, termMonths,
+                        interestCalculationMethod, compoundingFrequency, startDate);
+            } catch (RuntimeException e) {
+                log.error("❌ Failed to calculate maturity", e);
+                throw new RuntimeException("Failed to calculate maturity: " + e.getMessage(), e);
+            }
+        });
+    }
+
     /**
      * Calculate FD maturity with all parameters
      */
@@ -76,17 +94,83 @@ public class CalculatorServiceClient {
             String interestCalculationMethod,
             String compoundingFrequency) {
 
-        CalculationRequest request = CalculationRequest.builder()
+        return calculateMaturity(buildMaturityRequest(principalAmount, interestRate, termMonths,
+                interestCalculationMethod, compoundingFrequency));
+    }
+
+    /**
+     * Calculate FD maturity for a deposit starting on the given date
+     * Account opening passes the account's effective date; the monthly breakdown is
+     * skipped as account creation does not use it
+     */
+    public CalculationResultDto calculateMaturity(
+            BigDecimal principalAmount,
+            BigDecimal interestRate,
+            int termMonths,
+            String interestCalculationMethod,
+            String compoundingFrequency,
+            LocalDate startDate) {
+
+        FdCalculationResult result = fdCalculator.calculate(
+                principalAmount,
+                interestRate,
+                termMonths,
+                TenureUnit.MONTHS,
+                CalculationType.fromMethod(interestCalculationMethod),
+                CompoundingFrequency.fromName(compoundingFrequency),
+                DEFAULT_TDS_RATE,
+                startDate,
+                false);
+        return toResultDto(result, null);
+    }
+
+    private CalculationRequest buildMaturityRequest(
+            BigDecimal principalAmount,
+            BigDecimal interestRate,
+            Integer termMonths,
+            String interestCalculationMethod,
+            String compoundingFrequency) {
+
+        return CalculationRequest.builder()
                 .principalAmount(principalAmount)
                 .interestRate(interestRate)
                 .tenure(termMonths)
                 .tenureUnit("MONTHS")  // Always MONTHS for FD accounts
                 .calculationType(interestCalculationMethod != null ? interestCalculationMethod : "COMPOUND")
                 .compoundingFrequency(compoundingFrequency != null ? compoundingFrequency : "QUARTERLY")
-                .tdsRate(BigDecimal.valueOf(10.0))  // Default TDS rate
+                .tdsRate(DEFAULT_TDS_RATE)  // Default TDS rate
+                .build();
+    }
+
+    private CalculationResultDto toResultDto(FdCalculationResult result, List<String> customerClassifications) {
+        return CalculationResultDto.builder()
+                .principalAmount(result.getPrincipalAmount())
+                .interestRate(result.getInterestRate())
+                .baseInterestRate(result.getInterestRate())
+                .additionalInterestRate(BigDecimal.ZERO)
+                .tenure(result.getTenure())
+                .startDate(result.getStartDate())
+                .maturityDate(result.getMaturityDate())
+                .maturityAmount(result.getMaturityAmount())
+                .interestEarned(result.getInterestEarned())
+                .netInterest(result.getNetInterest())
+                .tdsAmount(result.getTdsAmount())
+                .tdsRate(result.getTdsRate())
+                .customerClassifications(customerClassifications)
+                .interestBreakdowns(result.getMonthlyBreakdown() == null ? null
+                        : result.getMonthlyBreakdown().stream().map(this::toInterestBreakdown).toList())
                 .build();
+    }
 
-        return calculateMaturity(request);
+    private CalculationResultDto.InterestBreakdown toInterestBreakdown(MonthlyBreakdown month) {
+        return CalculationResultDto.InterestBreakdown.builder()
+                .month(month.getMonth())
+                .date(month.getDate())
+                .principalBalance(month.getOpeningBalance())
+                .interestEarned(month.getInterestEarned())
+                .cumulativeInterest(month.getCumulativeInterest())
+                .totalBalance(month.getClosingBalance())
+                .build();
     }
 
     /**
@@ -101,20 +185,19 @@ public class CalculatorServiceClient {
         log.debug("Calculating interest: principal={}, rate={}, days={}", principal, rate, days);
 
         try {
-            // Simple interest calculation as fallback
-            // In production, this would call calculator service
-            BigDecimal dailyRate = rate.divide(BigDecimal.valueOf(36500), 10, BigDecimal.ROUND_HALF_UP);
-            BigDecimal interest = principal
-                    .multiply(dailyRate)
-                    .multiply(BigDecimal.valueOf(days))
-                    .setScale(2, BigDecimal.ROUND_HALF_UP);
-
-            log.debug("Calculated interest: {}", interest);
-            return interest;
-
+            return fdCalculator.calculateDailyInterest(principal, rate, days);
         } catch (Exception e) {
             log.error("Failed to calculate interest", e);
             return BigDecimal.ZERO;
         }
     }
+
+    /**
+     * Calculate simple interest for a specific period on fixed-point amounts
+     * Allocation-light variant used by the batch hot paths; same P × r × days / 36500,
+     * HALF_UP to the paisa, as the core daily kernel
+     */
+    public Money calculateInterest(Money principal, Rate rate, int days) {
+        return rate.simpleInterest(principal, days);
+    }
 }
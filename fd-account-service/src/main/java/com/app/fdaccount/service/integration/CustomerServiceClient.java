@@ -1,9 +1,18 @@
 package com.app.fdaccount.service.integration;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -16,6 +25,7 @@ import com.app.fdaccount.dto.external.CustomerDto;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * Service to integrate with customer-service
@@ -25,7 +35,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CustomerServiceClient {
 
+    private static final int BULK_LOOKUP_BATCH_SIZE = 500;
+
     private final WebClient.Builder webClientBuilder;
+    private final CacheManager cacheManager;
 
     @Value("${integration.customer-service.url}")
     private String customerServiceUrl;
@@ -59,43 +72,102 @@ public class CustomerServiceClient {
      */
     @Cacheable(value = "customers", key = "#customerId")
     public CustomerDto getCustomerById(Long customerId) {
+        return requestCustomer(customerId, getJwtToken()).block();
+    }
+
+    /**
+     * Get customer by customer ID without blocking
+     * Served from the same customers cache as getCustomerById, and fills it on a miss.
+     * The caller's JWT is captured here, on the request thread, not at subscription.
+     */
+    public Mono<CustomerDto> fetchCustomerById(Long customerId) {
+        Cache cache = cacheManager.getCache("customers");
+        CustomerDto cached = cache != null ? cache.get(customerId, CustomerDto.class) : null;
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return requestCustomer(customerId, getJwtToken())
+                .doOnNext(customer -> {
+                    if (cache != null) {
+                        cache.put(customerId, customer);
+                    }
+                });
+    }
+
+    private Mono<CustomerDto> requestCustomer(Long customerId, String jwtToken) {
         log.debug("Fetching customer: {}", customerId);
 
-        try {
-            String jwtToken = getJwtToken();
-            WebClient.RequestHeadersSpec<?> requestSpec = webClientBuilder.build()
-                    .get()
-                    .uri(customerServiceUrl + "/{customerId}", customerId);
+        WebClient.RequestHeadersSpec<?> requestSpec = webClientBuilder.build()
+                .get()
+                .uri(customerServiceUrl + "/{customerId}", customerId);
+
+        // Add JWT token if available
+        if (jwtToken != null) {
+            requestSpec = requestSpec.header("Authorization", "Bearer " + jwtToken);
+            log.debug("Added JWT token to request for customer: {}", customerId);
+        } else {
+            log.warn("No JWT token available for customer request: {}", customerId);
+        }
+
+        return requestSpec
+                .retrieve()
+                .bodyToMono(CustomerDto.class)
+                .timeout(Duration.ofMillis(timeout))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Customer not found: " + customerId)))
+                .map(customer -> {
+                    if (!Boolean.TRUE.equals(customer.getIsActive())) {
+                        throw new RuntimeException("Customer is not active: " + customerId);
+                    }
+
+                    log.info("✅ Fetched customer: {} - {}", customerId, customer.getCustomerName());
+                    return customer;
+                })
+                .doOnError(e -> log.error("❌ Failed to fetch customer: {}", customerId, e))
+                .onErrorMap(e -> new RuntimeException("Failed to fetch customer details: " + e.getMessage(), e));
+    }
+
+    /**
+     * Get many customers in one round trip per batch of IDs
+     * Only active customers are returned, keyed by customer ID
+     */
+    public Map<Long, CustomerDto> getCustomersByIds(Collection<Long> customerIds) {
+        Map<Long, CustomerDto> customers = new HashMap<>();
+        if (customerIds.isEmpty()) {
+            return customers;
+        }
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(customerIds));
+        String jwtToken = getJwtToken();
+
+        for (int from = 0; from < ids.size(); from += BULK_LOOKUP_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + BULK_LOOKUP_BATCH_SIZE, ids.size()));
+            log.debug("Fetching {} customers in bulk", batch.size());
+
+            WebClient.RequestBodySpec requestSpec = webClientBuilder.build()
+                    .post()
+                    .uri(customerServiceUrl + "/batch");
 
-            // Add JWT token if available
             if (jwtToken != null) {
                 requestSpec = requestSpec.header("Authorization", "Bearer " + jwtToken);
-                log.debug("Added JWT token to request for customer: {}", customerId);
-            } else {
-                log.warn("No JWT token available for customer request: {}", customerId);
             }
 
-            CustomerDto customer = requestSpec
+            List<CustomerDto> response = requestSpec
+                    .bodyValue(Map.of("customerIds", batch))
                     .retrieve()
-                    .bodyToMono(CustomerDto.class)
+                    .bodyToMono(new ParameterizedTypeReference<List<CustomerDto>>() {})
                     .timeout(Duration.ofMillis(timeout))
                     .block();
 
-            if (customer == null) {
-                throw new RuntimeException("Customer not found: " + customerId);
+            if (response != null) {
+                response.stream()
+                        .filter(customer -> customer.getCustomerId() != null &&
+                                Boolean.TRUE.equals(customer.getIsActive()))
+                        .forEach(customer -> customers.put(customer.getCustomerId(), customer));
             }
-
-            if (!Boolean.TRUE.equals(customer.getIsActive())) {
-                throw new RuntimeException("Customer is not active: " + customerId);
-            }
-
-            log.info("✅ Fetched customer: {} - {}", customerId, customer.getCustomerName());
-            return customer;
-
-        } catch (Exception e) {
-            log.error("❌ Failed to fetch customer: {}", customerId, e);
-            throw new RuntimeException("Failed to fetch customer details: " + e.getMessage(), e);
         }
+
+        log.info("✅ Fetched {} of {} customers in bulk", customers.size(), ids.size());
+        return customers;
     }
 
     /**
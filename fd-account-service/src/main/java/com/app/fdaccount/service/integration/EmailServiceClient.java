@@ -115,9 +115,30 @@ public class EmailServiceClient {
     public void sendFdMaturityNotificationEmail(String recipientEmail, String customerName, String accountNumber,
             String accountName, String principalAmount, String interestRate, String maturityDate,
             String maturityAmount, String daysUntilMaturity, String maturityInstruction, String transferAccount) {
+        try {
+            sendFdMaturityNotification(recipientEmail, customerName, accountNumber, accountName, principalAmount,
+                    interestRate, maturityDate, maturityAmount, daysUntilMaturity, maturityInstruction,
+                    transferAccount)
+                    .onErrorResume(error -> {
+                        log.warn("Email service error, continuing without email notification.", error);
+                        return Mono.empty();
+                    })
+                    .subscribe();
+        } catch (Exception e) {
+            log.error("Exception while sending FD maturity notification", e);
+        }
+    }
+
+    /**
+     * Send FD maturity notification email as a composable Mono
+     * Completes when the email service has accepted the request; errors are propagated to the caller
+     */
+    public Mono<Void> sendFdMaturityNotification(String recipientEmail, String customerName, String accountNumber,
+            String accountName, String principalAmount, String interestRate, String maturityDate,
+            String maturityAmount, String daysUntilMaturity, String maturityInstruction, String transferAccount) {
         if (!emailServiceEnabled) {
             log.info("Email service is disabled. Skipping FD maturity notification to: {}", recipientEmail);
-            return;
+            return Mono.empty();
         }
 
         log.info("Sending FD maturity notification to: {} for account: {}", recipientEmail, accountNumber);
@@ -135,25 +156,17 @@ public class EmailServiceClient {
         emailRequest.put("maturityInstruction", maturityInstruction);
         emailRequest.put("transferAccount", transferAccount != null ? transferAccount : "");
 
-        try {
-            WebClient webClient = webClientBuilder.baseUrl(emailServiceUrl).build();
-
-            webClient.post()
-                    .uri("/send-fd-maturity-notification")
-                    .bodyValue(emailRequest)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .doOnSuccess(response -> log.info("✅ FD maturity notification sent to: {} for account: {}",
-                            recipientEmail, accountNumber))
-                    .doOnError(error -> log.error("❌ Failed to send FD maturity notification to {}: {} - {}",
-                            recipientEmail, error.getClass().getSimpleName(), error.getMessage(), error))
-                    .onErrorResume(error -> {
-                        log.warn("Email service error, continuing without email notification.", error);
-                        return Mono.empty();
-                    })
-                    .subscribe();
-        } catch (Exception e) {
-            log.error("Exception while sending FD maturity notification", e);
-        }
+        WebClient webClient = webClientBuilder.baseUrl(emailServiceUrl).build();
+
+        return webClient.post()
+                .uri("/send-fd-maturity-notification")
+                .bodyValue(emailRequest)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .doOnSuccess(response -> log.info("✅ FD maturity notification sent to: {} for account: {}",
+                        recipientEmail, accountNumber))
+                .doOnError(error -> log.error("❌ Failed to send FD maturity notification to {}: {} - {}",
+                        recipientEmail, error.getClass().getSimpleName(), error.getMessage(), error))
+                .then();
     }
 }
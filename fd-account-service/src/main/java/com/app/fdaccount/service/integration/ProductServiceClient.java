@@ -3,6 +3,8 @@ package com.app.fdaccount.service.integration;
 import java.time.Duration;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
@@ -13,6 +15,7 @@ import com.app.fdaccount.dto.external.ProductDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * Service to integrate with product-pricing-service
@@ -23,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductServiceClient {
 
     private final WebClient.Builder webClientBuilder;
+    private final CacheManager cacheManager;
 
     @Value("${integration.product-service.url}")
     private String productServiceUrl;
@@ -36,34 +40,53 @@ public class ProductServiceClient {
      */
     @Cacheable(value = "products", key = "#productCode")
     public ProductDto getProductByCode(String productCode) {
-        log.debug("Fetching product: {}", productCode);
-
-        try {
-            ApiResponseWrapper<ProductDto> response = webClientBuilder.build()
-                    .get()
-                    .uri(productServiceUrl + "/code/{productCode}", productCode)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<ApiResponseWrapper<ProductDto>>() {})
-                    .timeout(Duration.ofMillis(timeout))
-                    .block();
-
-            if (response == null || !response.isSuccess() || response.getData() == null) {
-                throw new RuntimeException("Product not found: " + productCode);
-            }
-
-            ProductDto product = response.getData();
+        return requestProduct(productCode).block();
+    }
 
-            if (!"ACTIVE".equals(product.getStatus()) && !Boolean.TRUE.equals(product.getCurrentlyActive())) {
-                throw new RuntimeException("Product is not active: " + productCode);
-            }
+    /**
+     * Get product by product code without blocking
+     * Served from the same products cache as getProductByCode, and fills it on a miss
+     */
+    public Mono<ProductDto> fetchProductByCode(String productCode) {
+        Cache cache = cacheManager.getCache("products");
+        ProductDto cached = cache != null ? cache.get(productCode, ProductDto.class) : null;
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return requestProduct(productCode)
+                .doOnNext(product -> {
+                    if (cache != null) {
+                        cache.put(productCode, product);
+                    }
+                });
+    }
 
-            log.info("✅ Fetched product: {} - {}", productCode, product.getProductName());
-            return product;
+    private Mono<ProductDto> requestProduct(String productCode) {
+        log.debug("Fetching product: {}", productCode);
 
-        } catch (Exception e) {
-            log.error("❌ Failed to fetch product: {}", productCode, e);
-            throw new RuntimeException("Failed to fetch product details: " + e.getMessage(), e);
-        }
+        return webClientBuilder.build()
+                .get()
+                .uri(productServiceUrl + "/code/{productCode}", productCode)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponseWrapper<ProductDto>>() {})
+                .timeout(Duration.ofMillis(timeout))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Product not found: " + productCode)))
+                .map(response -> {
+                    if (!response.isSuccess() || response.getData() == null) {
+                        throw new RuntimeException("Product not found: " + productCode);
+                    }
+
+                    ProductDto product = response.getData();
+
+                    if (!"ACTIVE".equals(product.getStatus()) && !Boolean.TRUE.equals(product.getCurrentlyActive())) {
+                        throw new RuntimeException("Product is not active: " + productCode);
+                    }
+
+                    log.info("✅ Fetched product: {} - {}", productCode, product.getProductName());
+                    return product;
+                })
+                .doOnError(e -> log.error("❌ Failed to fetch product: {}", productCode, e))
+                .onErrorMap(e -> new RuntimeException("Failed to fetch product details: " + e.getMessage(), e));
     }
 
     /**
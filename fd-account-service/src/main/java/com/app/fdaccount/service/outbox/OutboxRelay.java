@@ -0,0 +1,282 @@
+package com.app.fdaccount.service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.app.common.event.EventEnvelope;
+import com.app.fdaccount.config.OutboxProperties;
+import com.app.fdaccount.config.SchedulingConfig;
+import com.app.fdaccount.entity.OutboxEvent;
+import com.app.fdaccount.enums.OutboxStatus;
+import com.app.fdaccount.repository.OutboxEventRepository;
+import com.app.fdaccount.service.BatchLeaseService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Delivers outbox events to their HTTP subscribers
+ *
+ * Every node polls: a batch of due events is locked with FOR UPDATE SKIP LOCKED and
+ * claimed for outbox.relay.claim-ttl-seconds in a short transaction, then delivered
+ * outside it. Events of a crashed node are claimed again once their claim expires.
+ * Failed events are retried with exponential backoff and are never dropped, so delivery
+ * is at-least-once and subscribers must ignore repeated event IDs. A claim holds at most
+ * one event per aggregate and subscriber, which keeps each aggregate's events in order.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    public static final String EVENT_ID_HEADER = "X-Event-Id";
+    public static final String TOKEN_HEADER = "X-Event-Token";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxProperties properties;
+    private final BatchLeaseService batchLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final WebClient.Builder webClientBuilder;
+    private final ObjectMapper objectMapper;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    void initWebClient() {
+        webClient = webClientBuilder.build();
+    }
+
+    /**
+     * Scheduled relay; drains due events batch by batch
+     * Runs on the heartbeat scheduler so delivery latency does not depend on batch jobs
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}",
+            scheduler = SchedulingConfig.HEARTBEAT_SCHEDULER)
+    public void relayScheduled() {
+        if (!properties.getRelay().isEnabled()) {
+            return;
+        }
+
+        try {
+            relayPendingEvents();
+        } catch (Exception e) {
+            log.error("❌ Outbox relay run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Claim and deliver batches until a claim comes back short or nothing could be delivered
+     *
+     * @return number of events delivered
+     */
+    public int relayPendingEvents() {
+        Map<String, OutboxProperties.Subscriber> subscribers = properties.enabledSubscribers();
+        if (subscribers.isEmpty()) {
+            return 0;
+        }
+
+        int batchSize = properties.getRelay().getBatchSize();
+        int delivered = 0;
+        List<OutboxEvent> claimed;
+        int deliveredInBatch;
+        do {
+            claimed = claimBatch(subscribers.keySet(), batchSize);
+            deliveredInBatch = claimed.isEmpty() ? 0 : deliver(claimed, subscribers);
+            delivered += deliveredInBatch;
+        } while (claimed.size() == batchSize && deliveredInBatch > 0);
+
+        if (delivered > 0) {
+            log.info("✅ Outbox relay delivered {} events", delivered);
+        }
+        return delivered;
+    }
+
+    /**
+     * Purge delivered events older than the retention period
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 15 * * * ?}")
+    public void purgeDeliveredEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(properties.getRetentionHours());
+        Integer purged = transactionTemplate.execute(status ->
+                outboxRepository.deleteDeliveredBefore(OutboxStatus.DELIVERED, cutoff));
+        log.info("Purged {} outbox events delivered before {}", purged, cutoff);
+    }
+
+    /**
+     * Lock, claim and load up to batchSize due events in one short transaction
+     */
+    private List<OutboxEvent> claimBatch(Collection<String> destinations, int batchSize) {
+        String nodeId = batchLeaseService.getNodeId();
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = outboxRepository.lockClaimableIds(destinations, now, batchSize);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxRepository.claim(ids, nodeId,
+                    now.plusSeconds(properties.getRelay().getClaimTtlSeconds()));
+            return outboxRepository.findByIdInOrderByIdAsc(ids);
+        });
+    }
+
+    /**
+     * Deliver claimed events per subscriber and record every outcome
+     *
+     * @return number of events delivered
+     */
+    private int deliver(List<OutboxEvent> claimed, Map<String, OutboxProperties.Subscriber> subscribers) {
+        Map<String, List<OutboxEvent>> byDestination = claimed.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getDestination, LinkedHashMap::new,
+                        Collectors.toList()));
+
+        List<Delivery> deliveries = new ArrayList<>();
+        byDestination.forEach((destination, events) -> {
+            OutboxProperties.Subscriber subscriber = subscribers.get(destination);
+            deliveries.addAll(subscriber.isBatch()
+                    ? deliverBatch(destination, subscriber, events)
+                    : deliverEach(destination, subscriber, events));
+        });
+
+        recordOutcomes(deliveries);
+        return (int) deliveries.stream().filter(Delivery::isDelivered).count();
+    }
+
+    /**
+     * One POST with all events of the batch as a JSON array of envelopes
+     */
+    private List<Delivery> deliverBatch(String destination, OutboxProperties.Subscriber subscriber,
+                                        List<OutboxEvent> events) {
+        try {
+            List<EventEnvelope<JsonNode>> envelopes = events.stream()
+                    .map(this::toEnvelope)
+                    .collect(Collectors.toList());
+            post(subscriber, envelopes, null).block();
+            return events.stream().map(event -> new Delivery(event, null)).collect(Collectors.toList());
+        } catch (Exception e) {
+            log.warn("⚠️ Outbox batch of {} events to {} failed: {}", events.size(), destination, e.getMessage());
+            return events.stream().map(event -> new Delivery(event, errorMessage(e))).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * One POST per event with its bare payload, up to outbox.relay.concurrency in flight
+     * Safe to parallelize: a claim never holds two events of the same aggregate.
+     */
+    private List<Delivery> deliverEach(String destination, OutboxProperties.Subscriber subscriber,
+                                       List<OutboxEvent> events) {
+        return Flux.fromIterable(events)
+                .flatMap(event -> Mono.fromCallable(() -> readPayload(event))
+                                .flatMap(payload -> post(subscriber, payload, event.getEventId()))
+                                .thenReturn(new Delivery(event, null))
+                                .onErrorResume(e -> {
+                                    log.warn("⚠️ Outbox event {} to {} failed (attempt {}): {}",
+                                            event.getEventId(), destination, event.getAttempts() + 1, e.getMessage());
+                                    return Mono.just(new Delivery(event, errorMessage(e)));
+                                }),
+                        Math.max(1, properties.getRelay().getConcurrency()))
+                .collectList()
+                .block();
+    }
+
+    private Mono<Void> post(OutboxProperties.Subscriber subscriber, Object body, String eventId) {
+        WebClient.RequestBodySpec request = webClient.post()
+                .uri(subscriber.getUrl())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (eventId != null) {
+            request.header(EVENT_ID_HEADER, eventId);
+        }
+        if (subscriber.getToken() != null && !subscriber.getToken().isBlank()) {
+            request.header(TOKEN_HEADER, subscriber.getToken());
+        }
+
+        return request.bodyValue(body)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(Duration.ofMillis(properties.getRelay().getRequestTimeoutMs()))
+                .then();
+    }
+
+    /**
+     * Mark delivered events and reschedule failed ones in one transaction
+     */
+    private void recordOutcomes(List<Delivery> deliveries) {
+        String nodeId = batchLeaseService.getNodeId();
+        List<Long> delivered = deliveries.stream()
+                .filter(Delivery::isDelivered)
+                .map(delivery -> delivery.event().getId())
+                .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (!delivered.isEmpty()) {
+                outboxRepository.markDelivered(delivered, nodeId, OutboxStatus.DELIVERED, now);
+            }
+            deliveries.stream()
+                    .filter(delivery -> !delivery.isDelivered())
+                    .forEach(delivery -> outboxRepository.reschedule(delivery.event().getId(), nodeId,
+                            now.plus(retryDelay(delivery.event().getAttempts())), delivery.error()));
+        });
+    }
+
+    /**
+     * outbox.relay.retry-backoff-ms doubled per previous attempt, capped at max-backoff-ms
+     */
+    private Duration retryDelay(int previousAttempts) {
+        OutboxProperties.Relay relay = properties.getRelay();
+        long delay = relay.getRetryBackoffMs() << Math.min(previousAttempts, 30);
+        return Duration.ofMillis(delay < 0 ? relay.getMaxBackoffMs() : Math.min(delay, relay.getMaxBackoffMs()));
+    }
+
+    private EventEnvelope<JsonNode> toEnvelope(OutboxEvent event) {
+        return EventEnvelope.<JsonNode>builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .occurredAt(event.getCreatedAt())
+                .payload(readPayload(event))
+                .build();
+    }
+
+    private JsonNode readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable outbox payload of event " + event.getEventId(), e);
+        }
+    }
+
+    private static String errorMessage(Throwable error) {
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * Outcome of one event's delivery attempt; error is null when the subscriber accepted it
+     */
+    private record Delivery(OutboxEvent event, String error) {
+        boolean isDelivered() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.app.fdaccount.service.outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.fdaccount.config.OutboxProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records events for other services in the outbox_events table
+ *
+ * Events are written by the caller's transaction, so they commit or roll back together
+ * with the change they describe; OutboxRelay delivers them after the commit. Each event
+ * is stored once per enabled subscriber of its type. Rows are JDBC-batched because the
+ * IDENTITY key prevents Hibernate insert batching.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    public static final String AGGREGATE_FD_ACCOUNT = "FdAccount";
+
+    public static final String EVENT_ACCOUNT_CREATED = "AccountCreated";
+    public static final String EVENT_NEW_ACCOUNT_EMAIL = "NewAccountEmailRequested";
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO outbox_events (event_id, destination, aggregate_type, aggregate_id, event_type, payload, " +
+            "status, attempts, next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+
+    /**
+     * An event to record: aggregateId orders delivery, payload is serialized to JSON
+     */
+    public record OutboxMessage(String aggregateType, Object aggregateId, String eventType, Object payload) {
+    }
+
+    /**
+     * Record one event in the current transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        appendAll(List.of(new OutboxMessage(aggregateType, aggregateId, eventType, payload)));
+    }
+
+    /**
+     * Record events in the current transaction, in list order
+     * Events without an enabled subscriber are not stored.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<OutboxMessage> messages) {
+        Map<String, OutboxProperties.Subscriber> subscribers = properties.enabledSubscribers();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>();
+        for (OutboxMessage message : messages) {
+            String payload = toJson(message.payload());
+            subscribers.forEach((destination, subscriber) -> {
+                if (subscriber.getEventTypes().contains(message.eventType())) {
+                    rows.add(new Object[] {
+                            UUID.randomUUID().toString(), destination, message.aggregateType(),
+                            String.valueOf(message.aggregateId()), message.eventType(), payload, now, now });
+                }
+            });
+        }
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, rows);
+            log.debug("Recorded {} outbox events for {} messages", rows.size(), messages.size());
+        }
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox payload: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.fdaccount.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.fdaccount.entity.FdAccount;
+import com.app.fdaccount.enums.AccountStatus;
+import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.repository.LedgerBatchRepository;
+
+/**
+ * Current balances backfilled from history must equal the ones maintained by live postings
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:backfill;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CurrentBalanceBackfillRunner.class, LedgerBatchRepository.class})
+class CurrentBalanceBackfillTest {
+
+    @Autowired
+    private CurrentBalanceBackfillRunner backfillRunner;
+
+    @Autowired
+    private FdAccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void lastPostingOnTheLatestDateWinsLikeTheLivePath() {
+        LocalDate opened = LocalDate.now().minusMonths(2);
+        LocalDate lastDate = opened.plusMonths(1);
+
+        FdAccount account = transactionTemplate.execute(status -> {
+            FdAccount created = FdAccount.builder()
+                    .accountNumber("BF" + System.nanoTime() % 1_000_000_000L)
+                    .accountName("Backfill Test Deposit")
+                    .productCode("FD-TEST")
+                    .status(AccountStatus.ACTIVE)
+                    .principalAmount(new BigDecimal("10000.00"))
+                    .interestRate(new BigDecimal("7.00"))
+                    .termMonths(12)
+                    .maturityAmount(new BigDecimal("10700.00"))
+                    .effectiveDate(opened)
+                    .maturityDate(opened.plusMonths(12))
+                    .autoRenewal(false)
+                    .tdsApplicable(false)
+                    .build();
+            created.postBalance("PRINCIPAL", new BigDecimal("10000.00"), opened, "Opening principal");
+            // Two postings on the last date: the later one is the current balance
+            created.postBalance("PRINCIPAL", new BigDecimal("12000.00"), lastDate, "Top-up");
+            created.postBalance("PRINCIPAL", new BigDecimal("11500.00"), lastDate, "Partial withdrawal");
+            created.postBalance("INTEREST_ACCRUED", new BigDecimal("58.33"), lastDate, "Accrual");
+            created.postBalance("INTEREST_ACCRUED", new BigDecimal("0.00"), lastDate, "Interest payout");
+            return accountRepository.save(created);
+        });
+        BigDecimal livePrincipal = currentBalance(account, "PRINCIPAL");
+        BigDecimal liveInterest = currentBalance(account, "INTEREST_ACCRUED");
+        assertThat(livePrincipal).isEqualByComparingTo("11500.00");
+        assertThat(liveInterest).isEqualByComparingTo("0.00");
+
+        // The account predates the current-balance table
+        jdbcTemplate.update("DELETE FROM account_current_balances WHERE account_id = ?", account.getId());
+
+        backfillRunner.backfillCurrentBalances();
+
+        assertThat(currentBalance(account, "PRINCIPAL")).isEqualByComparingTo(livePrincipal);
+        assertThat(currentBalance(account, "INTEREST_ACCRUED")).isEqualByComparingTo(liveInterest);
+    }
+
+    private BigDecimal currentBalance(FdAccount account, String balanceType) {
+        return jdbcTemplate.queryForObject(
+                "SELECT balance FROM account_current_balances WHERE account_id = ? AND balance_type = ?",
+                BigDecimal.class, account.getId(), balanceType);
+    }
+}
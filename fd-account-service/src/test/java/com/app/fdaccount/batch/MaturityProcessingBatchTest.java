@@ -0,0 +1,190 @@
+package com.app.fdaccount.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.fdaccount.config.SchedulingConfig;
+import com.app.fdaccount.entity.BatchJobExecution;
+import com.app.fdaccount.entity.FdAccount;
+import com.app.fdaccount.enums.AccountStatus;
+import com.app.fdaccount.enums.BatchJobStatus;
+import com.app.fdaccount.enums.MaturityInstruction;
+import com.app.fdaccount.repository.BatchJobExecutionRepository;
+import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.repository.LedgerBatchRepository;
+import com.app.fdaccount.service.BatchJobService;
+import com.app.fdaccount.service.BatchLeaseService;
+import com.app.fdaccount.service.TransactionReferenceGenerator;
+
+/**
+ * Maturity processing runs only after interest accrual for its business date has completed,
+ * and runs interrupted by a restart finish for their own business date
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:maturity;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "ledger.reference.node-number=1",
+        "batch.maturity-processing.retry-interval-ms=3600000" // Only the test drives the retry
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SchedulingConfig.class, MaturityProcessingBatch.class, BatchRecoveryRunner.class, BatchJobService.class,
+        BatchLeaseService.class, LedgerBatchRepository.class, TransactionReferenceGenerator.class})
+class MaturityProcessingBatchTest {
+
+    @Autowired
+    private MaturityProcessingBatch maturityProcessingBatch;
+
+    @Autowired
+    private BatchRecoveryRunner batchRecoveryRunner;
+
+    @Autowired
+    private FdAccountRepository accountRepository;
+
+    @Autowired
+    private BatchJobExecutionRepository executionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private InterestCalculationBatch interestCalculationBatch;
+
+    @BeforeEach
+    void setUp() {
+        // Every test works on its own business dates; start from an empty run history
+        executionRepository.deleteAll();
+    }
+
+    @Test
+    void maturityWaitsForTodaysInterestCalculation() {
+        LocalDate today = LocalDate.now();
+        FdAccount account = seedAccountMaturingOn(today);
+
+        // Interest accrual for today is still running (on this or another node)
+        saveInterestPartition(today, 0, BatchJobStatus.COMPLETED);
+        saveInterestPartition(today, 1, BatchJobStatus.STARTED);
+
+        maturityProcessingBatch.processMaturedAccounts();
+
+        assertThat(statusOf(account)).isEqualTo(AccountStatus.ACTIVE);
+        BatchJobExecution deferred = maturityRun(today);
+        assertThat(deferred.getStatus()).isEqualTo(BatchJobStatus.FAILED);
+        assertThat(deferred.getErrorMessage()).startsWith("Waiting for " + InterestCalculationBatch.JOB_NAME);
+        assertThat(deferred.getErrorCount()).isZero();
+
+        // The last partition completes; the periodic retry now matures the account
+        transactionTemplate.executeWithoutResult(status -> executionRepository
+                .findByJobNameAndBusinessDateOrderByPartitionIndexAsc(InterestCalculationBatch.JOB_NAME, today)
+                .forEach(partition -> partition.setStatus(BatchJobStatus.COMPLETED)));
+
+        maturityProcessingBatch.resumeUnfinishedRuns();
+
+        assertThat(statusOf(account)).isEqualTo(AccountStatus.MATURED);
+        assertThat(maturityRun(today).getStatus()).isEqualTo(BatchJobStatus.COMPLETED);
+    }
+
+    @Test
+    void runInterruptedBeforeMidnightIsFinishedForItsOwnDateAfterARestart() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        FdAccount account = seedAccountMaturingOn(yesterday);
+        FdAccount maturingToday = seedAccountMaturingOn(LocalDate.now());
+
+        // Yesterday's interest completed; the node died during yesterday's maturity run
+        saveInterestPartition(yesterday, 0, BatchJobStatus.COMPLETED);
+        executionRepository.save(BatchJobExecution.builder()
+                .jobName(MaturityProcessingBatch.JOB_NAME)
+                .businessDate(yesterday)
+                .partitionIndex(0)
+                .rangeStart(0L)
+                .rangeEnd(Long.MAX_VALUE)
+                .lastProcessedId(0L)
+                .status(BatchJobStatus.STARTED)
+                .startedAt(yesterday.atTime(23, 55))
+                .build());
+
+        // The node comes back after midnight
+        batchRecoveryRunner.resumeInterruptedJobs();
+
+        // The resumed run selected yesterday's maturities, not today's
+        assertThat(maturityRun(yesterday).getStatus()).isEqualTo(BatchJobStatus.COMPLETED);
+        assertThat(maturityRun(yesterday).getSuccessCount()).isEqualTo(1);
+        assertThat(statusOf(account)).isEqualTo(AccountStatus.MATURED);
+        assertThat(statusOf(maturingToday)).isEqualTo(AccountStatus.ACTIVE);
+
+        // Only the interrupted run was resumed; today's runs are left to their schedules
+        verify(interestCalculationBatch, never()).resumeUnfinishedRuns();
+        assertThat(executionRepository.findByJobNameAndBusinessDateOrderByPartitionIndexAsc(
+                MaturityProcessingBatch.JOB_NAME, LocalDate.now())).isEmpty();
+    }
+
+    private FdAccount seedAccountMaturingOn(LocalDate maturityDate) {
+        return transactionTemplate.execute(status -> {
+            LocalDate opened = maturityDate.minusMonths(12);
+            FdAccount account = FdAccount.builder()
+                    .accountNumber("MAT" + System.nanoTime() % 1_000_000_000L)
+                    .accountName("Maturity Test Deposit")
+                    .productCode("FD-TEST")
+                    .status(AccountStatus.ACTIVE)
+                    .principalAmount(new BigDecimal("50000.00"))
+                    .interestRate(new BigDecimal("7.00"))
+                    .termMonths(12)
+                    .maturityAmount(new BigDecimal("53500.00"))
+                    .effectiveDate(opened)
+                    .maturityDate(maturityDate)
+                    .maturityInstruction(MaturityInstruction.HOLD)
+                    .autoRenewal(false)
+                    .tdsApplicable(false)
+                    .build();
+            account.postBalance("PRINCIPAL", account.getPrincipalAmount(), opened, "Opening principal");
+            account.postBalance("INTEREST_ACCRUED", BigDecimal.ZERO, opened, "Opening interest");
+            return accountRepository.save(account);
+        });
+    }
+
+    private void saveInterestPartition(LocalDate businessDate, int partitionIndex, BatchJobStatus status) {
+        executionRepository.save(BatchJobExecution.builder()
+                .jobName(InterestCalculationBatch.JOB_NAME)
+                .businessDate(businessDate)
+                .partitionIndex(partitionIndex)
+                .rangeStart(0L)
+                .rangeEnd(Long.MAX_VALUE)
+                .lastProcessedId(0L)
+                .status(status)
+                .startedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private AccountStatus statusOf(FdAccount account) {
+        return accountRepository.findById(account.getId()).orElseThrow().getStatus();
+    }
+
+    private BatchJobExecution maturityRun(LocalDate businessDate) {
+        List<BatchJobExecution> executions = executionRepository
+                .findByJobNameAndBusinessDateOrderByPartitionIndexAsc(MaturityProcessingBatch.JOB_NAME, businessDate);
+        assertThat(executions).hasSize(1);
+        return executions.get(0);
+    }
+}
@@ -0,0 +1,205 @@
+package com.app.fdaccount.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.fdaccount.entity.FdAccount;
+import com.app.fdaccount.enums.AccountStatus;
+import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.service.BatchLeaseService;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Read/write routing against two embedded databases
+ * The "replica" is a second H2 instance brought up to date by copying a snapshot of the
+ * primary, so the test controls exactly how far behind it is.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.max-lag-ms=5000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReadReplicaConfig.class, SchedulingConfig.class})
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private static final String ORIGINAL_NAME = "Replicated Name";
+    private static final String UPDATED_NAME = "Primary-Only Name";
+
+    @Autowired
+    private FdAccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @MockitoBean
+    private BatchLeaseService batchLeaseService;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private JdbcTemplate replicaWriter;
+    private String accountNumber;
+
+    @BeforeEach
+    void setUp() {
+        when(batchLeaseService.getNodeId()).thenReturn("test-node");
+
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        // Stands in for the replication stream: writes to the replica outside the application's pools
+        replicaWriter = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replicaWriter.execute("DROP ALL OBJECTS");
+
+        accountNumber = "RR" + System.nanoTime() % 1_000_000_000L;
+        readWrite.executeWithoutResult(status -> {
+            LocalDate opened = LocalDate.now().minusDays(30);
+            accountRepository.save(FdAccount.builder()
+                    .accountNumber(accountNumber)
+                    .accountName(ORIGINAL_NAME)
+                    .productCode("FD-TEST")
+                    .status(AccountStatus.ACTIVE)
+                    .principalAmount(new BigDecimal("50000.00"))
+                    .interestRate(new BigDecimal("7.00"))
+                    .termMonths(12)
+                    .maturityAmount(new BigDecimal("53500.00"))
+                    .effectiveDate(opened)
+                    .maturityDate(opened.plusMonths(12))
+                    .autoRenewal(false)
+                    .tdsApplicable(false)
+                    .build());
+        });
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromReplicaWhileWithinLag() {
+        // Replica has no heartbeat from this node yet: everything stays on the primary
+        replicaLagMonitor.checkReplicaLag();
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readAccountName(readOnly)).isEqualTo(ORIGINAL_NAME);
+
+        replicate();
+        replicaLagMonitor.checkReplicaLag();
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+
+        renameOnPrimary();
+
+        assertThat(readAccountName(readOnly)).isEqualTo(ORIGINAL_NAME);
+        assertThat(readAccountName(readWrite)).isEqualTo(UPDATED_NAME);
+    }
+
+    @Test
+    void readOnlyTransactionsFallBackToPrimaryWhenReplicaLags() {
+        replicaLagMonitor.checkReplicaLag();
+        replicate();
+        replicaLagMonitor.checkReplicaLag();
+        renameOnPrimary();
+        assertThat(readAccountName(readOnly)).isEqualTo(ORIGINAL_NAME);
+
+        // Replication stalls: the heartbeat on the replica ages past the tolerance
+        replicaWriter.update("UPDATE replication_heartbeats SET beat_at = ? WHERE node_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), "test-node");
+        replicaLagMonitor.checkReplicaLag();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readAccountName(readOnly)).isEqualTo(UPDATED_NAME);
+
+        // Replication catches up
+        replicate();
+        replicaLagMonitor.checkReplicaLag();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(readAccountName(readOnly)).isEqualTo(UPDATED_NAME);
+    }
+
+    @Test
+    void replicaIsNotUsedOnceLagChecksStop() throws InterruptedException {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(new JdbcTemplate(primaryDataSource),
+                new JdbcTemplate(replicaDataSource), () -> "stalled-node", Duration.ofMillis(2000));
+        monitor.checkReplicaLag();
+        replicate();
+        monitor.checkReplicaLag();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        // No further checks (e.g. the scheduler is stalled): the measured lag ages past the tolerance
+        Thread.sleep(2100);
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    void eachRouteHasItsOwnConnectionPool() {
+        assertThat(((HikariDataSource) primaryDataSource).getPoolName()).isEqualTo("primary-pool");
+        assertThat(((HikariDataSource) replicaDataSource).getPoolName()).isEqualTo("replica-pool");
+        assertThat(((HikariDataSource) replicaDataSource).getJdbcUrl()).isEqualTo(REPLICA_URL);
+    }
+
+    private String readAccountName(TransactionTemplate template) {
+        return template.execute(status -> accountRepository.findByAccountNumber(accountNumber)
+                .map(FdAccount::getAccountName)
+                .orElseThrow());
+    }
+
+    private void renameOnPrimary() {
+        readWrite.executeWithoutResult(status -> accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow()
+                .setAccountName(UPDATED_NAME));
+    }
+
+    private void replicate() {
+        String snapshot = snapshotDirectory.resolve("primary-" + System.nanoTime() + ".sql").toString();
+        new JdbcTemplate(primaryDataSource).execute("SCRIPT DROP TO '" + snapshot + "'");
+        replicaWriter.execute("RUNSCRIPT FROM '" + snapshot + "'");
+    }
+}
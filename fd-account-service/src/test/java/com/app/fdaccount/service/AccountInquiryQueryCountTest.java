@@ -0,0 +1,236 @@
+package com.app.fdaccount.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.fdaccount.dto.AccountResponse;
+import com.app.fdaccount.dto.AccountSummaryResponse;
+import com.app.fdaccount.dto.SearchAccountRequest;
+import com.app.fdaccount.entity.AccountRole;
+import com.app.fdaccount.entity.FdAccount;
+import com.app.fdaccount.enums.AccountIdType;
+import com.app.fdaccount.enums.AccountStatus;
+import com.app.fdaccount.enums.RoleType;
+import com.app.fdaccount.repository.FdAccountRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Query counts of the account inquiry endpoints
+ * Every list endpoint must cost the same number of statements for a handful of accounts as
+ * for many, and single-account views a fixed number per fetch plan.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:inquiry;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(AccountInquiryService.class)
+class AccountInquiryQueryCountTest {
+
+    private static final int FEW_ACCOUNTS = 3;
+    private static final int MANY_ACCOUNTS = 40;
+
+    @Autowired
+    private AccountInquiryService accountInquiryService;
+
+    @Autowired
+    private FdAccountRepository accountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private LedgerArchiveService ledgerArchiveService;
+
+    private Statistics statistics;
+    private long customerId;
+    private String branchCode;
+    private String productCode;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Fresh customer, branch and product per test so earlier tests' accounts do not count
+        customerId = System.nanoTime() % 1_000_000_000L;
+        branchCode = "B" + customerId % 100_000;
+        productCode = "P" + customerId % 100_000;
+    }
+
+    @Test
+    void listEndpointsRunBoundedQueriesWhateverTheResultSize() {
+        seedAccounts(FEW_ACCOUNTS);
+        long byCustomerFew = countQueries(() -> accountInquiryService.getAccountsByCustomer(customerId), FEW_ACCOUNTS);
+        long byBranchFew = countQueries(() -> accountInquiryService.getAccountsByBranch(branchCode), FEW_ACCOUNTS);
+        long byProductFew = countQueries(() -> accountInquiryService.getAccountsByProduct(productCode), FEW_ACCOUNTS);
+        long searchFew = countQueries(() -> accountInquiryService.searchAccounts(searchByCustomer()).getContent(),
+                FEW_ACCOUNTS);
+        long cursorFew = countQueries(() -> accountInquiryService.searchAccountsByCursor(searchByCustomer()).getContent(),
+                FEW_ACCOUNTS);
+
+        seedAccounts(MANY_ACCOUNTS - FEW_ACCOUNTS);
+        long byCustomerMany = countQueries(() -> accountInquiryService.getAccountsByCustomer(customerId), MANY_ACCOUNTS);
+        long byBranchMany = countQueries(() -> accountInquiryService.getAccountsByBranch(branchCode), MANY_ACCOUNTS);
+        long byProductMany = countQueries(() -> accountInquiryService.getAccountsByProduct(productCode), MANY_ACCOUNTS);
+        long searchMany = countQueries(() -> accountInquiryService.searchAccounts(searchByCustomer()).getContent(),
+                MANY_ACCOUNTS);
+        long cursorMany = countQueries(() -> accountInquiryService.searchAccountsByCursor(searchByCustomer()).getContent(),
+                MANY_ACCOUNTS);
+
+        // Accounts plus one query for their primary owners
+        assertThat(byCustomerFew).isEqualTo(2).isEqualTo(byCustomerMany);
+        assertThat(byBranchFew).isEqualTo(2).isEqualTo(byBranchMany);
+        assertThat(byProductFew).isEqualTo(2).isEqualTo(byProductMany);
+        assertThat(cursorFew).isEqualTo(2).isEqualTo(cursorMany);
+        // Page content, owners, and a count query when the page is not the whole result
+        assertThat(searchFew).isLessThanOrEqualTo(3).isEqualTo(searchMany);
+    }
+
+    @Test
+    void largeListsLookUpPrimaryOwnersInFixedSizeBatches() {
+        // Opened recently, so these accounts stay out of the maturing-soon lists of other tests
+        seedAccounts(1001, LocalDate.now().minusMonths(1));
+
+        long byBranch = countQueries(() -> {
+            List<AccountSummaryResponse> accounts = accountInquiryService.getAccountsByBranch(branchCode);
+            assertThat(accounts).hasSize(1001)
+                    .allSatisfy(account -> assertThat(account.getPrimaryOwnerName()).isEqualTo("Primary Holder"));
+        });
+
+        // Accounts, then owners for the first 1000 IDs and for the remaining one
+        assertThat(byBranch).isEqualTo(3);
+    }
+
+    @Test
+    void maturingEndpointRunsBoundedQueriesWhateverTheResultSize() {
+        long before = accountInquiryService.getAccountsMaturingInDays(10).size();
+
+        seedAccounts(FEW_ACCOUNTS);
+        long few = countQueries(() -> accountInquiryService.getAccountsMaturingInDays(10),
+                (int) before + FEW_ACCOUNTS);
+
+        seedAccounts(MANY_ACCOUNTS - FEW_ACCOUNTS);
+        long many = countQueries(() -> accountInquiryService.getAccountsMaturingInDays(10),
+                (int) before + MANY_ACCOUNTS);
+
+        assertThat(few).isEqualTo(2).isEqualTo(many);
+    }
+
+    @Test
+    void singleAccountViewsLoadAFixedNumberOfQueries() {
+        String accountNumber = seedAccounts(1).get(0);
+
+        long summary = countQueries(() -> {
+            AccountSummaryResponse response = accountInquiryService.getAccountSummary(accountNumber);
+            assertThat(response.getPrimaryOwnerName()).isEqualTo("Primary Holder");
+        });
+        long full = countQueries(() -> {
+            AccountResponse response = accountInquiryService.getAccount(accountNumber, AccountIdType.ACCOUNT_NUMBER);
+            assertThat(response.getRoles()).hasSize(2);
+            assertThat(response.getBalances()).hasSize(3);
+            assertThat(response.getBalanceHistory()).isNull();
+        });
+        long fullWithHistory = countQueries(() -> {
+            AccountResponse response = accountInquiryService.getAccount(accountNumber, AccountIdType.ACCOUNT_NUMBER, true);
+            assertThat(response.getBalanceHistory()).hasSize(3);
+        });
+
+        assertThat(summary).isEqualTo(1);
+        // Account with roles, then current balances
+        assertThat(full).isEqualTo(2);
+        // The history is only loaded when asked for
+        assertThat(fullWithHistory).isEqualTo(3);
+    }
+
+    private long countQueries(Supplier<List<?>> endpoint, int expectedSize) {
+        return countQueries(() -> assertThat(endpoint.get()).hasSize(expectedSize));
+    }
+
+    private long countQueries(Runnable endpoint) {
+        statistics.clear();
+        endpoint.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private SearchAccountRequest searchByCustomer() {
+        SearchAccountRequest request = new SearchAccountRequest();
+        request.setCustomerId(customerId);
+        request.setPage(0);
+        request.setSize(100);
+        return request;
+    }
+
+    private List<String> seedAccounts(int count) {
+        return seedAccounts(count, LocalDate.now().minusMonths(12).plusDays(5));
+    }
+
+    private List<String> seedAccounts(int count, LocalDate opened) {
+        return transactionTemplate.execute(status -> {
+            List<String> accountNumbers = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                FdAccount account = FdAccount.builder()
+                        .accountNumber("QC" + System.nanoTime() % 10_000_000_000L)
+                        .accountName("Query Count " + i)
+                        .productCode(productCode)
+                        .status(AccountStatus.ACTIVE)
+                        .principalAmount(new BigDecimal("25000.00"))
+                        .interestRate(new BigDecimal("6.50"))
+                        .termMonths(12)
+                        .maturityAmount(new BigDecimal("26625.00"))
+                        .effectiveDate(opened)
+                        .maturityDate(opened.plusMonths(12))
+                        .branchCode(branchCode)
+                        .autoRenewal(false)
+                        .tdsApplicable(false)
+                        .build();
+                account.getRoles().add(role(account, RoleType.OWNER, true, "Primary Holder"));
+                account.getRoles().add(role(account, RoleType.CO_OWNER, false, "Joint Holder"));
+                account.postBalance("PRINCIPAL", account.getPrincipalAmount(), opened, "Opening principal");
+                account.postBalance("INTEREST_ACCRUED", BigDecimal.ZERO, opened, "Opening interest");
+                account.postBalance("AVAILABLE", account.getPrincipalAmount(), opened, "Opening balance");
+                accountNumbers.add(accountRepository.save(account).getAccountNumber());
+            }
+            return accountNumbers;
+        });
+    }
+
+    private AccountRole role(FdAccount account, RoleType roleType, boolean primary, String name) {
+        return AccountRole.builder()
+                .account(account)
+                .customerId(customerId)
+                .customerName(name)
+                .roleType(roleType)
+                .ownershipPercentage(new BigDecimal(primary ? "60.00" : "40.00"))
+                .isPrimary(primary)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,242 @@
+package com.app.fdaccount.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.fdaccount.dto.TransactionRequest;
+import com.app.fdaccount.entity.AccountTransaction;
+import com.app.fdaccount.entity.FdAccount;
+import com.app.fdaccount.enums.AccountStatus;
+import com.app.fdaccount.enums.TransactionType;
+import com.app.fdaccount.repository.AccountTransactionRepository;
+import com.app.fdaccount.repository.FdAccountRepository;
+import com.app.fdaccount.repository.LedgerBatchRepository;
+
+/**
+ * Concurrency stress test for account postings
+ * Many threads deposit into the same account at once; every committed posting must be
+ * reflected in the final balance, and no two postings may be computed from the same state.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:postings;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "ledger.reference.node-number=1",
+        "transaction.posting.max-attempts=8",
+        "transaction.posting.retry-backoff-ms=5"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TransactionService.class, AccountPostingExecutor.class, TransactionReferenceGenerator.class,
+        LedgerBatchRepository.class})
+class AccountPostingConcurrencyTest {
+
+    private static final BigDecimal OPENING_PRINCIPAL = new BigDecimal("100000.00");
+    private static final BigDecimal DEPOSIT = new BigDecimal("10.00");
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private FdAccountRepository accountRepository;
+
+    @Autowired
+    private AccountTransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionReferenceGenerator transactionReferenceGenerator;
+
+    @Autowired
+    private LedgerBatchRepository ledgerBatchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private LedgerArchiveService ledgerArchiveService;
+
+    @MockitoBean
+    private BatchLeaseService batchLeaseService;
+
+    private ExecutorService pool;
+    private FdAccount account;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(16);
+        account = transactionTemplate.execute(status -> {
+            LocalDate opened = LocalDate.now().minusDays(30);
+            FdAccount created = FdAccount.builder()
+                    .accountNumber("STRESS" + System.nanoTime() % 1_000_000_000L)
+                    .accountName("Stress Test Deposit")
+                    .productCode("FD-TEST")
+                    .status(AccountStatus.ACTIVE)
+                    .principalAmount(OPENING_PRINCIPAL)
+                    .interestRate(new BigDecimal("7.00"))
+                    .termMonths(12)
+                    .maturityAmount(new BigDecimal("107000.00"))
+                    .effectiveDate(opened)
+                    .maturityDate(opened.plusMonths(12))
+                    .autoRenewal(false)
+                    .tdsApplicable(false)
+                    .build();
+            created.postBalance("PRINCIPAL", OPENING_PRINCIPAL, opened, "Opening principal");
+            created.postBalance("INTEREST_ACCRUED", BigDecimal.ZERO, opened, "Opening interest");
+            created.postBalance("AVAILABLE", OPENING_PRINCIPAL, opened, "Opening balance");
+            return accountRepository.save(created);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentPostingsToOneAccountLoseNoUpdates() throws Exception {
+        int postings = 800;
+
+        int succeeded = postConcurrently(postings, i -> transactionService);
+
+        assertThat(succeeded).isEqualTo(postings);
+        assertNoLostUpdates(succeeded);
+    }
+
+    @Test
+    void postingsFromAnotherNodeAreRetriedOnVersionConflict() throws Exception {
+        // A second executor with its own lock stripes stands in for another service node:
+        // its postings are not serialized in-JVM with ours, only by the account version
+        AccountPostingExecutor otherNodeExecutor = new AccountPostingExecutor(transactionTemplate);
+        ReflectionTestUtils.setField(otherNodeExecutor, "lockStripes", 64);
+        ReflectionTestUtils.setField(otherNodeExecutor, "lockTimeoutMs", 10_000L);
+        ReflectionTestUtils.setField(otherNodeExecutor, "maxAttempts", 8);
+        ReflectionTestUtils.setField(otherNodeExecutor, "retryBackoffMs", 5L);
+        otherNodeExecutor.initStripes();
+
+        TransactionService otherNode = new TransactionService(accountRepository, transactionRepository,
+                ledgerArchiveService, transactionReferenceGenerator, otherNodeExecutor);
+
+        int postings = 400;
+
+        int succeeded = postConcurrently(postings, i -> i % 2 == 0 ? transactionService : otherNode);
+
+        // Postings that ran out of attempts were rejected as a whole; none may be half-applied or lost
+        assertThat(succeeded).isPositive();
+        assertNoLostUpdates(succeeded);
+    }
+
+    @Test
+    void batchAccountUpdatesFromStaleStateAreRejected() throws Exception {
+        // The maturity batch read the account, then a posting committed before the batch wrote it back
+        FdAccount batchView = accountRepository.findById(account.getId()).orElseThrow();
+        assertThat(postConcurrently(1, i -> transactionService)).isEqualTo(1);
+
+        batchView.setStatus(AccountStatus.MATURED);
+        batchView.setClosureDate(LocalDate.now());
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> ledgerBatchRepository.updateAccountTerms(List.of(batchView))))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        FdAccount current = accountRepository.findById(account.getId()).orElseThrow();
+        assertThat(current.getStatus()).isEqualTo(AccountStatus.ACTIVE);
+        assertNoLostUpdates(1);
+
+        // Re-read state is written, and bumps the version like a JPA update
+        current.setStatus(AccountStatus.MATURED);
+        current.setClosureDate(LocalDate.now());
+        transactionTemplate.executeWithoutResult(
+                status -> ledgerBatchRepository.updateAccountTerms(List.of(current)));
+
+        FdAccount matured = accountRepository.findById(account.getId()).orElseThrow();
+        assertThat(matured.getStatus()).isEqualTo(AccountStatus.MATURED);
+        assertThat(matured.getVersion()).isEqualTo(current.getVersion() + 1);
+    }
+
+    private int postConcurrently(int postings, java.util.function.IntFunction<TransactionService> node)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < postings; i++) {
+            TransactionService service = node.apply(i);
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    service.createTransaction(TransactionRequest.builder()
+                            .accountNumber(account.getAccountNumber())
+                            .transactionType(TransactionType.ADDITIONAL_DEPOSIT)
+                            .amount(DEPOSIT)
+                            .transactionDate(LocalDate.now())
+                            .description("Stress deposit")
+                            .performedBy("stress-test")
+                            .build());
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false; // Retries exhausted; the posting was rolled back
+                }
+            }));
+        }
+
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(60, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        return succeeded;
+    }
+
+    private void assertNoLostUpdates(int succeeded) {
+        BigDecimal expected = OPENING_PRINCIPAL.add(DEPOSIT.multiply(BigDecimal.valueOf(succeeded)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            FdAccount reloaded = accountRepository.findById(account.getId()).orElseThrow();
+            assertThat(reloaded.getCurrentBalance("PRINCIPAL", null)).isEqualByComparingTo(expected);
+            assertThat(reloaded.getCurrentBalance("AVAILABLE", null)).isEqualByComparingTo(expected);
+            assertThat(reloaded.getVersion()).isGreaterThanOrEqualTo((long) succeeded);
+        });
+
+        List<AccountTransaction> deposits = transactionRepository.findByAccountId(account.getId());
+        assertThat(deposits).hasSize(succeeded);
+
+        // Every posting saw the previous one: the running balances are all distinct and end at the expected total
+        Set<BigDecimal> balancesAfter = deposits.stream()
+                .map(AccountTransaction::getTotalBalanceAfter)
+                .map(BigDecimal::stripTrailingZeros)
+                .collect(Collectors.toSet());
+        assertThat(balancesAfter).hasSize(succeeded);
+        assertThat(balancesAfter).contains(expected.stripTrailingZeros());
+    }
+}
@@ -0,0 +1,85 @@
+package com.app.fdaccount.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.fdaccount.config.SchedulingConfig;
+import com.app.fdaccount.entity.BatchJobLease;
+import com.app.fdaccount.repository.BatchJobLeaseRepository;
+
+/**
+ * Transaction reference node numbers claimed through a batch lease
+ * Once another node takes the lease over, no further reference may carry the old number.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:referencenodes;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "batch.node-id=reference-node-a",
+        "ledger.reference.node-number=-1"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SchedulingConfig.class, BatchLeaseService.class, TransactionReferenceGenerator.class})
+class TransactionReferenceNodeLeaseTest {
+
+    private static final String NODE_LEASE_PREFIX = "REFERENCE_NODE_";
+
+    @Autowired
+    private TransactionReferenceGenerator transactionReferenceGenerator;
+
+    @Autowired
+    private BatchLeaseService batchLeaseService;
+
+    @Autowired
+    private BatchJobLeaseRepository leaseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void newNodeNumberIsClaimedOnceTheLeaseIsTakenOver() throws InterruptedException {
+        int claimed = nodeNumberOf(transactionReferenceGenerator.next());
+        String claimedLease = NODE_LEASE_PREFIX + claimed;
+        assertThat(batchLeaseService.holdsLease(claimedLease)).isTrue();
+
+        // Another node takes the number over while this one's heartbeat was stalled
+        transactionTemplate.executeWithoutResult(status -> {
+            BatchJobLease lease = leaseRepository.findById(claimedLease).orElseThrow();
+            lease.setOwner("reference-node-b");
+            lease.setLeaseUntil(LocalDateTime.now().plusMinutes(5));
+        });
+        batchLeaseService.renewHeldLeases();
+        assertThat(batchLeaseService.holdsLease(claimedLease)).isFalse();
+
+        // The check runs once per millisecond; make sure the next reference starts a new one
+        Thread.sleep(2);
+        int reclaimed = nodeNumberOf(transactionReferenceGenerator.next());
+
+        assertThat(reclaimed).isNotEqualTo(claimed);
+        assertThat(batchLeaseService.holdsLease(NODE_LEASE_PREFIX + reclaimed)).isTrue();
+        assertThat(leaseRepository.findById(claimedLease).orElseThrow().getOwner()).isEqualTo("reference-node-b");
+    }
+
+    /**
+     * Node number bits of the 19-digit id at the end of a TXN-YYYYMMDD- reference
+     */
+    private static int nodeNumberOf(String reference) {
+        long id = Long.parseLong(reference.substring(reference.length() - 19));
+        return (int) ((id >>> 12) & 1023);
+    }
+}
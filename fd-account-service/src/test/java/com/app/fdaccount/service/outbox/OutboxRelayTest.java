@@ -0,0 +1,303 @@
+package com.app.fdaccount.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.app.fdaccount.config.OutboxConfig;
+import com.app.fdaccount.config.OutboxProperties;
+import com.app.fdaccount.config.SchedulingConfig;
+import com.app.fdaccount.entity.OutboxEvent;
+import com.app.fdaccount.enums.OutboxStatus;
+import com.app.fdaccount.repository.OutboxEventRepository;
+import com.app.fdaccount.service.BatchLeaseService;
+import com.app.fdaccount.service.outbox.OutboxService.OutboxMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Outbox write and relay delivery against a local HTTP stub subscriber
+ * One stub path takes batches of envelopes (customer-events), the other single payloads
+ * (new-account-email); the stub can be told to fail a number of requests first.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false" // Only the test drives the relay
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OutboxConfig.class, SchedulingConfig.class, OutboxService.class, OutboxRelay.class,
+        OutboxRelayTest.WebClientConfig.class})
+class OutboxRelayTest {
+
+    private static final String TOKEN = "test-event-token";
+
+    @TestConfiguration
+    static class WebClientConfig {
+
+        @Bean
+        WebClient.Builder webClientBuilder() {
+            return WebClient.builder();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json().build();
+        }
+    }
+
+    /**
+     * One request seen by the stub subscriber
+     */
+    private record Received(String path, String eventId, String token, JsonNode body) {
+    }
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxProperties properties;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private BatchLeaseService batchLeaseService;
+
+    private HttpServer subscriber;
+    private final ConcurrentLinkedQueue<Received> received = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        subscriber = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        subscriber.createContext("/", this::handle);
+        subscriber.setExecutor(Executors.newFixedThreadPool(16));
+        subscriber.start();
+        String baseUrl = "http://127.0.0.1:" + subscriber.getAddress().getPort();
+
+        OutboxProperties.Subscriber events = new OutboxProperties.Subscriber();
+        events.setUrl(baseUrl + "/events/account-created");
+        events.setBatch(true);
+        events.setToken(TOKEN);
+        events.setEventTypes(List.of(OutboxService.EVENT_ACCOUNT_CREATED));
+
+        OutboxProperties.Subscriber email = new OutboxProperties.Subscriber();
+        email.setUrl(baseUrl + "/email/send-new-account");
+        email.setEventTypes(List.of(OutboxService.EVENT_NEW_ACCOUNT_EMAIL));
+
+        properties.setSubscribers(Map.of("customer-events", events, "new-account-email", email));
+        properties.getRelay().setBatchSize(200);
+        properties.getRelay().setRetryBackoffMs(0);
+
+        when(batchLeaseService.getNodeId()).thenReturn("relay-a");
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriber.stop(0);
+    }
+
+    @Test
+    void eventsAreDeliveredInBatchesToEverySubscriber() {
+        int accounts = 450;
+        append(IntStream.rangeClosed(1, accounts).boxed()
+                .flatMap(id -> List.of(accountCreated(id, 1), newAccountEmail(id)).stream())
+                .collect(Collectors.toList()));
+
+        int delivered = outboxRelay.relayPendingEvents();
+
+        assertThat(delivered).isEqualTo(2 * accounts);
+        assertThat(outboxRepository.countByStatus(OutboxStatus.PENDING)).isZero();
+
+        List<Received> batches = requestsTo("/events/account-created");
+        assertThat(batches).allSatisfy(batch -> {
+            assertThat(batch.token()).isEqualTo(TOKEN);
+            assertThat(batch.body().isArray()).isTrue();
+            assertThat(batch.body().size()).isLessThanOrEqualTo(200);
+        });
+        List<JsonNode> envelopes = batches.stream()
+                .flatMap(batch -> StreamSupport.stream(batch.body().spliterator(), false))
+                .collect(Collectors.toList());
+        assertThat(envelopes).hasSize(accounts);
+        assertThat(envelopes).extracting(envelope -> envelope.get("eventId").asText()).doesNotHaveDuplicates();
+        assertThat(envelopes.get(0).get("eventType").asText()).isEqualTo(OutboxService.EVENT_ACCOUNT_CREATED);
+        assertThat(envelopes.get(0).get("payload").get("accountId").asLong()).isEqualTo(1L);
+
+        List<Received> emails = requestsTo("/email/send-new-account");
+        assertThat(emails).hasSize(accounts);
+        assertThat(emails).allSatisfy(email -> {
+            assertThat(email.eventId()).isNotBlank();
+            assertThat(email.body().get("to").asText()).endsWith("@example.com");
+        });
+    }
+
+    @Test
+    void eventsLeaveOnlyWithTheirTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.appendAll(List.of(accountCreated(1, 1), newAccountEmail(1)));
+            status.setRollbackOnly();
+        });
+        assertThat(outboxRepository.count()).isZero();
+
+        assertThatThrownBy(() -> outboxService.appendAll(List.of(accountCreated(2, 1))))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void failedEventsAreRetriedWithoutOvertakingWithinAnAggregate() {
+        append(List.of(accountCreated(42, 1), accountCreated(42, 2), accountCreated(43, 1)));
+        failuresLeft.set(2);
+
+        // First two runs fail; the second event of account 42 must wait behind the first
+        assertThat(outboxRelay.relayPendingEvents()).isZero();
+        assertThat(outboxRelay.relayPendingEvents()).isZero();
+
+        List<OutboxEvent> pending = outboxRepository.findAll();
+        assertThat(pending).allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING));
+        assertThat(pending).filteredOn(event -> event.getAttempts() == 2).hasSize(2);
+        assertThat(pending).filteredOn(event -> event.getLastError() != null)
+                .allSatisfy(event -> assertThat(event.getLastError()).contains("503"));
+
+        while (outboxRelay.relayPendingEvents() > 0) {
+            // Each run delivers the next event of every aggregate
+        }
+
+        assertThat(outboxRepository.countByStatus(OutboxStatus.DELIVERED)).isEqualTo(3);
+        List<String> account42Sequence = requestsTo("/events/account-created").stream()
+                .flatMap(batch -> StreamSupport.stream(batch.body().spliterator(), false))
+                .filter(envelope -> envelope.get("aggregateId").asText().equals("42"))
+                .map(envelope -> envelope.get("payload").get("accountNumber").asText())
+                .collect(Collectors.toList());
+        assertThat(account42Sequence).containsExactly("ACC42-1", "ACC42-2");
+    }
+
+    @Test
+    void concurrentRelaysDeliverEachEventOnce() throws Exception {
+        int accounts = 1000;
+        append(IntStream.rangeClosed(1, accounts)
+                .mapToObj(id -> accountCreated(id, 1))
+                .collect(Collectors.toList()));
+
+        BatchLeaseService otherNode = mock(BatchLeaseService.class);
+        when(otherNode.getNodeId()).thenReturn("relay-b");
+        OutboxRelay otherRelay = new OutboxRelay(outboxRepository, properties, otherNode, transactionTemplate,
+                WebClient.builder(), objectMapper);
+        otherRelay.initWebClient();
+        properties.getRelay().setBatchSize(50);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Integer>> runs = new ArrayList<>();
+            runs.add(pool.submit(outboxRelay::relayPendingEvents));
+            runs.add(pool.submit(otherRelay::relayPendingEvents));
+            int delivered = 0;
+            for (Future<Integer> run : runs) {
+                delivered += run.get(60, TimeUnit.SECONDS);
+            }
+            // A relay that stopped early on an empty claim leaves the rest to the next run
+            delivered += outboxRelay.relayPendingEvents();
+
+            assertThat(delivered).isEqualTo(accounts);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<String> eventIds = requestsTo("/events/account-created").stream()
+                .flatMap(batch -> StreamSupport.stream(batch.body().spliterator(), false))
+                .map(envelope -> envelope.get("eventId").asText())
+                .collect(Collectors.toList());
+        assertThat(eventIds).hasSize(accounts).doesNotHaveDuplicates();
+        assertThat(outboxRepository.countByStatus(OutboxStatus.DELIVERED)).isEqualTo(accounts);
+    }
+
+    private void append(List<OutboxMessage> messages) {
+        transactionTemplate.executeWithoutResult(status -> outboxService.appendAll(messages));
+    }
+
+    private static OutboxMessage accountCreated(long accountId, int sequence) {
+        return new OutboxMessage(OutboxService.AGGREGATE_FD_ACCOUNT, accountId, OutboxService.EVENT_ACCOUNT_CREATED,
+                Map.of("accountId", accountId, "accountNumber", "ACC" + accountId + "-" + sequence));
+    }
+
+    private static OutboxMessage newAccountEmail(long accountId) {
+        return new OutboxMessage(OutboxService.AGGREGATE_FD_ACCOUNT, accountId, OutboxService.EVENT_NEW_ACCOUNT_EMAIL,
+                Map.of("to", "customer" + accountId + "@example.com", "accountNumber", "ACC" + accountId));
+    }
+
+    private List<Received> requestsTo(String path) {
+        return received.stream().filter(request -> request.path().equals(path)).collect(Collectors.toList());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            received.add(new Received(exchange.getRequestURI().getPath(),
+                    exchange.getRequestHeaders().getFirst(OutboxRelay.EVENT_ID_HEADER),
+                    exchange.getRequestHeaders().getFirst(OutboxRelay.TOKEN_HEADER),
+                    objectMapper.readTree(new String(body, StandardCharsets.UTF_8))));
+            byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+        }
+    }
+}
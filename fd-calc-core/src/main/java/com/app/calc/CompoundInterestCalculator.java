@@ -1,10 +1,8 @@
-package com.app.calculator.service;
+package com.app.calc;
 
-import com.app.calculator.dto.MonthlyBreakdown;
-import com.app.calculator.enums.CompoundingFrequency;
-import com.app.calculator.enums.TenureUnit;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Service;
+import com.app.calc.model.MonthlyBreakdown;
+import com.app.calc.enums.CompoundingFrequency;
+import com.app.calc.enums.TenureUnit;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -13,12 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Service for Compound Interest calculations
+ * Compound Interest calculations
  * Formula: M = P × (1 + r/n)^(nt)
  * Where n = compounding frequency per year
  */
-@Service
-@Slf4j
 public class CompoundInterestCalculator {
     
     /**
@@ -33,14 +29,11 @@ public class CompoundInterestCalculator {
     public BigDecimal calculateInterest(BigDecimal principal, BigDecimal rate,
                                        int tenure, TenureUnit tenureUnit,
                                        CompoundingFrequency frequency) {
-        log.debug("Calculating compound interest: P={}, R={}, T={} {}, Freq={}", 
-                 principal, rate, tenure, tenureUnit, frequency);
         
         BigDecimal maturityAmount = calculateMaturityAmountBeforeTDS(principal, rate, 
                                                                       tenure, tenureUnit, frequency);
         BigDecimal interest = maturityAmount.subtract(principal);
         
-        log.debug("Calculated compound interest: {}", interest);
         return interest;
     }
     
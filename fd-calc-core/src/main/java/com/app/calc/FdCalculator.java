@@ -0,0 +1,119 @@
+package com.app.calc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.app.calc.enums.CalculationType;
+import com.app.calc.enums.CompoundingFrequency;
+import com.app.calc.enums.TenureUnit;
+import com.app.calc.model.FdCalculationResult;
+import com.app.calc.model.MonthlyBreakdown;
+
+/**
+ * FD calculation kernel shared by fd-calculator-service and fd-account-service
+ *
+ * Pure and stateless: no Spring, no I/O. The calculator service exposes it over HTTP;
+ * the account service calls it in-process, so both produce identical figures.
+ */
+public class FdCalculator {
+
+    /** Longest tenure (months) for which a monthly breakdown is produced */
+    public static final int MAX_BREAKDOWN_MONTHS = 120;
+
+    private final SimpleInterestCalculator simpleInterestCalculator;
+    private final CompoundInterestCalculator compoundInterestCalculator;
+
+    public FdCalculator() {
+        this(new SimpleInterestCalculator(), new CompoundInterestCalculator());
+    }
+
+    public FdCalculator(SimpleInterestCalculator simpleInterestCalculator,
+                        CompoundInterestCalculator compoundInterestCalculator) {
+        this.simpleInterestCalculator = simpleInterestCalculator;
+        this.compoundInterestCalculator = compoundInterestCalculator;
+    }
+
+    /**
+     * Calculate interest, TDS and maturity for an FD
+     *
+     * @param principal Principal amount
+     * @param rate Annual interest rate (%)
+     * @param tenure Tenure value
+     * @param tenureUnit Unit of tenure
+     * @param calculationType Simple or compound interest
+     * @param frequency Compounding frequency (ignored for simple interest, QUARTERLY if null)
+     * @param tdsRate TDS rate (%) deducted from interest, or null for none
+     * @param startDate Deposit start date
+     * @param includeBreakdown Whether to build the monthly breakdown
+     */
+    public FdCalculationResult calculate(BigDecimal principal, BigDecimal rate,
+                                         int tenure, TenureUnit tenureUnit,
+                                         CalculationType calculationType,
+                                         CompoundingFrequency frequency,
+                                         BigDecimal tdsRate,
+                                         LocalDate startDate,
+                                         boolean includeBreakdown) {
+        int tenureInMonths = tenureUnit.toMonths(tenure);
+        boolean breakdownWanted = includeBreakdown && tenureInMonths > 0 && tenureInMonths <= MAX_BREAKDOWN_MONTHS;
+
+        BigDecimal interest;
+        List<MonthlyBreakdown> breakdown = null;
+        CompoundingFrequency appliedFrequency = null;
+
+        if (calculationType == CalculationType.SIMPLE) {
+            interest = simpleInterestCalculator.calculateInterest(principal, rate, tenure, tenureUnit);
+            if (breakdownWanted) {
+                breakdown = simpleInterestCalculator.generateMonthlyBreakdown(principal, rate, tenureInMonths, startDate);
+            }
+        } else {
+            appliedFrequency = frequency != null ? frequency : CompoundingFrequency.QUARTERLY;
+            interest = compoundInterestCalculator.calculateInterest(principal, rate, tenure, tenureUnit, appliedFrequency);
+            if (breakdownWanted) {
+                breakdown = compoundInterestCalculator.generateMonthlyBreakdown(
+                    principal, rate, tenureInMonths, appliedFrequency, startDate);
+            }
+        }
+
+        BigDecimal appliedTdsRate = tdsRate != null ? tdsRate : BigDecimal.ZERO;
+        BigDecimal tdsAmount = interest.multiply(appliedTdsRate).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        BigDecimal netInterest = interest.subtract(tdsAmount);
+
+        return FdCalculationResult.builder()
+            .principalAmount(principal)
+            .interestRate(rate)
+            .tenure(tenure)
+            .tenureUnit(tenureUnit)
+            .tenureInYears(tenureUnit.toYears(tenure))
+            .calculationType(calculationType)
+            .compoundingFrequency(appliedFrequency)
+            .interestEarned(interest)
+            .tdsRate(appliedTdsRate)
+            .tdsAmount(tdsAmount)
+            .netInterest(netInterest)
+            .maturityAmount(principal.add(netInterest))
+            .startDate(startDate)
+            .maturityDate(maturityDate(startDate, tenure, tenureUnit))
+            .monthlyBreakdown(breakdown)
+            .build();
+    }
+
+    /**
+     * Simple interest for a number of days (daily accrual)
+     */
+    public BigDecimal calculateDailyInterest(BigDecimal principal, BigDecimal rate, int days) {
+        return simpleInterestCalculator.calculateDailyInterest(principal, rate, days);
+    }
+
+    /**
+     * Maturity date of a deposit starting on the given date
+     */
+    public static LocalDate maturityDate(LocalDate startDate, int tenure, TenureUnit unit) {
+        return switch (unit) {
+            case DAYS -> startDate.plusDays(tenure);
+            case MONTHS -> startDate.plusMonths(tenure);
+            case YEARS -> startDate.plusYears(tenure);
+        };
+    }
+}
@@ -1,10 +1,7 @@
-package com.app.calculator.service;
+package com.app.calc;
 
-import com.app.calculator.dto.CalculationResponse;
-import com.app.calculator.dto.MonthlyBreakdown;
-import com.app.calculator.enums.TenureUnit;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Service;
+import com.app.calc.model.MonthlyBreakdown;
+import com.app.calc.enums.TenureUnit;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -13,13 +10,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Service for Simple Interest calculations
+ * Simple Interest calculations
  * Formula: M = P + (P × r × t / 100)
  */
-@Service
-@Slf4j
 public class SimpleInterestCalculator {
     
+    /** Days in the year for daily accrual (actual/365) */
+    public static final int DAYS_IN_YEAR = 365;
+    
+    private static final BigDecimal DAILY_DENOMINATOR = BigDecimal.valueOf(100L * DAYS_IN_YEAR);
+    
     /**
      * Calculate simple interest
      * @param principal Principal amount
@@ -30,8 +30,9 @@ public class SimpleInterestCalculator {
      */
     public BigDecimal calculateInterest(BigDecimal principal, BigDecimal rate, 
                                        int tenure, TenureUnit tenureUnit) {
-        log.debug("Calculating simple interest: P={}, R={}, T={} {}", 
-                 principal, rate, tenure, tenureUnit);
+        if (tenureUnit == TenureUnit.DAYS) {
+            return calculateDailyInterest(principal, rate, tenure);
+        }
         
         double tenureInYears = tenureUnit.toYears(tenure);
         
@@ -41,10 +42,21 @@ public class SimpleInterestCalculator {
             .multiply(BigDecimal.valueOf(tenureInYears))
             .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
         
-        log.debug("Calculated simple interest: {}", interest);
         return interest;
     }
     
+    /**
+     * Calculate simple interest for a number of days: P × r × days / 36500
+     * Exact decimal arithmetic rounded HALF_UP to 2 places, so it matches the
+     * fixed-point daily accrual of the account ledger to the paisa
+     */
+    public BigDecimal calculateDailyInterest(BigDecimal principal, BigDecimal rate, int days) {
+        return principal
+            .multiply(rate)
+            .multiply(BigDecimal.valueOf(days))
+            .divide(DAILY_DENOMINATOR, 2, RoundingMode.HALF_UP);
+    }
+    
     /**
      * Calculate maturity amount with simple interest
      * @param principal Principal amount
@@ -0,0 +1,30 @@
+package com.app.calc.enums;
+
+/**
+ * Type of interest calculation
+ */
+public enum CalculationType {
+    SIMPLE("Simple Interest"),
+    COMPOUND("Compound Interest");
+    
+    private final String description;
+    
+    CalculationType(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    /**
+     * Resolve a product or account interest calculation method, defaulting to COMPOUND
+     */
+    public static CalculationType fromMethod(String method) {
+        if (method == null) {
+            return COMPOUND;
+        }
+        
+        return method.toUpperCase().contains("SIMPLE") ? SIMPLE : COMPOUND;
+    }
+}
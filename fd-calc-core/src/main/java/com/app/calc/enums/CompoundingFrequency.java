@@ -1,4 +1,4 @@
-package com.app.calculator.enums;
+package com.app.calc.enums;
 
 /**
  * Compounding frequency for compound interest calculations
@@ -25,4 +25,22 @@ public enum CompoundingFrequency {
     public String getDescription() {
         return description;
     }
+    
+    /**
+     * Resolve a product or account payout/compounding frequency name, defaulting to QUARTERLY
+     */
+    public static CompoundingFrequency fromName(String frequency) {
+        if (frequency == null) {
+            return QUARTERLY;
+        }
+        
+        return switch (frequency.toUpperCase()) {
+            case "DAILY" -> DAILY;
+            case "MONTHLY" -> MONTHLY;
+            case "QUARTERLY" -> QUARTERLY;
+            case "SEMI_ANNUALLY", "HALF_YEARLY" -> SEMI_ANNUALLY;
+            case "ANNUALLY", "YEARLY" -> ANNUALLY;
+            default -> QUARTERLY;
+        };
+    }
 }
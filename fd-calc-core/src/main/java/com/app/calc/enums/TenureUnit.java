@@ -1,4 +1,4 @@
-package com.app.calculator.enums;
+package com.app.calc.enums;
 
 /**
  * Unit of tenure for FD calculations
@@ -0,0 +1,43 @@
+package com.app.calc.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.app.calc.enums.CalculationType;
+import com.app.calc.enums.CompoundingFrequency;
+import com.app.calc.enums.TenureUnit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one FD calculation: interest, TDS and maturity for the given inputs
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FdCalculationResult {
+
+    private BigDecimal principalAmount;
+    private BigDecimal interestRate;
+    private Integer tenure;
+    private TenureUnit tenureUnit;
+    private Double tenureInYears;
+    private CalculationType calculationType;
+    private CompoundingFrequency compoundingFrequency; // null for simple interest
+
+    private BigDecimal interestEarned;
+    private BigDecimal tdsRate;
+    private BigDecimal tdsAmount;
+    private BigDecimal netInterest;
+    private BigDecimal maturityAmount;
+
+    private LocalDate startDate;
+    private LocalDate maturityDate;
+
+    private List<MonthlyBreakdown> monthlyBreakdown; // null unless requested and tenure is 1-120 months
+}
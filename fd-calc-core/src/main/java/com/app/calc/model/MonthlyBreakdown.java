@@ -0,0 +1,31 @@
+package com.app.calc.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Monthly breakdown of FD calculations
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyBreakdown {
+    
+    private Integer month;
+    
+    private LocalDate date;
+    
+    private BigDecimal openingBalance;
+    
+    private BigDecimal interestEarned;
+    
+    private BigDecimal closingBalance;
+    
+    private BigDecimal cumulativeInterest;
+}
@@ -0,0 +1,19 @@
+package com.app.calculator.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.app.calc.FdCalculator;
+
+/**
+ * Exposes the shared fd-calc-core kernel as a bean
+ * The calculator service is a thin HTTP facade over this library
+ */
+@Configuration
+public class CalculatorCoreConfig {
+
+    @Bean
+    public FdCalculator fdCalculator() {
+        return new FdCalculator();
+    }
+}
@@ -4,9 +4,10 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
-import com.app.calculator.enums.CalculationType;
-import com.app.calculator.enums.CompoundingFrequency;
-import com.app.calculator.enums.TenureUnit;
+import com.app.calc.enums.CalculationType;
+import com.app.calc.enums.CompoundingFrequency;
+import com.app.calc.enums.TenureUnit;
+import com.app.calc.model.MonthlyBreakdown;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -3,9 +3,9 @@ package com.app.calculator.dto;
 import java.math.BigDecimal;
 import java.util.List;
 
-import com.app.calculator.enums.CalculationType;
-import com.app.calculator.enums.CompoundingFrequency;
-import com.app.calculator.enums.TenureUnit;
+import com.app.calc.enums.CalculationType;
+import com.app.calc.enums.CompoundingFrequency;
+import com.app.calc.enums.TenureUnit;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMax;
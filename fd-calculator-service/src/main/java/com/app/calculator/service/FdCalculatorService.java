@@ -3,30 +3,30 @@ package com.app.calculator.service;
 import com.app.calculator.dto.*;
 import com.app.calculator.dto.external.InterestRateDto;
 import com.app.calculator.dto.external.ProductDto;
-import com.app.calculator.enums.CalculationType;
-import com.app.calculator.enums.CompoundingFrequency;
-import com.app.calculator.enums.TenureUnit;
+import com.app.calc.FdCalculator;
+import com.app.calc.enums.CalculationType;
+import com.app.calc.enums.CompoundingFrequency;
+import com.app.calc.model.FdCalculationResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Main FD Calculator Service
- * Orchestrates calculation logic for both standalone and product-based calculations
+ * Orchestrates rates, product rules and classifications for standalone and product-based
+ * calculations; the interest math itself comes from the shared fd-calc-core kernel
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FdCalculatorService {
     
-    private final SimpleInterestCalculator simpleInterestCalculator;
-    private final CompoundInterestCalculator compoundInterestCalculator;
+    private final FdCalculator fdCalculator;
     private final ProductIntegrationService productIntegrationService;
     private final CustomerIntegrationService customerIntegrationService;
     
@@ -45,60 +45,17 @@ public class FdCalculatorService {
             finalRate = finalRate.add(additionalRate);
         }
         
-        // Calculate interest based on type
-        BigDecimal interest;
-        BigDecimal maturityBeforeTDS;
-        List<MonthlyBreakdown> breakdown = null;
-        
-        int tenureInMonths = request.getTenureUnit().toMonths(request.getTenure());
-        LocalDate startDate = LocalDate.now();
-        LocalDate maturityDate = calculateMaturityDate(startDate, request.getTenure(), request.getTenureUnit());
-        
-        if (request.getCalculationType() == CalculationType.SIMPLE) {
-            interest = simpleInterestCalculator.calculateInterest(
-                request.getPrincipalAmount(),
-                finalRate,
-                request.getTenure(),
-                request.getTenureUnit()
-            );
-            
-            if (tenureInMonths > 0 && tenureInMonths <= 120) {
-                breakdown = simpleInterestCalculator.generateMonthlyBreakdown(
-                    request.getPrincipalAmount(),
-                    finalRate,
-                    tenureInMonths,
-                    startDate
-                );
-            }
-        } else {
-            CompoundingFrequency frequency = request.getCompoundingFrequency() != null 
-                ? request.getCompoundingFrequency() 
-                : CompoundingFrequency.QUARTERLY;
-            
-            interest = compoundInterestCalculator.calculateInterest(
-                request.getPrincipalAmount(),
-                finalRate,
-                request.getTenure(),
-                request.getTenureUnit(),
-                frequency
-            );
-            
-            if (tenureInMonths > 0 && tenureInMonths <= 120) {
-                breakdown = compoundInterestCalculator.generateMonthlyBreakdown(
-                    request.getPrincipalAmount(),
-                    finalRate,
-                    tenureInMonths,
-                    frequency,
-                    startDate
-                );
-            }
-        }
-        
-        // Calculate TDS
-        BigDecimal tdsRate = request.getTdsRate() != null ? request.getTdsRate() : BigDecimal.ZERO;
-        BigDecimal tdsAmount = interest.multiply(tdsRate).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        BigDecimal netInterest = interest.subtract(tdsAmount);
-        BigDecimal maturityAmount = request.getPrincipalAmount().add(netInterest);
+        FdCalculationResult result = fdCalculator.calculate(
+            request.getPrincipalAmount(),
+            finalRate,
+            request.getTenure(),
+            request.getTenureUnit(),
+            request.getCalculationType(),
+            request.getCompoundingFrequency(),
+            request.getTdsRate(),
+            LocalDate.now(),
+            true
+        );
         
         return CalculationResponse.builder()
             .principalAmount(request.getPrincipalAmount())
@@ -107,18 +64,18 @@ public class FdCalculatorService {
             .additionalInterestRate(additionalRate)
             .tenure(request.getTenure())
             .tenureUnit(request.getTenureUnit())
-            .tenureInYears(request.getTenureUnit().toYears(request.getTenure()))
+            .tenureInYears(result.getTenureInYears())
             .calculationType(request.getCalculationType())
             .compoundingFrequency(request.getCompoundingFrequency())
-            .interestEarned(interest)
-            .tdsAmount(tdsAmount)
-            .tdsRate(tdsRate)
-            .maturityAmount(maturityAmount)
-            .netInterest(netInterest)
-            .startDate(startDate)
-            .maturityDate(maturityDate)
+            .interestEarned(result.getInterestEarned())
+            .tdsAmount(result.getTdsAmount())
+            .tdsRate(result.getTdsRate())
+            .maturityAmount(result.getMaturityAmount())
+            .netInterest(result.getNetInterest())
+            .startDate(result.getStartDate())
+            .maturityDate(result.getMaturityDate())
             .customerClassifications(request.getCustomerClassifications())
-            .monthlyBreakdown(breakdown)
+            .monthlyBreakdown(result.getMonthlyBreakdown())
             .build();
     }
     
@@ -179,63 +136,30 @@ public class FdCalculatorService {
         // Determine calculation type
         CalculationType calcType = request.getCalculationType() != null
             ? request.getCalculationType()
-            : determineCalculationType(product.getInterestCalculationMethod());
+            : CalculationType.fromMethod(product.getInterestCalculationMethod());
         
         // Determine compounding frequency
         CompoundingFrequency frequency = request.getCompoundingFrequency() != null
             ? request.getCompoundingFrequency()
-            : determineCompoundingFrequency(product.getInterestPayoutFrequency());
-        
-        // Calculate interest
-        BigDecimal interest;
-        List<MonthlyBreakdown> breakdown = null;
-        LocalDate startDate = LocalDate.now();
-        LocalDate maturityDate = calculateMaturityDate(startDate, request.getTenure(), request.getTenureUnit());
-        
-        if (calcType == CalculationType.SIMPLE) {
-            interest = simpleInterestCalculator.calculateInterest(
-                request.getPrincipalAmount(),
-                finalRate,
-                request.getTenure(),
-                request.getTenureUnit()
-            );
-            
-            if (tenureInMonths > 0 && tenureInMonths <= 120) {
-                breakdown = simpleInterestCalculator.generateMonthlyBreakdown(
-                    request.getPrincipalAmount(),
-                    finalRate,
-                    tenureInMonths,
-                    startDate
-                );
-            }
-        } else {
-            interest = compoundInterestCalculator.calculateInterest(
-                request.getPrincipalAmount(),
-                finalRate,
-                request.getTenure(),
-                request.getTenureUnit(),
-                frequency
-            );
-            
-            if (tenureInMonths > 0 && tenureInMonths <= 120) {
-                breakdown = compoundInterestCalculator.generateMonthlyBreakdown(
-                    request.getPrincipalAmount(),
-                    finalRate,
-                    tenureInMonths,
-                    frequency,
-                    startDate
-                );
-            }
-        }
+            : CompoundingFrequency.fromName(product.getInterestPayoutFrequency());
         
         // Calculate TDS
         Boolean applyTds = request.getApplyTds() != null ? request.getApplyTds() : product.getTdsApplicable();
         BigDecimal tdsRate = (applyTds != null && applyTds && product.getTdsRate() != null) 
             ? product.getTdsRate() 
             : BigDecimal.ZERO;
-        BigDecimal tdsAmount = interest.multiply(tdsRate).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        BigDecimal netInterest = interest.subtract(tdsAmount);
-        BigDecimal maturityAmount = request.getPrincipalAmount().add(netInterest);
+        
+        FdCalculationResult result = fdCalculator.calculate(
+            request.getPrincipalAmount(),
+            finalRate,
+            request.getTenure(),
+            request.getTenureUnit(),
+            calcType,
+            frequency,
+            tdsRate,
+            LocalDate.now(),
+            true
+        );
         
         return CalculationResponse.builder()
             .principalAmount(request.getPrincipalAmount())
@@ -244,21 +168,21 @@ public class FdCalculatorService {
             .additionalInterestRate(additionalRate)
             .tenure(request.getTenure())
             .tenureUnit(request.getTenureUnit())
-            .tenureInYears(request.getTenureUnit().toYears(request.getTenure()))
+            .tenureInYears(result.getTenureInYears())
             .calculationType(calcType)
             .compoundingFrequency(frequency)
-            .interestEarned(interest)
-            .tdsAmount(tdsAmount)
-            .tdsRate(tdsRate)
-            .maturityAmount(maturityAmount)
-            .netInterest(netInterest)
-            .startDate(startDate)
-            .maturityDate(maturityDate)
+            .interestEarned(result.getInterestEarned())
+            .tdsAmount(result.getTdsAmount())
+            .tdsRate(result.getTdsRate())
+            .maturityAmount(result.getMaturityAmount())
+            .netInterest(result.getNetInterest())
+            .startDate(result.getStartDate())
+            .maturityDate(result.getMaturityDate())
             .productId(product.getId())
             .productName(product.getProductName())
             .productCode(product.getProductCode())
             .customerClassifications(classifications)
-            .monthlyBreakdown(breakdown)
+            .monthlyBreakdown(result.getMonthlyBreakdown())
             .build();
     }
     
@@ -357,37 +281,4 @@ public class FdCalculatorService {
                     tenureMonths, product.getMaxTermMonths(), product.getProductCode()));
         }
     }
-    
-    private CalculationType determineCalculationType(String method) {
-        if (method == null) {
-            return CalculationType.COMPOUND;
-        }
-        
-        return method.toUpperCase().contains("SIMPLE") 
-            ? CalculationType.SIMPLE 
-            : CalculationType.COMPOUND;
-    }
-    
-    private CompoundingFrequency determineCompoundingFrequency(String frequency) {
-        if (frequency == null) {
-            return CompoundingFrequency.QUARTERLY;
-        }
-        
-        return switch (frequency.toUpperCase()) {
-            case "DAILY" -> CompoundingFrequency.DAILY;
-            case "MONTHLY" -> CompoundingFrequency.MONTHLY;
-            case "QUARTERLY" -> CompoundingFrequency.QUARTERLY;
-            case "SEMI_ANNUALLY", "HALF_YEARLY" -> CompoundingFrequency.SEMI_ANNUALLY;
-            case "ANNUALLY", "YEARLY" -> CompoundingFrequency.ANNUALLY;
-            default -> CompoundingFrequency.QUARTERLY;
-        };
-    }
-    
-    private LocalDate calculateMaturityDate(LocalDate startDate, int tenure, TenureUnit unit) {
-        return switch (unit) {
-            case DAYS -> startDate.plusDays(tenure);
-            case MONTHS -> startDate.plusMonths(tenure);
-            case YEARS -> startDate.plusYears(tenure);
-        };
-    }
 }
@@ -1,10 +1,13 @@
 package com.app.login.entity;
 
+import com.app.login.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Bank configuration for multi-tenancy support
@@ -12,6 +15,8 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "bank_configuration")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.BANK_CONFIGURATION_REGION)
 @Data
 @Builder
 @NoArgsConstructor
@@ -1,13 +1,19 @@
 package com.app.login.repository;
 
 import com.app.login.entity.BankConfiguration;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface BankConfigurationRepository extends JpaRepository<BankConfiguration, Long> {
     
+    // Read on every login page load; cached when l2-cache.enabled is true
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<BankConfiguration> findByActiveTrue();
 }
@@ -0,0 +1,44 @@
+package com.app.product.config;
+
+import java.util.List;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+/**
+ * Hibernate second-level cache region names
+ *
+ * Every region used by an entity, collection or query must be listed in ALL; regions are
+ * created up front with their configured size and TTL, and an unknown region fails startup.
+ */
+public final class CacheRegions {
+
+    // Entities
+    public static final String PRODUCT = "product";
+    public static final String PRODUCT_ROLE = "product-role";
+    public static final String PRODUCT_CHARGE = "product-charge";
+    public static final String INTEREST_RATE_MATRIX = "interest-rate-matrix";
+    public static final String PRODUCT_TRANSACTION_TYPE = "product-transaction-type";
+    public static final String PRODUCT_BALANCE_TYPE = "product-balance-type";
+    public static final String TRANSACTION_BALANCE_RELATIONSHIP = "transaction-balance-relationship";
+    public static final String CUSTOMER_COMMUNICATION = "customer-communication";
+
+    // Product collections (element IDs only; elements come from their entity regions)
+    public static final String PRODUCT_ALLOWED_ROLES = "product.allowed-roles";
+    public static final String PRODUCT_CHARGES = "product.charges";
+    public static final String PRODUCT_INTEREST_RATE_MATRIX = "product.interest-rate-matrix";
+    public static final String PRODUCT_TRANSACTION_TYPES = "product.transaction-types";
+    public static final String PRODUCT_BALANCE_TYPES = "product.balance-types";
+
+    // Query cache
+    public static final String QUERY_RESULTS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    public static final List<String> ALL = List.of(
+            PRODUCT, PRODUCT_ROLE, PRODUCT_CHARGE, INTEREST_RATE_MATRIX, PRODUCT_TRANSACTION_TYPE,
+            PRODUCT_BALANCE_TYPE, TRANSACTION_BALANCE_RELATIONSHIP, CUSTOMER_COMMUNICATION,
+            PRODUCT_ALLOWED_ROLES, PRODUCT_CHARGES, PRODUCT_INTEREST_RATE_MATRIX, PRODUCT_TRANSACTION_TYPES,
+            PRODUCT_BALANCE_TYPES, QUERY_RESULTS, UPDATE_TIMESTAMPS);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,52 @@
+package com.app.product.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings of the Hibernate second-level cache (l2-cache.*)
+ */
+@Data
+@ConfigurationProperties("l2-cache")
+public class HibernateCacheProperties {
+
+    private boolean enabled;
+
+    /**
+     * Size and TTL of every region without its own entry in regions
+     */
+    private Region defaultRegion = new Region(1000L, Duration.ofHours(1));
+
+    /**
+     * Per-region overrides keyed by region name (see CacheRegions)
+     */
+    private Map<String, Region> regions = new HashMap<>();
+
+    /**
+     * Resolve a region's settings, falling back to the default for unset values
+     */
+    public Region regionFor(String name) {
+        Region override = regions.get(name);
+        Region resolved = new Region();
+        resolved.setMaximumSize(override != null && override.getMaximumSize() != null ?
+                override.getMaximumSize() : defaultRegion.getMaximumSize());
+        resolved.setExpireAfterWrite(override != null && override.getExpireAfterWrite() != null ?
+                override.getExpireAfterWrite() : defaultRegion.getExpireAfterWrite());
+        return resolved;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private Long maximumSize;
+        private Duration expireAfterWrite;
+    }
+}
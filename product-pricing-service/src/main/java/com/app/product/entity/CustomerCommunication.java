@@ -1,5 +1,11 @@
 package com.app.product.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.app.product.config.CacheRegions;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -20,6 +26,8 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "customer_communications")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CUSTOMER_COMMUNICATION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
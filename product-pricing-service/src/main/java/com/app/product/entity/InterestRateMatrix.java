@@ -3,6 +3,12 @@ package com.app.product.entity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.app.product.config.CacheRegions;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -24,6 +30,8 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "interest_rate_matrix")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.INTEREST_RATE_MATRIX)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
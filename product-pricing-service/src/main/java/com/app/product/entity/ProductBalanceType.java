@@ -1,7 +1,12 @@
 package com.app.product.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.app.product.config.CacheRegions;
 import com.app.product.enums.BalanceType;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -23,6 +28,8 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "product_balance_types")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT_BALANCE_TYPE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
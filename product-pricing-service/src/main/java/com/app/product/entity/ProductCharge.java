@@ -2,8 +2,13 @@ package com.app.product.entity;
 
 import java.math.BigDecimal;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.app.product.config.CacheRegions;
 import com.app.product.enums.ChargeFrequency;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -28,6 +33,8 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "product_charges")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT_CHARGE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
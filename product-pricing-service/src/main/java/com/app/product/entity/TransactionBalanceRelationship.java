@@ -1,8 +1,13 @@
 package com.app.product.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.app.product.config.CacheRegions;
 import com.app.product.enums.BalanceType;
 import com.app.product.enums.TransactionType;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -22,6 +27,8 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "transaction_balance_relationships")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TRANSACTION_BALANCE_RELATIONSHIP)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -4,20 +4,28 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.app.product.entity.CustomerCommunication;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface CustomerCommunicationRepository extends JpaRepository<CustomerCommunication, Long> {
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM CustomerCommunication c WHERE c.product.id = :productId")
     List<CustomerCommunication> findByProductId(@Param("productId") Long productId);
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM CustomerCommunication c WHERE c.product.id = :productId AND c.communicationType = :type")
     List<CustomerCommunication> findByProductIdAndType(@Param("productId") Long productId, @Param("type") String type);
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM CustomerCommunication c WHERE c.product.id = :productId AND c.event = :event")
     List<CustomerCommunication> findByProductIdAndEvent(@Param("productId") Long productId, @Param("event") String event);
 }
@@ -7,17 +7,23 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.app.product.entity.InterestRateMatrix;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface InterestRateMatrixRepository extends JpaRepository<InterestRateMatrix, Long> {
 
     /**
      * Find all rate slabs for a product
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<InterestRateMatrix> findByProductId(Long productId);
 
     /**
@@ -60,6 +66,7 @@ public interface InterestRateMatrixRepository extends JpaRepository<InterestRate
     /**
      * Find active rate slabs for a product on a specific date
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT i FROM InterestRateMatrix i WHERE i.product.id = :productId " +
            "AND i.effectiveDate <= :date " +
            "AND (i.endDate IS NULL OR i.endDate >= :date)")
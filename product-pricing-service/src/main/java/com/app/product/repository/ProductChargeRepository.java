@@ -4,22 +4,29 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.app.product.entity.ProductCharge;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface ProductChargeRepository extends JpaRepository<ProductCharge, Long> {
 
     /**
      * Find all charges for a product
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<ProductCharge> findByProductId(Long productId);
 
     /**
      * Find active charges for a product
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM ProductCharge c WHERE c.product.id = :productId AND c.active = true")
     List<ProductCharge> findActiveChargesByProductId(@Param("productId") Long productId);
 
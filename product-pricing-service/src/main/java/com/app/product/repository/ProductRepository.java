@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,12 +16,17 @@ import com.app.product.entity.Product;
 import com.app.product.enums.ProductStatus;
 import com.app.product.enums.ProductType;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     /**
      * Find product by unique product code
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Product> findByProductCode(String productCode);
 
     /**
@@ -31,16 +37,19 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     /**
      * Find all products by type
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Product> findByProductType(ProductType productType);
 
     /**
      * Find all products by status
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Product> findByStatus(ProductStatus status);
 
     /**
      * Find all active products (status = ACTIVE)
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT p FROM Product p WHERE p.status = 'ACTIVE'")
     List<Product> findActiveProducts();
 
@@ -62,6 +71,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     /**
      * Find currently active products (status=ACTIVE and date is within effective range)
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT p FROM Product p WHERE p.status = 'ACTIVE' " +
            "AND p.effectiveDate <= :currentDate " +
            "AND (p.endDate IS NULL OR p.endDate >= :currentDate)")
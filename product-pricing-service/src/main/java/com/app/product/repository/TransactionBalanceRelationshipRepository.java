@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,18 +13,26 @@ import com.app.product.entity.TransactionBalanceRelationship;
 import com.app.product.enums.BalanceType;
 import com.app.product.enums.TransactionType;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface TransactionBalanceRelationshipRepository extends JpaRepository<TransactionBalanceRelationship, Long> {
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<TransactionBalanceRelationship> findByTransactionType(TransactionType transactionType);
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<TransactionBalanceRelationship> findByBalanceType(BalanceType balanceType);
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT r FROM TransactionBalanceRelationship r WHERE r.transactionType = :txnType AND r.balanceType = :balType")
     Optional<TransactionBalanceRelationship> findByTransactionTypeAndBalanceType(
             @Param("txnType") TransactionType transactionType, 
             @Param("balType") BalanceType balanceType);
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT r FROM TransactionBalanceRelationship r WHERE r.active = true")
     List<TransactionBalanceRelationship> findAllActive();
 }